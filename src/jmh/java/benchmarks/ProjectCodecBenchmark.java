@@ -0,0 +1,90 @@
+package benchmarks;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import storage.BinaryProjectCodec;
+import storage.JsonProjectCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares saving and loading a Project as an indented JSON snapshot against the binary snapshot format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectCodecBenchmark {
+    @Param({"100", "2000"})
+    private int numOfTasks;
+
+    private Project project;
+    private JsonProjectCodec jsonProjectCodec = new JsonProjectCodec();
+    private BinaryProjectCodec binaryProjectCodec = new BinaryProjectCodec();
+    private byte[] jsonSnapshot;
+    private byte[] binarySnapshot;
+
+    /**
+     * Builds a Project with the given number of tasks, a team of members and assignments between them.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        project = new Project("Benchmark Project");
+        for (int i = 1; i <= 20; i++) {
+            project.addMember(new Member("Member " + i, "9123456" + i, "member" + i + "@gmail.com", i, "member"));
+        }
+        for (int i = 1; i <= numOfTasks; i++) {
+            ArrayList<String> taskRequirements = new ArrayList<>();
+            taskRequirements.add("Requirement of task " + i);
+            Task task = new Task("Task " + i, i % 10, new Date(1570000000000L + i * 86400000L), i % 50,
+                TaskState.values()[i % TaskState.values().length], taskRequirements);
+            project.addTask(task);
+            project.createAssignment(task, project.getMember(i % 20 + 1));
+        }
+        for (int i = 1; i <= 20; i++) {
+            project.addReminderToList(new Reminder("Reminder " + i, "Remarks " + i, new Date(), "default"));
+        }
+        jsonSnapshot = jsonProjectCodec.encode(project);
+        binarySnapshot = binaryProjectCodec.encode(project);
+    }
+
+    @Benchmark
+    public byte[] writeJson() {
+        return jsonProjectCodec.encode(project);
+    }
+
+    @Benchmark
+    public byte[] writeBinary() throws IOException {
+        return binaryProjectCodec.encode(project);
+    }
+
+    @Benchmark
+    public Project readJson() throws IOException {
+        return jsonProjectCodec.decode(new ByteArrayInputStream(jsonSnapshot)).getProject();
+    }
+
+    @Benchmark
+    public Project readBinary() throws IOException {
+        return binaryProjectCodec.decode(new ByteArrayInputStream(binarySnapshot)).getProject();
+    }
+}
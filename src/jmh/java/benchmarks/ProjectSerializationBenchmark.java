@@ -0,0 +1,93 @@
+package benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import storage.StorageGson;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares saving and loading a Project by reflection, as JsonConverter used to, against the streaming
+ * TypeAdapters registered on the shared Gson of the Storage layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectSerializationBenchmark {
+    @Param({"100", "2000"})
+    private int numOfTasks;
+
+    private Project project;
+    private String reflectiveJson;
+    private String streamingJson;
+
+    /**
+     * Builds a Project with the given number of tasks, a team of members and assignments between them.
+     */
+    @Setup
+    public void setUp() {
+        project = new Project("Benchmark Project");
+        for (int i = 1; i <= 20; i++) {
+            project.addMember(new Member("Member " + i, "9123456" + i, "member" + i + "@gmail.com", i, "member"));
+        }
+        for (int i = 1; i <= numOfTasks; i++) {
+            ArrayList<String> taskRequirements = new ArrayList<>();
+            taskRequirements.add("Requirement of task " + i);
+            Task task = new Task("Task " + i, i % 10, new Date(1570000000000L + i * 86400000L), i % 50,
+                TaskState.values()[i % TaskState.values().length], taskRequirements);
+            project.addTask(task);
+            project.createAssignment(task, project.getMember(i % 20 + 1));
+        }
+        for (int i = 1; i <= 20; i++) {
+            project.addReminderToList(new Reminder("Reminder " + i, "Remarks " + i, new Date(), "default"));
+        }
+        reflectiveJson = createReflectiveGson().toJson(project);
+        streamingJson = StorageGson.getGson().toJson(project);
+    }
+
+    private Gson createReflectiveGson() {
+        return new GsonBuilder().enableComplexMapKeySerialization().create();
+    }
+
+    @Benchmark
+    public String writeReflective() {
+        return createReflectiveGson().toJson(project);
+    }
+
+    @Benchmark
+    public String writeStreaming() {
+        return StorageGson.getGson().toJson(project);
+    }
+
+    @Benchmark
+    public Project readReflective() {
+        return new Gson().fromJson(reflectiveJson, new TypeToken<Project>(){}.getType());
+    }
+
+    @Benchmark
+    public Project readStreaming() {
+        return StorageGson.getGson().fromJson(streamingJson, Project.class);
+    }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import models.member.Member;
+import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import storage.JsonConverter;
+import storage.ProjectRowStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of saving an edit to a single task, as the number of tasks in the Project grows. The row store
+ * writes one row per edit, while a snapshot has to serialize the whole Project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowStoreWriteBenchmark {
+    @Param({"100", "2000", "20000"})
+    private int numOfTasks;
+
+    private Path directory;
+    private Project rowProject;
+    private Project snapshotProject;
+    private ProjectRowStore projectRowStore;
+    private JsonConverter jsonConverter;
+    private int numOfEdits;
+
+    /**
+     * Saves two copies of a Project with the given number of tasks, one as rows and one as a snapshot.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("archduke-rows");
+        rowProject = createProject();
+        snapshotProject = createProject();
+        projectRowStore = new ProjectRowStore(directory.resolve("Benchmark Project.rows").toFile());
+        projectRowStore.saveProject(rowProject);
+        jsonConverter = new JsonConverter(directory.toString(), Long.MAX_VALUE);
+        jsonConverter.saveProject(snapshotProject);
+    }
+
+    /**
+     * Deletes the saved copies of the Project.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        jsonConverter.waitForPendingWrites();
+        try (Stream<Path> savedFiles = Files.walk(directory)) {
+            savedFiles.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Renames the first task and saves the change as a row.
+     */
+    @Benchmark
+    public long editOneTaskRows() throws IOException {
+        rowProject.getTask(1).setTaskName("Edit " + numOfEdits++);
+        projectRowStore.saveChanges(rowProject);
+        return projectRowStore.getFileSize();
+    }
+
+    /**
+     * Renames the first task and saves the whole Project as a snapshot.
+     */
+    @Benchmark
+    public void editOneTaskSnapshot() {
+        snapshotProject.getTask(1).setTaskName("Edit " + numOfEdits++);
+        jsonConverter.saveProject(snapshotProject);
+    }
+
+    private Project createProject() {
+        Project project = new Project("Benchmark Project");
+        for (int i = 1; i <= 20; i++) {
+            project.addMember(new Member("Member " + i, "9123456" + i, "member" + i + "@gmail.com", i, "member"));
+        }
+        for (int i = 1; i <= numOfTasks; i++) {
+            ArrayList<String> taskRequirements = new ArrayList<>();
+            taskRequirements.add("Requirement of task " + i);
+            Task task = new Task("Task " + i, i % 10, new Date(1570000000000L + i * 86400000L), i % 50,
+                TaskState.values()[i % TaskState.values().length], taskRequirements);
+            project.addTask(task);
+            project.createAssignment(task, project.getMember(i % 20 + 1));
+        }
+        return project;
+    }
+}
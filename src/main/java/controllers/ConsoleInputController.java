@@ -1,6 +1,8 @@
 package controllers;
 
-import repositories.ProjectRepository;
+import models.project.Project;
+import repositories.IProjectRepository;
+import repositories.ProjectRepositoryFactory;
 import util.log.ArchDukeLogger;
 import util.uiformatter.CommandHelper;
 import util.uiformatter.ViewHelper;
@@ -10,16 +12,19 @@ import java.util.Scanner;
 
 import static util.constant.ConstantHelper.DEFAULT_HORI_BORDER_LENGTH;
 import static util.constant.ConstantHelper.NUM_OF_TABLE_COLUMNS_FOR_COMMAND_LIST;
+import static util.constant.ConstantHelper.PROJECT_COMMAND_ARCHIVE;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_BYE;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_CREATE;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_DELETE;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_HELP;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_LIST;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_MANAGE;
+import static util.constant.ConstantHelper.PROJECT_COMMAND_UNARCHIVE;
+import static util.constant.ConstantHelper.PROJECT_COMMAND_VERIFY_REPLICA;
 
 public class ConsoleInputController implements IController {
 
-    private ProjectRepository projectRepository;
+    private IProjectRepository projectRepository;
     private String managingProjectIndex;
     private ViewHelper viewHelper;
     private CommandHelper commandHelper;
@@ -32,7 +37,7 @@ public class ConsoleInputController implements IController {
      * based on the inputs.
      * @param projectRepository : takes in a projectRepository.
      */
-    public ConsoleInputController(ProjectRepository projectRepository) {
+    public ConsoleInputController(IProjectRepository projectRepository) {
         this.projectRepository = projectRepository;
         this.managingProjectIndex = "";
         this.viewHelper = new ViewHelper();
@@ -42,9 +47,10 @@ public class ConsoleInputController implements IController {
 
     /**
      * Constructor called by View layer due to no knowledge of ProjectRepository.
+     * The storage backend of the repository is chosen through the archduke.storage.backend system property.
      */
     public ConsoleInputController() {
-        this.projectRepository = new ProjectRepository();
+        this.projectRepository = new ProjectRepositoryFactory().createConfiguredRepository();
         this.managingProjectIndex = "";
         this.viewHelper = new ViewHelper();
         this.commandHelper = new CommandHelper();
@@ -78,6 +84,12 @@ public class ConsoleInputController implements IController {
                 return commandManage(inputReader);
             case PROJECT_COMMAND_DELETE:
                 return commandDelete(inputReader);
+            case PROJECT_COMMAND_ARCHIVE:
+                return commandArchive(inputReader, true);
+            case PROJECT_COMMAND_UNARCHIVE:
+                return commandArchive(inputReader, false);
+            case PROJECT_COMMAND_VERIFY_REPLICA:
+                return projectRepository.verifyReplica();
             case PROJECT_COMMAND_HELP:
                 return commandHelp();
             default:
@@ -95,13 +107,13 @@ public class ConsoleInputController implements IController {
      */
     private String[] commandCreate(String input) {
         ArchDukeLogger.logDebug(ConsoleInputController.class.getName(), "[commandCreate] User input: '" + input + "'");
-        int initialSize = projectRepository.getAll().size();
+        int initialSize = projectRepository.getNumOfProjects();
         boolean isProjectCreated = projectRepository.addToRepo(input);
         if (!isProjectCreated) {
             return new String[] {"Creation of Project failed. Please ensure that Project name doesn't have any "
                     + "special character or isn't empty."};
         } else {
-            assert (projectRepository.getAll().size() - initialSize == 1);
+            assert (projectRepository.getNumOfProjects() - initialSize == 1);
             return new String[] {"Project created!"};
         }
     }
@@ -131,11 +143,28 @@ public class ConsoleInputController implements IController {
         if (inputReader.hasNext()) {
             this.managingProjectIndex = inputReader.next();
             try {
+                int projectIndex = Integer.parseInt(managingProjectIndex);
+                if (projectIndex >= 1 && projectIndex <= projectRepository.getNumOfProjects()
+                        && projectRepository.isArchived(projectIndex)) {
+                    return new String[] {"Project " + projectIndex + " is archived. Type \"unarchive project "
+                            + projectIndex + "\" to manage it again."};
+                }
+                Project managedProject = projectRepository.getItem(projectIndex);
+                if (managedProject == null) {
+                    ArrayList<String> output = new ArrayList<>(projectRepository.takeLoadErrors());
+                    output.add("The saved data of this project is damaged and has been moved to the quarantine "
+                            + "folder.");
+                    return output.toArray(new String[0]);
+                }
                 ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), "Managing project: "
-                        + projectRepository.getItem(Integer.parseInt(managingProjectIndex)).getName());
+                        + managedProject.getName());
                 this.projectInputController.onCommandReceived(this.managingProjectIndex);
-                return new String[] {"Now managing "
-                        + projectRepository.getItem(Integer.parseInt(managingProjectIndex)).getName()};
+                ArrayList<String> output = new ArrayList<>();
+                output.add("Now managing " + managedProject.getName());
+                for (String loadError : projectRepository.takeLoadErrors()) {
+                    output.add("Damaged saved data was left out, " + loadError);
+                }
+                return output.toArray(new String[0]);
             } catch (IndexOutOfBoundsException err) {
                 return new String[] {"Please enter the correct index of an existing Project!"};
             } catch (NumberFormatException err) {
@@ -170,6 +199,29 @@ public class ConsoleInputController implements IController {
         }
     }
 
+    /**
+     * Archives or unarchives a project, given as "project N".
+     * @param inputReader To read the input from the user.
+     * @param isArchiving Whether the project is being archived rather than unarchived.
+     */
+    private String[] commandArchive(Scanner inputReader, boolean isArchiving) {
+        ArchDukeLogger.logDebug(ConsoleInputController.class.getName(), "[commandArchive] User input: " + inputReader);
+        String command = isArchiving ? PROJECT_COMMAND_ARCHIVE : PROJECT_COMMAND_UNARCHIVE;
+        if (!inputReader.hasNext() || !"project".equals(inputReader.next()) || !inputReader.hasNext()) {
+            return new String[] {"Please enter a project number, such as \"" + command + " project 1\""};
+        }
+        String projectInput = inputReader.next();
+        try {
+            int projectIndex = Integer.parseInt(projectInput);
+            return isArchiving ? projectRepository.archiveItem(projectIndex)
+                    : projectRepository.unarchiveItem(projectIndex);
+        } catch (NumberFormatException err) {
+            return new String[]
+            {"Invalid project index: " + projectInput,
+             "Please ensure that the project number is an integer, and that it exists in the repo!"};
+        }
+    }
+
     //@@author seanlimhx
     /**
      * Displays the set of the commands which can be used.
@@ -183,8 +235,10 @@ public class ConsoleInputController implements IController {
      * Method to be called when user says bye to exit the program.
      */
     private String[] end() {
+        ArrayList<String> output = projectRepository.flushDirtyProjects();
         ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), "ArchDuke have stopped.");
-        return new String[] { "Bye. Hope to see you again soon!" };
+        output.add("Bye. Hope to see you again soon!");
+        return output.toArray(new String[0]);
     }
 
     /**
@@ -8,7 +8,10 @@ import models.reminder.IReminder;
 import models.reminder.Reminder;
 import models.task.ITask;
 import models.task.Task;
-import repositories.ProjectRepository;
+import repositories.IProjectRepository;
+import storage.ImportSummary;
+import storage.ProjectExporter;
+import storage.ProjectImporter;
 import util.ParserHelper;
 import util.date.DateTimeHelper;
 import util.factories.MemberFactory;
@@ -19,6 +22,7 @@ import util.uiformatter.AssignmentViewHelper;
 import util.uiformatter.CommandHelper;
 import util.uiformatter.ViewHelper;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +35,8 @@ import static util.constant.ConstantHelper.COMMAND_DELETE_TASK;
 import static util.constant.ConstantHelper.COMMAND_EDIT_MEMBER;
 import static util.constant.ConstantHelper.COMMAND_EDIT_TASK;
 import static util.constant.ConstantHelper.COMMAND_EDIT_TASK_REQ;
+import static util.constant.ConstantHelper.COMMAND_EXPORT;
+import static util.constant.ConstantHelper.COMMAND_IMPORT;
 import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_INVALID_COMMAND;
 import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_INVALID_NUMBER;
 import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_REQUEST_INPUT;
@@ -47,11 +53,12 @@ import static util.constant.ConstantHelper.DEFAULT_HORI_BORDER_LENGTH;
 import static util.constant.ConstantHelper.NUM_OF_TABLE_COLUMNS_FOR_ASSIGNMENT_RESULTS;
 import static util.constant.ConstantHelper.NUM_OF_TABLE_COLUMNS_FOR_COMMAND_VIEW_REMINDER_CATEGORY;
 import static util.constant.ConstantHelper.NUM_OF_TABLE_COLUMNS_FOR_COMMAND_VIEW_TASKS;
+import static util.constant.ConstantHelper.READ_ONLY_PROJECT_COMMANDS;
 import static util.constant.ConstantHelper.ROLE_MEMBER_INCOMPLETE_COMMAND;
 
 
 public class ProjectInputController implements IController {
-    private ProjectRepository projectRepository;
+    private IProjectRepository projectRepository;
     private MemberFactory memberFactory;
     private TaskFactory taskFactory;
     private boolean isManagingAProject;
@@ -64,7 +71,7 @@ public class ProjectInputController implements IController {
      * ProjectInputController is responsible for handling user input when user chooses to manage a project.
      * @param projectRepository The object holding all projects.
      */
-    public ProjectInputController(ProjectRepository projectRepository) {
+    public ProjectInputController(IProjectRepository projectRepository) {
         this.projectRepository = projectRepository;
         this.memberFactory = new MemberFactory();
         this.taskFactory = new TaskFactory();
@@ -95,6 +102,8 @@ public class ProjectInputController implements IController {
 
     /**
      * Manages the project.
+     * Commands are run while holding the lock of the project, so that the project is not saved by the background
+     * writer halfway through a command. Renaming and exiting wait for pending saves, so they are run without it.
      * @return Boolean variable giving status of whether the exit command is entered.
      */
     public String[] manageProject(String projectFullCommand) {
@@ -103,10 +112,31 @@ public class ProjectInputController implements IController {
         ArchDukeLogger.logInfo(ProjectInputController.class.getName(), "Managing:"
             + this.projectToManage.getName() + ",input:'"
             + projectFullCommand + "'");
-        if (projectFullCommand.matches("exit")) {
-            isManagingAProject = false;
-            responseToView = projectExit(this.projectToManage);
-        } else if (projectFullCommand.matches("add member.*")) {
+        if (projectFullCommand.matches("bye")) {
+            return end();
+        } else if (projectFullCommand.matches("exit")) {
+            return projectExit(this.projectToManage);
+        } else if (projectFullCommand.matches("rename.*")) {
+            responseToView = projectRename(this.projectToManage, projectFullCommand);
+        } else {
+            synchronized (this.projectToManage) {
+                responseToView = executeProjectCommand(projectFullCommand);
+            }
+        }
+        if (!isReadOnlyCommand(projectFullCommand)) {
+            projectRepository.saveToRepo(this.projectToManage);
+        }
+        return responseToView;
+    }
+
+    /**
+     * Runs a command that changes or displays the project being managed.
+     * @param projectFullCommand Full project command.
+     * @return The response to be shown to the user.
+     */
+    private String[] executeProjectCommand(String projectFullCommand) {
+        String[] responseToView;
+        if (projectFullCommand.matches("add member.*")) {
             responseToView = projectAddMember(this.projectToManage, projectFullCommand);
         } else if (projectFullCommand.matches("edit member.*")) {
             responseToView = projectEditMember(this.projectToManage, projectFullCommand);
@@ -134,6 +164,10 @@ public class ProjectInputController implements IController {
             responseToView = projectDeleteTask(this.projectToManage, projectFullCommand);
         } else if (projectFullCommand.matches("assign task.*")) {
             responseToView = projectAssignTask(this.projectToManage, projectFullCommand);
+        } else if (projectFullCommand.matches("import .*")) {
+            responseToView = projectImport(this.projectToManage, projectFullCommand);
+        } else if (projectFullCommand.matches("export .*")) {
+            responseToView = projectExport(this.projectToManage, projectFullCommand);
         } else if (projectFullCommand.matches("add reminder.*")) {
             responseToView = projectAddReminder(this.projectToManage,projectFullCommand);
         } else if (projectFullCommand.matches("view reminders"))  {
@@ -148,21 +182,30 @@ public class ProjectInputController implements IController {
             responseToView = projectSetReminderStatus(this.projectToManage,projectFullCommand);
         } else if (projectFullCommand.matches("view")) {
             responseToView = projectViewSelf(this.projectToManage);
-        } else if (projectFullCommand.matches("rename.*")) {
-            responseToView = projectRename(this.projectToManage, projectFullCommand);
         } else if (projectFullCommand.matches("agenda")) {
             responseToView = projectViewCalender(this.projectToManage);
         } else if (projectFullCommand.matches("help")) {
             responseToView = projectHelp();
-        } else if (projectFullCommand.matches("bye")) {
-            return end();
         } else {
-            return COMMAND_MANAGE_PROJECT_INVALID_COMMAND;
+            responseToView = COMMAND_MANAGE_PROJECT_INVALID_COMMAND;
         }
-        projectRepository.saveToRepo(this.projectToManage);
         return responseToView;
     }
 
+    /**
+     * Checks if a command only displays the project, in which case there is nothing to be saved after it.
+     * @param projectFullCommand Full project command.
+     * @return true if the command never changes the project, false otherwise.
+     */
+    private boolean isReadOnlyCommand(String projectFullCommand) {
+        for (String readOnlyCommand : READ_ONLY_PROJECT_COMMANDS) {
+            if (projectFullCommand.matches(readOnlyCommand)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Method responsible for renaming a Project. Will only be called by manageProject.
      * @param projectToManage : Project that is currently being managed by projectInputController.
@@ -187,6 +230,61 @@ public class ProjectInputController implements IController {
         }
     }
 
+    /**
+     * Method responsible for importing tasks, members, assignments and reminders from a file into a Project.
+     * The project is saved once by manageProject after the whole file has been imported.
+     * @param projectToManage : Project that is currently being managed by projectInputController.
+     * @param projectCommand : Full project command, holding the path of the file after "import ".
+     * @return : Returns an array of Strings for View layer to print
+     */
+    private String[] projectImport(Project projectToManage, String projectCommand) {
+        String filePath = projectCommand.substring(COMMAND_IMPORT.length()).trim();
+        if (!ProjectImporter.isSupportedFile(filePath)) {
+            return new String[] {"Only .csv, .ndjson and .jsonl files can be imported."};
+        }
+        ImportSummary importSummary;
+        try {
+            importSummary = new ProjectImporter(projectToManage).importFile(filePath);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectInputController.class.getName(), "[projectImport] Unable to read "
+                + filePath + ": " + err.getMessage());
+            return new String[] {"Unable to read " + filePath + "."};
+        }
+        ArrayList<String> importResult = new ArrayList<>();
+        importResult.add("Imported " + importSummary.getNumOfTasksImported() + " tasks, "
+            + importSummary.getNumOfMembersImported() + " members, "
+            + importSummary.getNumOfAssignmentsImported() + " assignments and "
+            + importSummary.getNumOfRemindersImported() + " reminders into " + projectToManage.getName() + ".");
+        if (importSummary.getNumOfRowErrors() > 0) {
+            importResult.add(importSummary.getNumOfRowErrors() + " rows could not be imported:");
+            importResult.addAll(importSummary.getRowErrors());
+        }
+        return importResult.toArray(new String[0]);
+    }
+
+    /**
+     * Method responsible for exporting the tasks, members, assignments and reminders of a Project to a file. Records
+     * are written one at a time, without building the tables shown by the view commands.
+     * @param projectToManage : Project that is currently being managed by projectInputController.
+     * @param projectCommand : Full project command, holding the path of the file after "export ".
+     * @return : Returns an array of Strings for View layer to print
+     */
+    private String[] projectExport(Project projectToManage, String projectCommand) {
+        String filePath = projectCommand.substring(COMMAND_EXPORT.length()).trim();
+        if (!ProjectImporter.isSupportedFile(filePath)) {
+            return new String[] {"Projects can only be exported to .csv, .ndjson and .jsonl files."};
+        }
+        try {
+            int numOfRecords = new ProjectExporter(projectToManage).exportFile(filePath);
+            return new String[] {"Exported " + numOfRecords + " records of " + projectToManage.getName() + " to "
+                + filePath + "."};
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectInputController.class.getName(), "[projectExport] Unable to write "
+                + filePath + ": " + err.getMessage());
+            return new String[] {"Unable to write " + filePath + "."};
+        }
+    }
+
     private String[] projectViewCalender(Project projectToManage) {
         HashMap<Integer, Integer> currentMonthTasks = projectRepository.getAllTasksInCurrentMonth(projectToManage);
         return viewHelper.consolePrintCalender(currentMonthTasks);
@@ -532,17 +630,15 @@ public class ProjectInputController implements IController {
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[projectViewTasks] User input: '"
             + projectCommand + "'");
         try {
-            HashMap<String, ArrayList<String>> tasksAndAssignedMembers
-                = projectToManage.getTasksAndAssignedMembers();
             ArrayList<ArrayList<String>> allTaskDetailsForTable = new ArrayList<>();
             if (("view tasks").equals(projectCommand.trim())) {
                 allTaskDetailsForTable = projectToManage.getTaskList().getAllTaskDetailsForTable(
-                    tasksAndAssignedMembers,"-priority", projectToManage);
+                    "-priority", projectToManage);
                 ArchDukeLogger.logDebug(ProjectInputController.class.getName(), allTaskDetailsForTable.toString());
             } else if (projectCommand.length() >= COMMAND_VIEW_TASKS.length()) {
                 String sortCriteria = projectCommand.substring(COMMAND_VIEW_TASKS.length()).trim();
                 allTaskDetailsForTable =
-                    projectToManage.getTaskList().getAllTaskDetailsForTable(tasksAndAssignedMembers, sortCriteria,
+                    projectToManage.getTaskList().getAllTaskDetailsForTable(sortCriteria,
                         projectToManage);
                 ArchDukeLogger.logDebug(ProjectInputController.class.getName(), allTaskDetailsForTable.toString());
                 if (allTaskDetailsForTable.size() == 0) {
@@ -605,12 +701,16 @@ public class ProjectInputController implements IController {
     //@@author
 
     /**
-     * Exits the current project.
+     * Exits the current project, saving it and waiting for every pending save to be written first, so that nothing
+     * is left queued once the user has left the project.
      * @param projectToManage The project specified by the user.
      * @return Boolean variable specifying the exit status.
      */
     private String[] projectExit(Project projectToManage) {
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[projectExit]");
+        isManagingAProject = false;
+        projectRepository.saveToRepo(projectToManage);
+        projectRepository.waitForPendingWrites();
         return new String[] {"Exited project: " + projectToManage.getName()};
     }
 
@@ -619,8 +719,10 @@ public class ProjectInputController implements IController {
     }
 
     private String[] end() {
+        ArrayList<String> output = projectRepository.flushDirtyProjects();
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[end]");
-        return new String[] {"Bye. Hope to see you again soon!"};
+        output.add("Bye. Hope to see you again soon!");
+        return output.toArray(new String[0]);
     }
 
     //@@Dkenobi
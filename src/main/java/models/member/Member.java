@@ -10,6 +10,7 @@ public class Member implements IMember {
     private int indexNumber;
     private String role;
     private String memberID;
+    private transient MemberList owningMemberList;
 
     /**
      * Class representing a member in a project team.
@@ -19,12 +20,25 @@ public class Member implements IMember {
      * @param indexNumber The index number assigned to the member, unique to the project.
      */
     public Member(String name, String phone, String email, int indexNumber, String role) {
+        this(UUID.randomUUID().toString(), name, phone, email, indexNumber, role);
+    }
+
+    /**
+     * Class representing an existing member in a project team, used when the member is read back from storage.
+     * @param memberID The unique ID of the member.
+     * @param name The name of the member.
+     * @param phone The phone number of the member.
+     * @param email The email address of the member.
+     * @param indexNumber The index number assigned to the member, unique to the project.
+     * @param role The role of the member in the project.
+     */
+    public Member(String memberID, String name, String phone, String email, int indexNumber, String role) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.indexNumber = indexNumber;
         this.role = role;
-        this.memberID = UUID.randomUUID().toString();
+        this.memberID = memberID;
     }
 
     @Override
@@ -83,7 +97,9 @@ public class Member implements IMember {
 
     @Override
     public String setRole(String input) {
-        return this.role = input;
+        this.role = input;
+        notifyMemberChanged();
+        return this.role;
     }
 
     @Override
@@ -91,10 +107,25 @@ public class Member implements IMember {
         this.name = name;
         this.phone = phone;
         this.email = email;
+        notifyMemberChanged();
     }
 
     @Override
     public String getMemberID() {
         return this.memberID;
     }
+
+    /**
+     * Sets the MemberList which holds this member, so that the list can be told whenever this member is edited.
+     * @param owningMemberList MemberList holding this member, or null if the member has been removed.
+     */
+    void setOwningMemberList(MemberList owningMemberList) {
+        this.owningMemberList = owningMemberList;
+    }
+
+    private void notifyMemberChanged() {
+        if (this.owningMemberList != null) {
+            this.owningMemberList.onMemberChanged(this);
+        }
+    }
 }
@@ -1,20 +1,26 @@
 package models.member;
 
+import models.project.ProjectChanges;
 import util.ParserHelper;
 import util.validation.ValidityHelper;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class MemberList implements IMemberList {
     private ArrayList<Member> memberList;
-    private ParserHelper parserHelper;
-    private ValidityHelper validityHelper;
+    private transient HashMap<String, Member> membersByID;
+    private transient ParserHelper parserHelper;
+    private transient ValidityHelper validityHelper;
+    private transient ProjectChanges projectChanges;
+    private transient long version;
 
     /**
      * Class representing a list with all members and their details.
      */
     public MemberList() {
         this.memberList = new ArrayList<>();
+        this.membersByID = new HashMap<>();
         this.parserHelper = new ParserHelper();
         this.validityHelper = new ValidityHelper();
     }
@@ -30,6 +36,30 @@ public class MemberList implements IMemberList {
     public void addMember(Member newMember) {
         newMember.setIndexNumber(this.memberList.size() + 1);
         this.memberList.add(newMember);
+        getMembersByID().put(newMember.getMemberID(), newMember);
+        newMember.setOwningMemberList(this);
+        onMemberChanged(newMember);
+    }
+
+    /**
+     * Replaces the member with the same member ID as the given member, keeping its index number.
+     * @param updatedMember Member containing the updated details.
+     * @return true if a member with the same ID was found and replaced, false otherwise.
+     */
+    public boolean replaceMember(Member updatedMember) {
+        for (int i = 0; i < this.memberList.size(); i++) {
+            Member currentMember = this.memberList.get(i);
+            if (currentMember.getMemberID().equals(updatedMember.getMemberID())) {
+                currentMember.setOwningMemberList(null);
+                updatedMember.setIndexNumber(currentMember.getIndexNumber());
+                this.memberList.set(i, updatedMember);
+                getMembersByID().put(updatedMember.getMemberID(), updatedMember);
+                updatedMember.setOwningMemberList(this);
+                onMemberChanged(updatedMember);
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -75,6 +105,66 @@ public class MemberList implements IMemberList {
         } else {
             this.memberList.remove(toBeRemoved);
         }
+        getMembersByID().remove(toBeRemoved.getMemberID());
+        toBeRemoved.setOwningMemberList(null);
+        this.version++;
+        if (this.projectChanges != null) {
+            this.projectChanges.recordMemberRemoved(toBeRemoved.getMemberID());
+        }
+    }
+
+    /**
+     * Sets the record of changes that edits to this list and its members should be reported to.
+     * @param projectChanges ProjectChanges of the Project holding this list.
+     */
+    public void setProjectChanges(ProjectChanges projectChanges) {
+        this.projectChanges = projectChanges;
+        this.membersByID = null;
+        for (Member member : this.memberList) {
+            member.setOwningMemberList(this);
+        }
+    }
+
+    /**
+     * Returns the member with the given member ID, looked up in an index kept alongside the list.
+     * @param memberID The unique ID of the member.
+     * @return The member with the given ID, or null if it is not in this list.
+     */
+    public Member getMemberFromID(String memberID) {
+        return getMembersByID().get(memberID);
+    }
+
+    /**
+     * Returns the index of members by member ID. Lists read back by the Storage layer do not go through the
+     * constructor, so the index is built from the list the first time it is needed.
+     */
+    private HashMap<String, Member> getMembersByID() {
+        if (this.membersByID == null) {
+            this.membersByID = new HashMap<>();
+            for (Member member : this.memberList) {
+                this.membersByID.put(member.getMemberID(), member);
+            }
+        }
+        return this.membersByID;
+    }
+
+    /**
+     * Returns the number of mutations made to this list and its members since it was created or loaded.
+     * @return The mutation version of this list.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Called by a member in this list whenever its details are edited.
+     * @param member The member that has been edited.
+     */
+    void onMemberChanged(Member member) {
+        this.version++;
+        if (this.projectChanges != null) {
+            this.projectChanges.recordMemberChanged(member.getMemberID());
+        }
     }
 
     /**
@@ -0,0 +1,212 @@
+package models.project;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AssignmentGraph {
+    private HandleTable taskHandles;
+    private HandleTable memberHandles;
+    private ArrayList<HandleRow> membersAssignedToTask; //taskHandle_rowOfMemberHandles
+    private ArrayList<HandleRow> tasksAssignedToMember; //memberHandle_rowOfTaskHandles
+
+    /**
+     * Class holding the assignments between the tasks and members of a Project as a graph with an edge row on
+     * each side, so that assigning and checking an assignment are constant time, and removing a task or member
+     * only touches the rows of whatever it was assigned to. Tasks and members are given dense int handles by the
+     * graph, so the rows are primitive arrays and bitsets indexed by handle, and the unique IDs are only used at
+     * the edges of the graph. Each row keeps the order in which its edges were added, which is the order the
+     * assignments are listed and saved in.
+     */
+    public AssignmentGraph() {
+        this.taskHandles = new HandleTable();
+        this.memberHandles = new HandleTable();
+        this.membersAssignedToTask = new ArrayList<>();
+        this.tasksAssignedToMember = new ArrayList<>();
+    }
+
+    /**
+     * Creates the graph from the two maps the assignments are saved as. An assignment found in only one of the
+     * maps is added to the other, so that both sides of the graph always agree.
+     * @param taskAndListOfMembersAssigned HashMap of task IDs to the IDs of the members assigned to each task.
+     * @param memberAndIndividualListOfTasks HashMap of member IDs to the IDs of the tasks assigned to each member.
+     * @return The graph holding every assignment in either map.
+     */
+    public static AssignmentGraph fromIDListMaps(HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned,
+                                                 HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks) {
+        AssignmentGraph assignmentGraph = new AssignmentGraph();
+        for (Map.Entry<String, ArrayList<String>> taskRow : taskAndListOfMembersAssigned.entrySet()) {
+            int taskHandle = assignmentGraph.acquireTaskHandle(taskRow.getKey());
+            for (String memberID : taskRow.getValue()) {
+                assignmentGraph.membersAssignedToTask.get(taskHandle)
+                    .add(assignmentGraph.acquireMemberHandle(memberID));
+            }
+        }
+        for (Map.Entry<String, ArrayList<String>> memberRow : memberAndIndividualListOfTasks.entrySet()) {
+            int memberHandle = assignmentGraph.acquireMemberHandle(memberRow.getKey());
+            for (String taskID : memberRow.getValue()) {
+                assignmentGraph.tasksAssignedToMember.get(memberHandle)
+                    .add(assignmentGraph.acquireTaskHandle(taskID));
+            }
+        }
+        mirror(assignmentGraph.membersAssignedToTask, assignmentGraph.tasksAssignedToMember);
+        mirror(assignmentGraph.tasksAssignedToMember, assignmentGraph.membersAssignedToTask);
+        return assignmentGraph;
+    }
+
+    private static void mirror(ArrayList<HandleRow> fromRows, ArrayList<HandleRow> toRows) {
+        for (int fromHandle = 0; fromHandle < fromRows.size(); fromHandle++) {
+            HandleRow fromRow = fromRows.get(fromHandle);
+            for (int i = 0; fromRow != null && i < fromRow.size(); i++) {
+                toRows.get(fromRow.get(i)).add(fromHandle);
+            }
+        }
+    }
+
+    private int acquireTaskHandle(String taskID) {
+        return acquireRow(taskHandles.acquire(taskID), membersAssignedToTask);
+    }
+
+    private int acquireMemberHandle(String memberID) {
+        return acquireRow(memberHandles.acquire(memberID), tasksAssignedToMember);
+    }
+
+    private static int acquireRow(int handle, ArrayList<HandleRow> rows) {
+        if (handle == rows.size()) {
+            rows.add(new HandleRow());
+        } else if (rows.get(handle) == null) {
+            rows.set(handle, new HandleRow());
+        }
+        return handle;
+    }
+
+    public void addTask(String taskID) {
+        acquireTaskHandle(taskID);
+    }
+
+    public void addMember(String memberID) {
+        acquireMemberHandle(memberID);
+    }
+
+    /**
+     * Removes a task and all of its assignments, touching only the rows of the members it was assigned to, and
+     * releases its handle.
+     * @param taskID ID of the task to be removed.
+     */
+    public void removeTask(String taskID) {
+        removeRow(taskHandles.release(taskID), membersAssignedToTask, tasksAssignedToMember);
+    }
+
+    /**
+     * Removes a member and all of its assignments, touching only the rows of the tasks it was assigned to, and
+     * releases its handle.
+     * @param memberID ID of the member to be removed.
+     */
+    public void removeMember(String memberID) {
+        removeRow(memberHandles.release(memberID), tasksAssignedToMember, membersAssignedToTask);
+    }
+
+    private static void removeRow(int handle, ArrayList<HandleRow> rows, ArrayList<HandleRow> otherRows) {
+        if (handle == HandleTable.NO_HANDLE) {
+            return;
+        }
+        HandleRow removedRow = rows.set(handle, null);
+        for (int i = 0; i < removedRow.size(); i++) {
+            otherRows.get(removedRow.get(i)).remove(handle);
+        }
+    }
+
+    /**
+     * Assigns a task to a member.
+     * @param taskID ID of the task.
+     * @param memberID ID of the member.
+     * @return True if the assignment is new, false if the task was already assigned to the member.
+     */
+    public boolean assign(String taskID, String memberID) {
+        int taskHandle = acquireTaskHandle(taskID);
+        int memberHandle = acquireMemberHandle(memberID);
+        tasksAssignedToMember.get(memberHandle).add(taskHandle);
+        return membersAssignedToTask.get(taskHandle).add(memberHandle);
+    }
+
+    /**
+     * Unassigns a task from a member. Only the two rows involved are touched.
+     * @param taskID ID of the task.
+     * @param memberID ID of the member.
+     * @return True if the task was assigned to the member, false otherwise.
+     */
+    public boolean unassign(String taskID, String memberID) {
+        int taskHandle = taskHandles.get(taskID);
+        int memberHandle = memberHandles.get(memberID);
+        if (taskHandle == HandleTable.NO_HANDLE || memberHandle == HandleTable.NO_HANDLE) {
+            return false;
+        }
+        tasksAssignedToMember.get(memberHandle).remove(taskHandle);
+        return membersAssignedToTask.get(taskHandle).remove(memberHandle);
+    }
+
+    public boolean contains(String taskID, String memberID) {
+        int taskHandle = taskHandles.get(taskID);
+        return taskHandle != HandleTable.NO_HANDLE
+            && membersAssignedToTask.get(taskHandle).contains(memberHandles.get(memberID));
+    }
+
+    /**
+     * Returns the IDs of the members assigned to a task, in the order they were assigned.
+     * @param taskID ID of the task.
+     * @return The member IDs, empty if the task is not in the graph.
+     */
+    public List<String> getAssignedMemberIDs(String taskID) {
+        return toIDList(taskHandles.get(taskID), membersAssignedToTask, memberHandles);
+    }
+
+    /**
+     * Returns the IDs of the tasks assigned to a member, in the order they were assigned.
+     * @param memberID ID of the member.
+     * @return The task IDs, empty if the member is not in the graph.
+     */
+    public List<String> getAssignedTaskIDs(String memberID) {
+        return toIDList(memberHandles.get(memberID), tasksAssignedToMember, taskHandles);
+    }
+
+    private static ArrayList<String> toIDList(int handle, ArrayList<HandleRow> rows, HandleTable otherHandles) {
+        ArrayList<String> ids = new ArrayList<>();
+        if (handle == HandleTable.NO_HANDLE) {
+            return ids;
+        }
+        HandleRow row = rows.get(handle);
+        ids.ensureCapacity(row.size());
+        for (int i = 0; i < row.size(); i++) {
+            ids.add(otherHandles.getID(row.get(i)));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the assignments by task in the form they are saved and shown in.
+     * @return A new HashMap of task IDs to the IDs of the members assigned to each task.
+     */
+    public HashMap<String, ArrayList<String>> toTaskIDListMap() {
+        return toIDListMap(membersAssignedToTask, taskHandles, memberHandles);
+    }
+
+    /**
+     * Returns the assignments by member in the form they are saved and shown in.
+     * @return A new HashMap of member IDs to the IDs of the tasks assigned to each member.
+     */
+    public HashMap<String, ArrayList<String>> toMemberIDListMap() {
+        return toIDListMap(tasksAssignedToMember, memberHandles, taskHandles);
+    }
+
+    private static HashMap<String, ArrayList<String>> toIDListMap(ArrayList<HandleRow> rows, HandleTable handles,
+                                                                  HandleTable otherHandles) {
+        HashMap<String, ArrayList<String>> idListMap = new HashMap<>();
+        for (int handle = 0; handle < rows.size(); handle++) {
+            if (rows.get(handle) != null) {
+                idListMap.put(handles.getID(handle), toIDList(handle, rows, otherHandles));
+            }
+        }
+        return idListMap;
+    }
+}
@@ -0,0 +1,69 @@
+package models.project;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+class HandleRow {
+    private int[] handles;
+    private int size;
+    private BitSet handleSet;
+
+    /**
+     * Class holding the handles one task or member is assigned to. The handles are kept in a primitive array in the
+     * order they were added, which is the order they are listed and saved in, and in a bitset so that checking
+     * whether a handle is in the row is constant time.
+     */
+    HandleRow() {
+        this.handles = new int[4];
+        this.handleSet = new BitSet();
+    }
+
+    /**
+     * Adds a handle to the end of the row.
+     * @param handle Handle to be added.
+     * @return True if the handle was added, false if it was already in the row.
+     */
+    boolean add(int handle) {
+        if (handleSet.get(handle)) {
+            return false;
+        }
+        if (size == handles.length) {
+            handles = Arrays.copyOf(handles, size * 2);
+        }
+        handles[size++] = handle;
+        handleSet.set(handle);
+        return true;
+    }
+
+    /**
+     * Removes a handle from the row, keeping the order of the handles after it.
+     * @param handle Handle to be removed.
+     * @return True if the handle was in the row, false otherwise.
+     */
+    boolean remove(int handle) {
+        if (!handleSet.get(handle)) {
+            return false;
+        }
+        handleSet.clear(handle);
+        for (int i = 0; i < size; i++) {
+            if (handles[i] == handle) {
+                System.arraycopy(handles, i + 1, handles, i, size - i - 1);
+                size--;
+                break;
+            }
+        }
+        return true;
+    }
+
+    boolean contains(int handle) {
+        return handle >= 0 && handleSet.get(handle);
+    }
+
+    int get(int index) {
+        return handles[index];
+    }
+
+    int size() {
+        return size;
+    }
+}
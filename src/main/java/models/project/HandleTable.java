@@ -0,0 +1,78 @@
+package models.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+class HandleTable {
+    static final int NO_HANDLE = -1;
+    private HashMap<String, Integer> handlesByID;
+    private ArrayList<String> idsByHandle;
+    private int[] releasedHandles;
+    private int numOfReleasedHandles;
+
+    /**
+     * Class giving out dense int handles for the unique IDs of the tasks or members of a Project, so that the
+     * structures that relate them can be indexed by small ints instead of keyed by ID strings. Handles released
+     * by removed tasks or members are given out again first, which keeps the handles dense.
+     */
+    HandleTable() {
+        this.handlesByID = new HashMap<>();
+        this.idsByHandle = new ArrayList<>();
+        this.releasedHandles = new int[8];
+    }
+
+    /**
+     * Returns the handle of an ID, giving it one if it has none yet.
+     * @param id Unique ID of a task or member.
+     * @return The handle of the ID.
+     */
+    int acquire(String id) {
+        Integer handle = handlesByID.get(id);
+        if (handle != null) {
+            return handle;
+        }
+        int newHandle;
+        if (numOfReleasedHandles > 0) {
+            newHandle = releasedHandles[--numOfReleasedHandles];
+            idsByHandle.set(newHandle, id);
+        } else {
+            newHandle = idsByHandle.size();
+            idsByHandle.add(id);
+        }
+        handlesByID.put(id, newHandle);
+        return newHandle;
+    }
+
+    /**
+     * Returns the handle of an ID.
+     * @param id Unique ID of a task or member.
+     * @return The handle of the ID, or NO_HANDLE if it has none.
+     */
+    int get(String id) {
+        Integer handle = handlesByID.get(id);
+        return handle == null ? NO_HANDLE : handle;
+    }
+
+    String getID(int handle) {
+        return idsByHandle.get(handle);
+    }
+
+    /**
+     * Takes the handle away from an ID so that it can be given out again.
+     * @param id Unique ID of a task or member.
+     * @return The handle the ID had, or NO_HANDLE if it had none.
+     */
+    int release(String id) {
+        Integer handle = handlesByID.remove(id);
+        if (handle == null) {
+            return NO_HANDLE;
+        }
+        idsByHandle.set(handle, null);
+        if (numOfReleasedHandles == releasedHandles.length) {
+            releasedHandles = Arrays.copyOf(releasedHandles, releasedHandles.length * 2);
+        }
+        releasedHandles[numOfReleasedHandles++] = handle;
+        return handle;
+    }
+}
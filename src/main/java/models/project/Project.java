@@ -20,8 +20,9 @@ public class Project implements IProject {
     private MemberList memberList;
     private TaskList taskList;
     private ReminderList reminderList;
-    private HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned; //taskID_listOfMemberIDs
-    private HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks; //memberID_listOfTaskIDs
+    private AssignmentGraph assignmentGraph;
+    private transient ProjectChanges projectChanges;
+    private transient long version;
 
     /**
      * Class representing a task in a project.
@@ -32,8 +33,37 @@ public class Project implements IProject {
         this.memberList = new MemberList();
         this.taskList = new TaskList();
         this.reminderList = new ReminderList();
-        this.taskAndListOfMembersAssigned = new HashMap<>();
-        this.memberAndIndividualListOfTasks = new HashMap<>();
+        this.assignmentGraph = new AssignmentGraph();
+        restoreTransientState();
+    }
+
+    /**
+     * Sets up the state of the Project that is not persisted. Projects deserialized by the Storage layer do not go
+     * through the constructor, so this must be called on them before they are used.
+     */
+    public void restoreTransientState() {
+        this.projectChanges = new ProjectChanges();
+        this.memberList.setProjectChanges(this.projectChanges);
+        this.taskList.setProjectChanges(this.projectChanges);
+        this.reminderList.setProjectChanges(this.projectChanges);
+    }
+
+    /**
+     * Getter for the mutations made to this Project since they were last persisted.
+     * @return : Returns the ProjectChanges of this Project.
+     */
+    public ProjectChanges getProjectChanges() {
+        return this.projectChanges;
+    }
+
+    /**
+     * Returns the mutation version of this Project, which moves whenever the Project, its tasks, members,
+     * reminders or assignments are changed. Comparing versions tells whether there is anything new to save.
+     * @return : Returns the number of mutations made since this Project was created or loaded.
+     */
+    public long getVersion() {
+        return this.version + this.memberList.getVersion() + this.taskList.getVersion()
+            + this.reminderList.getVersion();
     }
 
     /**
@@ -50,6 +80,7 @@ public class Project implements IProject {
      */
     public void setName(String input) {
         this.name = input;
+        this.version++;
     }
 
     /**
@@ -97,7 +128,7 @@ public class Project implements IProject {
     @Override
     public void addMember(Member newMember) {
         this.memberList.addMember(newMember);
-        this.memberAndIndividualListOfTasks.put(newMember.getMemberID(), new ArrayList<>());
+        this.assignmentGraph.addMember(newMember.getMemberID());
     }
 
     //@@author iamabhishek98
@@ -109,10 +140,7 @@ public class Project implements IProject {
     //@@author iamabhishek98
     @Override
     public void removeMember(Member memberToBeRemoved) {
-        for (String taskID: this.taskAndListOfMembersAssigned.keySet()) {
-            this.taskAndListOfMembersAssigned.get(taskID).remove(memberToBeRemoved.getMemberID());
-        }
-        this.memberAndIndividualListOfTasks.remove(memberToBeRemoved.getMemberID());
+        this.assignmentGraph.removeMember(memberToBeRemoved.getMemberID());
         this.memberList.removeMember(memberToBeRemoved);
     }
 
@@ -136,17 +164,14 @@ public class Project implements IProject {
     @Override
     public void addTask(Task newTask) {
         this.taskList.addTask(newTask);
-        this.taskAndListOfMembersAssigned.put(newTask.getTaskID(), new ArrayList<>());
+        this.assignmentGraph.addTask(newTask.getTaskID());
     }
 
     //@@author iamabhishek98
     @Override
     public void removeTask(int taskIndexNumber) {
         Task taskToRemove = this.getTask(taskIndexNumber);
-        for (String memberID : this.memberAndIndividualListOfTasks.keySet()) {
-            this.memberAndIndividualListOfTasks.get(memberID).remove(taskToRemove.getTaskID());
-        }
-        this.taskAndListOfMembersAssigned.remove(taskToRemove.getTaskID());
+        this.assignmentGraph.removeTask(taskToRemove.getTaskID());
         this.taskList.removeTask(taskIndexNumber);
     }
 
@@ -182,15 +207,14 @@ public class Project implements IProject {
          */
         ArrayList<String> allMemberCredits = new ArrayList<>();
         ArrayList<Member> allMembers = this.getMemberList().getMemberList();
-        HashMap<String, ArrayList<String>> memberIDAndTaskIDs = this.getMembersIndividualTaskList(); //memberID_taskIDs
         int count = 1;
         for (Member member : allMembers) {
             float totalCredits = 0;
             float doneCredits = 0;
-            for (String taskID : memberIDAndTaskIDs.get(member.getMemberID())) {
+            for (String taskID : this.assignmentGraph.getAssignedTaskIDs(member.getMemberID())) {
                 // credits are split equally between members
                 ITask assignedTask = getTaskFromID(taskID);
-                float taskCredit = (assignedTask.getTaskCredit()) / (float)(memberIDAndTaskIDs.size());
+                float taskCredit = (assignedTask.getTaskCredit()) / (float)(allMembers.size());
                 totalCredits += taskCredit;
                 // members only get credits if the task is "DONE"
                 if (assignedTask.getTaskState() == TaskState.DONE) {
@@ -216,90 +240,106 @@ public class Project implements IProject {
 
     //@@author sinteary
     /**
-     * This method assigns a task to a member by mapping the task's unique ID to the assigned member's
-     * unique ID. This association is stored in the 2 HashMaps: taskAndListOfMembersAssigned and
-     * memberAndIndividualListOfTasks.
+     * This method assigns a task to a member by adding an edge between the task's unique ID and the assigned
+     * member's unique ID to the assignment graph of the project.
+     * Assigning a task that is already assigned to the member changes nothing.
      * @param task the task which you wish to assign to the member.
      * @param member the member you wish to assign the task to.
      */
     @Override
     public void createAssignment(Task task, Member member) {
-        taskAndListOfMembersAssigned.get(task.getTaskID()).add(member.getMemberID());
-        memberAndIndividualListOfTasks.get(member.getMemberID()).add(task.getTaskID());
+        if (assignmentGraph.assign(task.getTaskID(), member.getMemberID())) {
+            projectChanges.recordAssignment(task.getTaskID(), member.getMemberID(), true);
+            this.version++;
+        }
     }
 
     /**
-     * Removes the assignment between a task and member by removing the mapping between the task's unique
-     * ID and the member's unique ID. The association is removed from the 2 HashMaps:
-     * taskAndListOfMembersAssigned and memberAndIndividualListOfTasks.
+     * Removes the assignment between a task and member by removing the edge between the task's unique
+     * ID and the member's unique ID from the assignment graph of the project.
+     * Removing an assignment that does not exist changes nothing.
      * @param member the member to unassign the task from.
      * @param task the task to be unassigned.
      */
     @Override
     public void removeAssignment(Member member, Task task) {
-        taskAndListOfMembersAssigned.get(task.getTaskID()).remove(member.getMemberID());
-        memberAndIndividualListOfTasks.get(member.getMemberID()).remove(task.getTaskID());
+        if (assignmentGraph.unassign(task.getTaskID(), member.getMemberID())) {
+            projectChanges.recordAssignment(task.getTaskID(), member.getMemberID(), false);
+            this.version++;
+        }
     }
 
     /**
-     * Checks if assignment exists between a member and task by ensuring that the association exists
-     * in the 2 HashMaps: taskAndListOfMembersAssigned and memberAndIndividualListOfTasks.
+     * Checks if assignment exists between a member and task by looking the edge up in the assignment graph.
      * @param task The task in question.
      * @param member The member in question.
      * @return true task has already been assigned to a member.
      */
     @Override
     public boolean containsAssignment(Task task, Member member) {
-        return memberAndIndividualListOfTasks.get(member.getMemberID()).contains(task.getTaskID())
-            && taskAndListOfMembersAssigned.get(task.getTaskID()).contains(member.getMemberID());
+        return assignmentGraph.contains(task.getTaskID(), member.getMemberID());
     }
 
     /**
-     * Returns a hashmap with information about each member's task assignment.
+     * Replaces all assignments of this Project. Used by the Storage layer when reading a Project back, so that the
+     * order of tasks and members in both HashMaps is kept exactly as it was saved.
+     * @param taskAndListOfMembersAssigned HashMap of task IDs to the IDs of the members assigned to each task.
+     * @param memberAndIndividualListOfTasks HashMap of member IDs to the IDs of the tasks assigned to each member.
+     */
+    public void restoreAssignments(HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned,
+                                   HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks) {
+        this.assignmentGraph = AssignmentGraph.fromIDListMaps(taskAndListOfMembersAssigned,
+            memberAndIndividualListOfTasks);
+    }
+
+    /**
+     * Getter for the assignments between the tasks and members of this Project.
+     * @return : Returns the AssignmentGraph of this Project.
+     */
+    public AssignmentGraph getAssignmentGraph() {
+        return this.assignmentGraph;
+    }
+
+    /**
+     * Returns a hashmap with information about each member's task assignment, copied from the assignment graph.
+     * The whole graph is copied, so this is meant for saving; views should read single rows from the graph.
      * @return hashmap with member as key and accompanying task list.
      */
     @Override
     public HashMap<String, ArrayList<String>> getMembersIndividualTaskList() {
-        return this.memberAndIndividualListOfTasks;
+        return this.assignmentGraph.toMemberIDListMap();
     }
 
     /**
-     * Returns a hashmap with information about each task's assignment to members.
+     * Returns a hashmap with information about each task's assignment to members, copied from the assignment graph.
+     * The whole graph is copied, so this is meant for saving; views should read single rows from the graph.
      * @return hashmap with task as key and accompanying list of assigned members.
      */
     @Override
     public HashMap<String, ArrayList<String>> getTasksAndAssignedMembers() {
-        return this.taskAndListOfMembersAssigned;
+        return this.assignmentGraph.toTaskIDListMap();
     }
 
     /**
-     * Returns a member object based on the unique member ID.
+     * Returns a member object based on the unique member ID, looked up in the index of the member list.
      * @param memberID The member ID associated with a member.
      * @return The member object with the matching member ID.
      */
     @Override
     public IMember getMemberFromID(String memberID) {
-        for (Member member : this.memberList.getMemberList()) {
-            if (memberID.equals(member.getMemberID())) {
-                return member;
-            }
-        }
-        return new NullMember("Unable to find this member.");
+        Member member = this.memberList.getMemberFromID(memberID);
+        return member == null ? new NullMember("Unable to find this member.") : member;
     }
 
     /**
-     * Returns a task object based on the unique task ID.
+     * Returns a task object based on the unique task ID, looked up in the index of the task list.
      * @param taskID The task ID associated with a task.
      * @return The task object with the matching task ID.
      */
     @Override
     public ITask getTaskFromID(String taskID) {
-        for (Task task : this.taskList.getTaskList()) {
-            if (taskID.equals(task.getTaskID())) {
-                return task;
-            }
-        }
-        return new NullTask();
+        Task task = this.taskList.getTaskFromID(taskID);
+        return task == null ? new NullTask() : task;
     }
     //@@author
 
@@ -336,7 +376,15 @@ public class Project implements IProject {
 
     @Override
     public void removeReminder(int index) {
-        reminderList.getReminderList().remove(index - 1);
+        reminderList.removeReminder(index);
+    }
+
+    /**
+     * Replaces all reminders of this Project.
+     * @param reminders The new reminders of this Project.
+     */
+    public void replaceReminders(ArrayList<Reminder> reminders) {
+        reminderList.replaceReminders(reminders);
     }
 
     @Override
@@ -0,0 +1,139 @@
+package models.project;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+public class ProjectChanges {
+    private LinkedHashSet<String> changedTaskIDs;
+    private LinkedHashSet<String> removedTaskIDs;
+    private LinkedHashSet<String> changedMemberIDs;
+    private LinkedHashSet<String> removedMemberIDs;
+    private LinkedHashMap<String, Boolean> assignmentChanges; //taskID_memberID -> isAssigned
+    private boolean isTaskOrderChanged;
+    private boolean isReminderListChanged;
+
+    /**
+     * Class recording the mutations made to a Project since they were last persisted, so that the Storage layer
+     * only needs to write out the tasks, members, reminders and assignments that have actually changed.
+     */
+    public ProjectChanges() {
+        this.changedTaskIDs = new LinkedHashSet<>();
+        this.removedTaskIDs = new LinkedHashSet<>();
+        this.changedMemberIDs = new LinkedHashSet<>();
+        this.removedMemberIDs = new LinkedHashSet<>();
+        this.assignmentChanges = new LinkedHashMap<>();
+        this.isTaskOrderChanged = false;
+        this.isReminderListChanged = false;
+    }
+
+    public void recordTaskChanged(String taskID) {
+        this.changedTaskIDs.add(taskID);
+    }
+
+    /**
+     * Records that a task has been removed. Any earlier change to the same task no longer needs to be persisted.
+     * @param taskID ID of the removed task.
+     */
+    public void recordTaskRemoved(String taskID) {
+        this.changedTaskIDs.remove(taskID);
+        this.removedTaskIDs.add(taskID);
+    }
+
+    public void recordTaskOrderChanged() {
+        this.isTaskOrderChanged = true;
+    }
+
+    public void recordMemberChanged(String memberID) {
+        this.changedMemberIDs.add(memberID);
+    }
+
+    /**
+     * Records that a member has been removed. Any earlier change to the same member no longer needs to be persisted.
+     * @param memberID ID of the removed member.
+     */
+    public void recordMemberRemoved(String memberID) {
+        this.changedMemberIDs.remove(memberID);
+        this.removedMemberIDs.add(memberID);
+    }
+
+    public void recordReminderListChanged() {
+        this.isReminderListChanged = true;
+    }
+
+    /**
+     * Records the latest state of the assignment between a task and a member. Only the latest state of each
+     * pair is kept, and the pair is moved to the back so that replaying the changes preserves assignment order.
+     * @param taskID ID of the task.
+     * @param memberID ID of the member.
+     * @param isAssigned true if the task is now assigned to the member, false if it has been unassigned.
+     */
+    public void recordAssignment(String taskID, String memberID, boolean isAssigned) {
+        String key = taskID + " " + memberID;
+        this.assignmentChanges.remove(key);
+        this.assignmentChanges.put(key, isAssigned);
+    }
+
+    public ArrayList<String> getChangedTaskIDs() {
+        return new ArrayList<>(this.changedTaskIDs);
+    }
+
+    public ArrayList<String> getRemovedTaskIDs() {
+        return new ArrayList<>(this.removedTaskIDs);
+    }
+
+    public ArrayList<String> getChangedMemberIDs() {
+        return new ArrayList<>(this.changedMemberIDs);
+    }
+
+    public ArrayList<String> getRemovedMemberIDs() {
+        return new ArrayList<>(this.removedMemberIDs);
+    }
+
+    /**
+     * Returns the assignment changes in the order they should be replayed.
+     * @return ArrayList of String arrays containing the task ID, member ID and "true" or "false" for whether
+     *         the task is assigned to the member.
+     */
+    public ArrayList<String[]> getAssignmentChanges() {
+        ArrayList<String[]> allAssignmentChanges = new ArrayList<>();
+        for (Map.Entry<String, Boolean> change : this.assignmentChanges.entrySet()) {
+            String[] taskAndMemberIDs = change.getKey().split(" ");
+            allAssignmentChanges.add(new String[] {taskAndMemberIDs[0], taskAndMemberIDs[1],
+                change.getValue().toString()});
+        }
+        return allAssignmentChanges;
+    }
+
+    public boolean isTaskOrderChanged() {
+        return this.isTaskOrderChanged;
+    }
+
+    public boolean isReminderListChanged() {
+        return this.isReminderListChanged;
+    }
+
+    /**
+     * Checks if there is anything that needs to be persisted.
+     * @return true if no mutation has been recorded since the last clear.
+     */
+    public boolean isEmpty() {
+        return this.changedTaskIDs.isEmpty() && this.removedTaskIDs.isEmpty()
+            && this.changedMemberIDs.isEmpty() && this.removedMemberIDs.isEmpty()
+            && this.assignmentChanges.isEmpty() && !this.isTaskOrderChanged && !this.isReminderListChanged;
+    }
+
+    /**
+     * Forgets all recorded mutations. Called once the changes have been persisted.
+     */
+    public void clear() {
+        this.changedTaskIDs.clear();
+        this.removedTaskIDs.clear();
+        this.changedMemberIDs.clear();
+        this.removedMemberIDs.clear();
+        this.assignmentChanges.clear();
+        this.isTaskOrderChanged = false;
+        this.isReminderListChanged = false;
+    }
+}
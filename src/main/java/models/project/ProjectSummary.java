@@ -0,0 +1,66 @@
+package models.project;
+
+import java.util.ArrayList;
+
+public class ProjectSummary {
+    private String name;
+    private ArrayList<String> memberDetails;
+    private int numOfTasks;
+    private String[] closestDeadline;
+    private String[] overallProgress;
+    private boolean isArchived;
+
+    /**
+     * Class holding the details of a Project that are shown when all Projects are listed, so that the Project
+     * itself does not have to be loaded into memory to list it.
+     * @param project : Project to be summarised.
+     */
+    public ProjectSummary(Project project) {
+        this.name = project.getName();
+        this.memberDetails = project.getMemberList().getAllMemberDetails();
+        this.numOfTasks = project.getNumOfTasks();
+        if (this.numOfTasks == 0) {
+            this.closestDeadline = new String[0];
+            this.overallProgress = new String[0];
+        } else {
+            this.closestDeadline = project.getTaskList().getClosestDeadlineTask();
+            this.overallProgress = project.getTaskList().getOverallProgress();
+        }
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public ArrayList<String> getMemberDetails() {
+        return this.memberDetails;
+    }
+
+    public int getNumOfMembers() {
+        return this.memberDetails.size();
+    }
+
+    public int getNumOfTasks() {
+        return this.numOfTasks;
+    }
+
+    public String[] getClosestDeadline() {
+        return this.closestDeadline;
+    }
+
+    public String[] getOverallProgress() {
+        return this.overallProgress;
+    }
+
+    public boolean isArchived() {
+        return this.isArchived;
+    }
+
+    /**
+     * Marks the Project as archived, in which case it is listed but has to be unarchived before it can be managed.
+     * @param isArchived : whether the Project is archived.
+     */
+    public void setArchived(boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+}
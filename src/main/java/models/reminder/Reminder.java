@@ -8,6 +8,7 @@ public class Reminder implements IReminder {
     private Date reminderDate;
     private Boolean isDone;
     private String category;
+    private transient ReminderList owningReminderList;
 
     /**
      * Class representing a reminder in the project.
@@ -26,26 +27,31 @@ public class Reminder implements IReminder {
     @Override
     public void setReminderName(String reminderName) {
         this.reminderName = reminderName;
+        notifyReminderChanged();
     }
 
     @Override
     public void setReminderRemarks(String reminderRemarks) {
         this.reminderRemarks = reminderRemarks;
+        notifyReminderChanged();
     }
 
     @Override
     public void setReminderDate(Date reminderDate) {
         this.reminderDate = reminderDate;
+        notifyReminderChanged();
     }
 
     @Override
     public void setIsDone(Boolean isDone) {
         this.isDone =  isDone;
+        notifyReminderChanged();
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        notifyReminderChanged();
     }
 
     @Override
@@ -77,4 +83,18 @@ public class Reminder implements IReminder {
     public String getCategory() {
         return this.category;
     }
+
+    /**
+     * Sets the ReminderList which holds this reminder, so that the list can be told whenever this reminder is edited.
+     * @param owningReminderList ReminderList holding this reminder, or null if the reminder has been removed.
+     */
+    void setOwningReminderList(ReminderList owningReminderList) {
+        this.owningReminderList = owningReminderList;
+    }
+
+    private void notifyReminderChanged() {
+        if (this.owningReminderList != null) {
+            this.owningReminderList.onReminderChanged();
+        }
+    }
 }
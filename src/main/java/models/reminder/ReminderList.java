@@ -1,11 +1,15 @@
 package models.reminder;
 
+import models.project.ProjectChanges;
+
 import java.util.ArrayList;
 
 public class ReminderList {
 
     //private String reminderListName;
     private ArrayList<Reminder> reminderList;
+    private transient ProjectChanges projectChanges;
+    private transient long version;
 
     /**
      * Class representing a list with all reminders.
@@ -29,6 +33,34 @@ public class ReminderList {
      */
     public void addReminderList(Reminder reminder) {
         this.reminderList.add(reminder);
+        reminder.setOwningReminderList(this);
+        onReminderChanged();
+    }
+
+    /**
+     * Removes a reminder from the list of this project.
+     * @param index The 1 based index of the reminder to be removed.
+     */
+    public void removeReminder(int index) {
+        Reminder removedReminder = this.reminderList.remove(index - 1);
+        removedReminder.setOwningReminderList(null);
+        onReminderChanged();
+    }
+
+    /**
+     * Replaces all reminders in this list with the given reminders.
+     * @param reminders The new reminders of this project.
+     */
+    public void replaceReminders(ArrayList<Reminder> reminders) {
+        for (Reminder reminder : this.reminderList) {
+            reminder.setOwningReminderList(null);
+        }
+        this.reminderList.clear();
+        for (Reminder reminder : reminders) {
+            this.reminderList.add(reminder);
+            reminder.setOwningReminderList(this);
+        }
+        onReminderChanged();
     }
 
     public ArrayList<Reminder> getReminderList() {
@@ -39,4 +71,33 @@ public class ReminderList {
         return reminderList.get(index - 1);
     }
 
+    /**
+     * Sets the record of changes that edits to this list and its reminders should be reported to.
+     * @param projectChanges ProjectChanges of the Project holding this list.
+     */
+    public void setProjectChanges(ProjectChanges projectChanges) {
+        this.projectChanges = projectChanges;
+        for (Reminder reminder : this.reminderList) {
+            reminder.setOwningReminderList(this);
+        }
+    }
+
+    /**
+     * Returns the number of mutations made to this list and its reminders since it was created or loaded.
+     * @return The mutation version of this list.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Called by a reminder in this list whenever its details are edited.
+     */
+    void onReminderChanged() {
+        this.version++;
+        if (this.projectChanges != null) {
+            this.projectChanges.recordReminderListChanged();
+        }
+    }
+
 }
@@ -14,8 +14,9 @@ public class Task implements ITask {
     private int taskCredit;
     private TaskState taskState;
     private ArrayList<String> taskRequirements;
-    private DateTimeHelper dateTimeHelper;
+    private static final DateTimeHelper DATE_TIME_HELPER = new DateTimeHelper();
     private String taskID;
+    private transient TaskList owningTaskList;
 
     @Override
     public boolean equals(Object obj) {
@@ -46,14 +47,28 @@ public class Task implements ITask {
      */
     public Task(String taskName, int taskPriority, Date dueDate, int taskCredit, TaskState taskState,
                 ArrayList<String> taskRequirements) {
+        this(UUID.randomUUID().toString(), taskName, taskPriority, dueDate, taskCredit, taskState, taskRequirements);
+    }
+
+    /**
+     * Class representing an existing task in a project, used when the task is read back from storage.
+     * @param taskID The unique ID of the task.
+     * @param taskName The name of the task.
+     * @param taskPriority The priority value of the task.
+     * @param dueDate The date that the task is due. [Optional]
+     * @param taskCredit The amount of credit a person would receive for completing the task.
+     * @param taskState taskState refers to whether the task is in OPEN, TO-DO, DOING, DONE.
+     * @param taskRequirements ArrayList of Strings containing specific requirements of a task. [Optional]
+     */
+    public Task(String taskID, String taskName, int taskPriority, Date dueDate, int taskCredit, TaskState taskState,
+                ArrayList<String> taskRequirements) {
         this.taskName = taskName;
         this.taskPriority = taskPriority;
         this.dueDate = dueDate;
         this.taskCredit = taskCredit;
         this.taskState = taskState;
         this.taskRequirements = taskRequirements;
-        this.dateTimeHelper = new DateTimeHelper();
-        this.taskID = UUID.randomUUID().toString();
+        this.taskID = taskID;
     }
 
     public String getTaskName() {
@@ -72,8 +87,8 @@ public class Task implements ITask {
         if (this.dueDate != null) {
             return this.taskName + " | Priority: "
                     + this.taskPriority
-                    + " | Due: " + dateTimeHelper.formatDateForDisplay(this.dueDate)
-                    + dateTimeHelper.getDifferenceDays(this.dueDate)
+                    + " | Due: " + DATE_TIME_HELPER.formatDateForDisplay(this.dueDate)
+                    + DATE_TIME_HELPER.getDifferenceDays(this.dueDate)
                     + " | Credit: " + this.taskCredit
                     + " | State: " + this.taskState;
         } else {
@@ -90,7 +105,7 @@ public class Task implements ITask {
     public String getDetailsForAssignmentTable() {
         if (this.dueDate != null) {
             return this.taskName + " (P: " + this.taskPriority + ", D: "
-                    + dateTimeHelper.formatDateForDisplay(this.dueDate) + ", C: " + this.taskCredit + ", S: "
+                    + DATE_TIME_HELPER.formatDateForDisplay(this.dueDate) + ", C: " + this.taskCredit + ", S: "
                     + this.taskState + ")";
         } else {
             return this.taskName + " (P: " + this.taskPriority + ", D: --, C: " + this.taskCredit + ", S: "
@@ -127,16 +142,27 @@ public class Task implements ITask {
         return taskRequirements;
     }
 
+    /**
+     * Returns the requirements of this task as they were entered, without the numbering used for display.
+     * @return ArrayList of the requirements of this task.
+     */
+    public ArrayList<String> getRawTaskRequirements() {
+        return this.taskRequirements;
+    }
+
     public int getNumOfTaskRequirements() {
         return this.taskRequirements.size();
     }
 
     public void setTaskName(String newTaskName) {
         this.taskName = newTaskName;
+        notifyTaskChanged();
     }
 
     public void setTaskPriority(int newTaskPriority) {
+        notifyTaskChanging();
         this.taskPriority = newTaskPriority;
+        notifyTaskChanged();
     }
 
     /**
@@ -144,7 +170,9 @@ public class Task implements ITask {
      * @param newDueDate Date object of the new dueDate to be set.
      */
     public void setDueDate(Date newDueDate) {
+        notifyTaskChanging();
         this.dueDate = newDueDate;
+        notifyTaskChanged();
     }
 
     /**
@@ -152,7 +180,9 @@ public class Task implements ITask {
      * @param newTaskCredit new task credit to be set.
      */
     public void setTaskCredit(int newTaskCredit) {
+        notifyTaskChanging();
         this.taskCredit = newTaskCredit;
+        notifyTaskChanged();
     }
 
     /**
@@ -160,6 +190,7 @@ public class Task implements ITask {
      * @param newTaskStateString String form of new task state.
      */
     public void setTaskState(String newTaskStateString) {
+        notifyTaskChanging();
         switch (newTaskStateString) {
         case "done":
             this.taskState = TaskState.DONE;
@@ -174,17 +205,44 @@ public class Task implements ITask {
             this.taskState = TaskState.OPEN;
             break;
         }
+        notifyTaskChanged();
     }
 
     public void removeTaskRequirement(int indexOfTaskRequirement) {
         this.taskRequirements.remove(indexOfTaskRequirement - 1);
+        notifyTaskChanged();
     }
 
     public void addTaskRequirement(String newTaskRequirement) {
         this.taskRequirements.add(newTaskRequirement);
+        notifyTaskChanged();
     }
 
     public String getTaskID() {
         return this.taskID;
     }
+
+    /**
+     * Sets the TaskList which holds this task, so that the list can be told whenever this task is edited.
+     * @param owningTaskList TaskList holding this task, or null if the task has been removed from its list.
+     */
+    void setOwningTaskList(TaskList owningTaskList) {
+        this.owningTaskList = owningTaskList;
+    }
+
+    /**
+     * Tells the owning TaskList that a field it indexes or totals tasks by is about to be edited, so that this task
+     * can be taken out of the index while the old value is still known.
+     */
+    private void notifyTaskChanging() {
+        if (this.owningTaskList != null) {
+            this.owningTaskList.onTaskChanging(this);
+        }
+    }
+
+    private void notifyTaskChanged() {
+        if (this.owningTaskList != null) {
+            this.owningTaskList.onTaskChanged(this);
+        }
+    }
 }
@@ -0,0 +1,196 @@
+package models.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+class TaskIndex {
+    private List<Task> taskList;
+    private IdentityHashMap<Task, Long> orderKeys;
+    private long nextOrderKey;
+    private EnumMap<TaskState, TreeSet<Task>> tasksByState;
+    private TreeMap<Integer, TreeSet<Task>> tasksByPriority;
+    private TreeMap<Long, TreeSet<Task>> tasksByDueDate;
+    private long[] creditsByState;
+
+    /**
+     * Class holding the secondary indexes of a TaskList: its tasks by state, by priority and ordered by due date,
+     * and the total credits of the tasks in each state. The TaskList takes a task out of the indexes just before
+     * one of the indexed fields of the task is edited and puts it back right after, so the indexes and totals never
+     * have to be rebuilt by scanning the list. Every task is given an order key that grows with its position in the
+     * list, so each index keeps its tasks in list order without sorting them, and the position of a task is found
+     * by a binary search of the list. The TaskList drops the indexes whenever the list is reordered.
+     * @param taskList List of tasks being indexed.
+     */
+    TaskIndex(List<Task> taskList) {
+        this.taskList = taskList;
+        this.orderKeys = new IdentityHashMap<>(taskList.size() * 2);
+        this.tasksByState = new EnumMap<>(TaskState.class);
+        for (TaskState taskState : TaskState.values()) {
+            this.tasksByState.put(taskState, createBucket());
+        }
+        this.tasksByPriority = new TreeMap<>();
+        this.tasksByDueDate = new TreeMap<>();
+        this.creditsByState = new long[TaskState.values().length];
+        for (Task task : taskList) {
+            add(task);
+        }
+    }
+
+    /**
+     * Adds a task to every index, using the current values of its fields. A task that is new to the list is given
+     * the next order key, as tasks are only ever added to the end of the list. Adding a task that is already
+     * indexed under those values changes nothing.
+     * @param task Task to be indexed.
+     */
+    void add(Task task) {
+        this.orderKeys.computeIfAbsent(task, key -> this.nextOrderKey++);
+        TaskState taskState = getIndexedState(task);
+        if (this.tasksByState.get(taskState).add(task)) {
+            this.creditsByState[taskState.ordinal()] += task.getTaskCredit();
+        }
+        this.tasksByPriority.computeIfAbsent(task.getTaskPriority(), key -> createBucket()).add(task);
+        if (task.getDueDate() != null) {
+            this.tasksByDueDate.computeIfAbsent(task.getDueDate().getTime(), key -> createBucket()).add(task);
+        }
+    }
+
+    /**
+     * Removes a task from every index, using the current values of its fields. The task keeps its order key, so
+     * that it is put back in the same place once its edited fields are indexed again.
+     * @param task Task to be taken out of the indexes.
+     */
+    void remove(Task task) {
+        if (!this.orderKeys.containsKey(task)) {
+            return;
+        }
+        TaskState taskState = getIndexedState(task);
+        if (this.tasksByState.get(taskState).remove(task)) {
+            this.creditsByState[taskState.ordinal()] -= task.getTaskCredit();
+        }
+        removeFromBucket(this.tasksByPriority, task.getTaskPriority(), task);
+        if (task.getDueDate() != null) {
+            removeFromBucket(this.tasksByDueDate, task.getDueDate().getTime(), task);
+        }
+    }
+
+    /**
+     * Removes a task that has been deleted from the list, together with its order key.
+     * @param task Task deleted from the list.
+     */
+    void delete(Task task) {
+        remove(task);
+        this.orderKeys.remove(task);
+    }
+
+    /**
+     * Removes a task that has been replaced in the list, handing its order key to the task that took its place.
+     * The new task is indexed by the next call to add.
+     * @param replacedTask Task that was in the list.
+     * @param updatedTask Task that replaced it.
+     */
+    void replace(Task replacedTask, Task updatedTask) {
+        Long orderKey = this.orderKeys.get(replacedTask);
+        delete(replacedTask);
+        if (orderKey != null) {
+            this.orderKeys.put(updatedTask, orderKey);
+        }
+    }
+
+    private TreeSet<Task> createBucket() {
+        return new TreeSet<>(Comparator.comparingLong(this.orderKeys::get));
+    }
+
+    private static <K> void removeFromBucket(TreeMap<K, TreeSet<Task>> buckets, K key, Task task) {
+        TreeSet<Task> bucket = buckets.get(key);
+        if (bucket != null && bucket.remove(task) && bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Tasks read back without a state are counted as open, as they are everywhere else.
+     */
+    private static TaskState getIndexedState(Task task) {
+        return task.getTaskState() == null ? TaskState.OPEN : task.getTaskState();
+    }
+
+    long getCreditsInState(TaskState taskState) {
+        return this.creditsByState[taskState.ordinal()];
+    }
+
+    ArrayList<Task> getTasksInState(TaskState taskState) {
+        return new ArrayList<>(this.tasksByState.get(taskState));
+    }
+
+    ArrayList<Task> getTasksWithPriority(int taskPriority) {
+        TreeSet<Task> bucket = this.tasksByPriority.get(taskPriority);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+
+    /**
+     * Returns the tasks in order of priority, with the tasks of the same priority in list order, which is the
+     * order a stable sort of the list by priority gives.
+     */
+    ArrayList<Task> getTasksByPriority() {
+        ArrayList<Task> tasksByPriority = new ArrayList<>(this.taskList.size());
+        for (TreeSet<Task> bucket : this.tasksByPriority.values()) {
+            tasksByPriority.addAll(bucket);
+        }
+        return tasksByPriority;
+    }
+
+    /**
+     * Returns the tasks due from the given time up to, but not including, the given end time, ordered by due date
+     * and then by list order.
+     * @param fromTime Start of the range, in milliseconds since the epoch, or null to start from the earliest task.
+     * @param toTime End of the range, in milliseconds since the epoch, or null to end after the latest task.
+     */
+    ArrayList<Task> getTasksDueBetween(Long fromTime, Long toTime) {
+        Map<Long, TreeSet<Task>> dueDateRange = this.tasksByDueDate;
+        if (fromTime != null && toTime != null) {
+            dueDateRange = this.tasksByDueDate.subMap(fromTime, toTime);
+        } else if (fromTime != null) {
+            dueDateRange = this.tasksByDueDate.tailMap(fromTime);
+        } else if (toTime != null) {
+            dueDateRange = this.tasksByDueDate.headMap(toTime);
+        }
+        ArrayList<Task> tasksByDueDate = new ArrayList<>();
+        for (TreeSet<Task> bucket : dueDateRange.values()) {
+            tasksByDueDate.addAll(bucket);
+        }
+        return tasksByDueDate;
+    }
+
+    /**
+     * Returns the position of a task in the list, found by a binary search of the list on the order keys of its
+     * tasks.
+     * @param task Task to be found.
+     * @return The 0-based position of the task, or -1 if the task is not in the list.
+     */
+    int getPosition(Task task) {
+        Long orderKey = this.orderKeys.get(task);
+        if (orderKey == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = this.taskList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleOrderKey = this.orderKeys.get(this.taskList.get(middle));
+            if (middleOrderKey < orderKey) {
+                low = middle + 1;
+            } else if (middleOrderKey > orderKey) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+}
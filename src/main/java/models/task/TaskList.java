@@ -1,6 +1,7 @@
 package models.task;
 
 import models.project.Project;
+import models.project.ProjectChanges;
 import util.ParserHelper;
 import util.SortHelper;
 import util.date.DateTimeHelper;
@@ -8,20 +9,27 @@ import util.date.DateTimeHelper;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 
 public class TaskList {
     private ArrayList<Task> taskList;
-    private ParserHelper parserHelper;
-    private SortHelper sortHelper;
-    private DateTimeHelper dateTimeHelper;
+    private transient HashMap<String, Task> tasksByID;
+    private transient TaskIndex taskIndex;
+    private transient ParserHelper parserHelper;
+    private transient SortHelper sortHelper;
+    private transient DateTimeHelper dateTimeHelper;
+    private transient ProjectChanges projectChanges;
+    private transient long version;
 
     /**
      * Class representing a list with all task sort in the project.
      */
     public TaskList() {
         this.taskList = new ArrayList<>();
+        this.tasksByID = new HashMap<>();
         this.parserHelper = new ParserHelper();
         this.sortHelper = new SortHelper();
         this.dateTimeHelper = new DateTimeHelper();
@@ -33,6 +41,9 @@ public class TaskList {
      */
     public void addTask(Task task) {
         taskList.add(task);
+        getTasksByID().put(task.getTaskID(), task);
+        task.setOwningTaskList(this);
+        onTaskChanged(task);
     }
 
     /**
@@ -40,37 +51,201 @@ public class TaskList {
      * @param taskIndexNumber The index number of the task to be deleted.
      */
     public void removeTask(int taskIndexNumber) {
-        this.taskList.remove(taskIndexNumber - 1);
+        Task removedTask = this.taskList.remove(taskIndexNumber - 1);
+        getTasksByID().remove(removedTask.getTaskID());
+        if (this.taskIndex != null) {
+            this.taskIndex.delete(removedTask);
+        }
+        removedTask.setOwningTaskList(null);
+        this.version++;
+        if (this.projectChanges != null) {
+            this.projectChanges.recordTaskRemoved(removedTask.getTaskID());
+        }
+    }
+
+    /**
+     * Replaces the task with the same task ID as the given task, keeping its position in the list.
+     * @param updatedTask Task containing the updated details.
+     * @return true if a task with the same ID was found and replaced, false otherwise.
+     */
+    public boolean replaceTask(Task updatedTask) {
+        int index = this.taskList.indexOf(updatedTask);
+        if (index < 0) {
+            return false;
+        }
+        Task replacedTask = this.taskList.get(index);
+        replacedTask.setOwningTaskList(null);
+        if (this.taskIndex != null) {
+            this.taskIndex.replace(replacedTask, updatedTask);
+        }
+        this.taskList.set(index, updatedTask);
+        getTasksByID().put(updatedTask.getTaskID(), updatedTask);
+        updatedTask.setOwningTaskList(this);
+        onTaskChanged(updatedTask);
+        return true;
+    }
+
+    /**
+     * Reorders the tasks to follow the given order of task IDs. Tasks whose IDs are not given keep their relative
+     * order and are placed behind those that are.
+     * @param orderedTaskIDs Task IDs in the desired order.
+     */
+    public void reorderTasks(ArrayList<String> orderedTaskIDs) {
+        HashMap<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < orderedTaskIDs.size(); i++) {
+            positions.put(orderedTaskIDs.get(i), i);
+        }
+        this.taskList.sort(Comparator.comparing(task -> positions.getOrDefault(task.getTaskID(),
+            Integer.MAX_VALUE)));
+        onTaskOrderChanged();
+    }
+
+    /**
+     * Sets the record of changes that edits to this list and its tasks should be reported to.
+     * @param projectChanges ProjectChanges of the Project holding this list.
+     */
+    public void setProjectChanges(ProjectChanges projectChanges) {
+        this.projectChanges = projectChanges;
+        this.tasksByID = null;
+        this.taskIndex = null;
+        for (Task task : this.taskList) {
+            task.setOwningTaskList(this);
+        }
+    }
+
+    /**
+     * Returns the task with the given task ID, looked up in an index kept alongside the list.
+     * @param taskID The unique ID of the task.
+     * @return The task with the given ID, or null if it is not in this list.
+     */
+    public Task getTaskFromID(String taskID) {
+        return getTasksByID().get(taskID);
+    }
+
+    /**
+     * Returns the index of tasks by task ID. Lists read back by the Storage layer do not go through the
+     * constructor, so the index is built from the list the first time it is needed.
+     */
+    private HashMap<String, Task> getTasksByID() {
+        if (this.tasksByID == null) {
+            this.tasksByID = new HashMap<>();
+            for (Task task : this.taskList) {
+                this.tasksByID.put(task.getTaskID(), task);
+            }
+        }
+        return this.tasksByID;
+    }
+
+    /**
+     * Returns the secondary indexes of this list, building them from the list the first time they are needed.
+     */
+    private TaskIndex getTaskIndex() {
+        if (this.taskIndex == null) {
+            this.taskIndex = new TaskIndex(this.taskList);
+        }
+        return this.taskIndex;
+    }
+
+    /**
+     * Returns the tasks in the given state, in the order they are listed.
+     * @param taskState State of the tasks.
+     * @return The tasks in the given state.
+     */
+    public ArrayList<Task> getTasksInState(TaskState taskState) {
+        return getTaskIndex().getTasksInState(taskState);
+    }
+
+    /**
+     * Returns the tasks with the given priority, in the order they are listed.
+     * @param taskPriority Priority of the tasks.
+     * @return The tasks with the given priority.
+     */
+    public ArrayList<Task> getTasksWithPriority(int taskPriority) {
+        return getTaskIndex().getTasksWithPriority(taskPriority);
+    }
+
+    /**
+     * Returns the tasks in order of priority, with tasks of the same priority in the order they are listed.
+     * @return The tasks ordered by priority.
+     */
+    public ArrayList<Task> getTasksByPriority() {
+        return getTaskIndex().getTasksByPriority();
+    }
+
+    /**
+     * Returns the tasks that have a due date, from the earliest due date to the latest.
+     * @return The tasks ordered by due date.
+     */
+    public ArrayList<Task> getTasksByDueDate() {
+        return getTaskIndex().getTasksDueBetween(null, null);
+    }
+
+    /**
+     * Returns the 1-based index number of a task in this list.
+     * @param task Task in this list.
+     * @return The index number of the task, or 0 if the task is not in this list.
+     */
+    public int getIndexNumber(Task task) {
+        return getTaskIndex().getPosition(task) + 1;
+    }
+
+    /**
+     * Returns the number of mutations made to this list and its tasks since it was created or loaded.
+     * @return The mutation version of this list.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Called by a task in this list just before a field it is indexed or totalled by is edited.
+     * @param task The task about to be edited.
+     */
+    void onTaskChanging(Task task) {
+        if (this.taskIndex != null) {
+            this.taskIndex.remove(task);
+        }
+    }
+
+    /**
+     * Called by a task in this list whenever its details are edited.
+     * @param task The task that has been edited.
+     */
+    void onTaskChanged(Task task) {
+        if (this.taskIndex != null) {
+            this.taskIndex.add(task);
+        }
+        this.version++;
+        if (this.projectChanges != null) {
+            this.projectChanges.recordTaskChanged(task.getTaskID());
+        }
     }
 
     /**
      * Returns an ArrayList with String descriptions of task details.
-     * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
+     * @param project Project holding the assignments of the tasks.
      * @return An ArrayList with String descriptions of task details sorted by name by default.
      */
-    public ArrayList<String> getAllTaskDetails(
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers, Project project) {
+    public ArrayList<String> getAllTaskDetails(Project project) {
         // after implementing task index, change "/PRIORITY" to "/INDEX"
-        return this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers,taskList,"-priority", project);
+        return parseSortTaskDetails("-priority", project);
     }
 
     /**
      * Returns an ArrayList with String descriptions of task details to be presented in table format.
-     * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
+     * @param sortCriteria Criteria to sort chosen by user.
+     * @param project Project holding the assignments of the tasks.
      * @return An ArrayList with String descriptions of task details sorted by name by default to be presented in table
      *         format.
      */
-    public ArrayList<ArrayList<String>> getAllTaskDetailsForTable(
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
-                                                       String sortCriteria, Project project) {
+    public ArrayList<ArrayList<String>> getAllTaskDetailsForTable(String sortCriteria, Project project) {
         ArrayList<ArrayList<String>> allTaskDetailsForTable = new ArrayList<>();
         ArrayList<String> messageForEmptyTaskTable = new ArrayList<>();
         if (this.taskList.size() == 0) {
             messageForEmptyTaskTable.add(" - There are currently no tasks! -");
             allTaskDetailsForTable.add(messageForEmptyTaskTable);
         } else {
-            ArrayList<String> allTaskDetails = this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers,
-                    taskList, sortCriteria, project);
+            ArrayList<String> allTaskDetails = parseSortTaskDetails(sortCriteria, project);
             if (sortCriteria.substring(0, 5).equals("-who ") && allTaskDetails.size() == 0) {
                 messageForEmptyTaskTable.add(" - There are no tasks assigned to " + sortCriteria.substring(5) + "! -");
                 allTaskDetailsForTable.add(messageForEmptyTaskTable);
@@ -96,14 +271,37 @@ public class TaskList {
 
     /**
      * Returns an ArrayList with String descriptions of task details sorted by the criteria specified by the user.
-     * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
      * @param sortCriteria Criteria to sort chosen by user.
+     * @param project Project holding the assignments of the tasks.
      * @return An ArrayList with String descriptions of task details sorted by the criteria specified by the user.
      */
-    public ArrayList<String> getAllSortedTaskDetails(
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
-                                                     String sortCriteria, Project project) {
-        return this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers, taskList, sortCriteria, project);
+    public ArrayList<String> getAllSortedTaskDetails(String sortCriteria, Project project) {
+        return parseSortTaskDetails(sortCriteria, project);
+    }
+
+    /**
+     * Sorting by name, priority or credits reorders the tasks in this list, which changes the task index numbers
+     * seen by the user. Such a reordering is recorded so that it is persisted like any other edit.
+     */
+    private ArrayList<String> parseSortTaskDetails(String sortCriteria, Project project) {
+        ArrayList<Task> orderBeforeSorting = new ArrayList<>(this.taskList);
+        ArrayList<String> sortedTaskDetails = this.parserHelper.parseSortTaskDetails(this, sortCriteria, project);
+        if (!orderBeforeSorting.equals(this.taskList)) {
+            onTaskOrderChanged();
+        }
+        return sortedTaskDetails;
+    }
+
+    /**
+     * The secondary indexes keep their tasks in list order, so they are dropped and built again in the new order
+     * the next time they are needed.
+     */
+    private void onTaskOrderChanged() {
+        this.taskIndex = null;
+        this.version++;
+        if (this.projectChanges != null) {
+            this.projectChanges.recordTaskOrderChanged();
+        }
     }
 
     /**
@@ -323,7 +521,7 @@ public class TaskList {
     }
 
     public boolean contains(Task task) {
-        return (taskList.contains(task));
+        return getTasksByID().containsKey(task.getTaskID());
     }
 
     /**
@@ -331,10 +529,9 @@ public class TaskList {
      * @return String array of details of task which has the closest deadline.
      */
     public String[] getClosestDeadlineTask() {
-        ArrayList<String> sortedTaskList = sortHelper.sortTaskDueDate(this.taskList);
-        for (String task : sortedTaskList) {
-            if (!task.contains("State: DONE")) {
-                return task.substring(3).split(" [|] ");
+        for (Task task : getTasksByDueDate()) {
+            if (task.getTaskState() != TaskState.DONE) {
+                return task.getDetails().split(" [|] ");
             }
         }
         String[] message = new String[2];
@@ -344,27 +541,17 @@ public class TaskList {
     }
 
     /**
-     * Method to calculate progress and store in presentable String format.
+     * Method to calculate progress and store in presentable String format, from the credit totals kept for each
+     * task state.
      * @return String array containing output for overall progress to be printed in table.
      */
     public String[] getOverallProgress() {
-        int totalCredits = 0;
-        double creditsOpen = 0;
-        double creditsTodo = 0;
-        double creditsDoing = 0;
-        double creditsDone = 0;
-        for (Task task : this.taskList) {
-            totalCredits += task.getTaskCredit();
-            if (task.getTaskState() == TaskState.DONE) {
-                creditsDone += task.getTaskCredit();
-            } else if (task.getTaskState() == TaskState.DOING) {
-                creditsDoing += task.getTaskCredit();
-            } else if (task.getTaskState() == TaskState.TODO) {
-                creditsTodo += task.getTaskCredit();
-            } else {
-                creditsOpen += task.getTaskCredit();
-            }
-        }
+        TaskIndex taskIndex = getTaskIndex();
+        double creditsOpen = taskIndex.getCreditsInState(TaskState.OPEN);
+        double creditsTodo = taskIndex.getCreditsInState(TaskState.TODO);
+        double creditsDoing = taskIndex.getCreditsInState(TaskState.DOING);
+        double creditsDone = taskIndex.getCreditsInState(TaskState.DONE);
+        double totalCredits = creditsOpen + creditsTodo + creditsDoing + creditsDone;
         ArrayList<String> progressDetails = new ArrayList<>();
         String percentageDone = Integer.toString((int)(creditsDone / totalCredits * 100));
         progressDetails.add("Completed: " + percentageDone + "%");
@@ -382,13 +569,15 @@ public class TaskList {
      */
     public HashMap<Integer, Integer> getTasksWithinCurrentMonth() {
         HashMap<Integer, Integer> allTasksWithinCurrentMonth = new HashMap<>();
-        String currentMonth = dateTimeHelper.getCurrentMonth();
-        for (Task task : this.taskList) {
-            Date taskDate = task.getDueDate();
-            if (taskDate != null && dateTimeHelper.getMonthFromDateObject(taskDate).equals(currentMonth)) {
-                int dayOfTaskDueDate = dateTimeHelper.getDayFromDateObject(taskDate);
-                allTasksWithinCurrentMonth.merge(dayOfTaskDueDate, 1, Integer::sum);
-            }
+        Calendar monthStart = Calendar.getInstance();
+        monthStart.set(monthStart.get(Calendar.YEAR), monthStart.get(Calendar.MONTH), 1, 0, 0, 0);
+        monthStart.set(Calendar.MILLISECOND, 0);
+        Calendar nextMonthStart = (Calendar) monthStart.clone();
+        nextMonthStart.add(Calendar.MONTH, 1);
+        for (Task task : getTaskIndex().getTasksDueBetween(monthStart.getTimeInMillis(),
+                nextMonthStart.getTimeInMillis())) {
+            int dayOfTaskDueDate = dateTimeHelper.getDayFromDateObject(task.getDueDate());
+            allTasksWithinCurrentMonth.merge(dayOfTaskDueDate, 1, Integer::sum);
         }
         return allTasksWithinCurrentMonth;
     }
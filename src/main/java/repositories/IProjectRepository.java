@@ -0,0 +1,30 @@
+package repositories;
+
+import models.project.Project;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public interface IProjectRepository extends IRepository<Project> {
+    int getNumOfProjects();
+
+    void waitForPendingWrites();
+
+    ArrayList<String> flushDirtyProjects();
+
+    ArrayList<String> takeLoadErrors();
+
+    String[] archiveItem(int indexNumber);
+
+    String[] unarchiveItem(int indexNumber);
+
+    boolean isArchived(int indexNumber);
+
+    String[] verifyReplica();
+
+    ArrayList<ArrayList<String>> getAllProjectsDetailsForTable();
+
+    ArrayList<String> getProjectDetailsForTable(Project selectedProject);
+
+    HashMap<Integer, Integer> getAllTasksInCurrentMonth(Project project);
+}
@@ -0,0 +1,62 @@
+package repositories;
+
+import models.project.Project;
+import util.log.ArchDukeLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+class ProjectFlusher {
+    private ProjectFlusher() {
+    }
+
+    /**
+     * Saves every given Project by its own task on the common fork-join pool, so that saving them all takes about as
+     * long as saving the largest one. Projects still being saved once the deadline has passed are left to finish in
+     * the background and reported as such.
+     * @param dirtyProjects : Projects holding changes that have not been saved yet.
+     * @param projectSaver : saves a single Project, returning false if it could not be saved.
+     * @param deadlineMillis : time all the Projects have to be saved in, in milliseconds.
+     * @return : Returns the result of saving each Project, in the order they were given.
+     */
+    static ArrayList<String> flush(List<Project> dirtyProjects, Predicate<Project> projectSaver,
+                                   long deadlineMillis) {
+        final long startTime = System.nanoTime();
+        ArrayList<ForkJoinTask<Long>> savingTasks = new ArrayList<>();
+        for (Project project : dirtyProjects) {
+            savingTasks.add(ForkJoinPool.commonPool().submit(() -> {
+                long projectStartTime = System.nanoTime();
+                return projectSaver.test(project) ? System.nanoTime() - projectStartTime : -1L;
+            }));
+        }
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        ArrayList<String> flushResults = new ArrayList<>();
+        for (int i = 0; i < dirtyProjects.size(); i++) {
+            String projectName = dirtyProjects.get(i).getName();
+            try {
+                long savingTime = savingTasks.get(i).get(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+                flushResults.add(savingTime < 0 ? projectName + " could not be saved."
+                    : "Saved " + projectName + " in " + TimeUnit.NANOSECONDS.toMillis(savingTime) + " ms.");
+            } catch (TimeoutException err) {
+                flushResults.add(projectName + " was not saved within " + deadlineMillis + " ms.");
+            } catch (ExecutionException err) {
+                flushResults.add(projectName + " could not be saved.");
+                ArchDukeLogger.logError(ProjectFlusher.class.getName(), "Project " + projectName + " not saved: "
+                    + err.getCause());
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+                flushResults.add(projectName + " was not saved within " + deadlineMillis + " ms.");
+            }
+        }
+        ArchDukeLogger.logInfo(ProjectFlusher.class.getName(), dirtyProjects.size() + " projects flushed in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms.");
+        return flushResults;
+    }
+}
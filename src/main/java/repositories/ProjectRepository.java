@@ -3,34 +3,88 @@ package repositories;
 import exceptions.DukeException;
 import models.project.IProject;
 import models.project.Project;
+import models.project.ProjectSummary;
 import util.factories.ProjectFactory;
+import storage.AsyncProjectWriter;
 import storage.JsonConverter;
 import util.log.ArchDukeLogger;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static util.constant.ConstantHelper.LOADED_PROJECTS_ENTITY_BUDGET;
+import static util.constant.ConstantHelper.SAVE_QUEUE_CAPACITY;
+import static util.constant.ConstantHelper.SHUTDOWN_FLUSH_DEADLINE_MILLIS;
 
 //@@author Lucria
-public class ProjectRepository implements IRepository<Project> {
-    private ArrayList<Project> allProjects;
+public class ProjectRepository implements IProjectRepository {
+    private ArrayList<ProjectSummary> projectCatalog;
+    private LinkedHashMap<String, Project> loadedProjects;
+    private long loadedProjectsBudget;
     private ProjectFactory projectFactory = new ProjectFactory();
-    private JsonConverter jsonConverter = new JsonConverter();
+    private JsonConverter jsonConverter;
+    private AsyncProjectWriter asyncProjectWriter;
+    private Map<Project, Long> savedVersions = Collections.synchronizedMap(new IdentityHashMap<>());
 
     /**
      * Constructor of ProjectRepository.
      * It first gets resources from packaged jar.
-     * Next, it loads any projects data in the current working directory.
+     * Next, it loads the summaries of any projects data in the current working directory.
      * Lastly, it adds any resources found in packaged jar into the data found in current working directory.
      */
     public ProjectRepository() {
-        allProjects = jsonConverter.loadAllProjectsData();
+        this(new JsonConverter(), LOADED_PROJECTS_ENTITY_BUDGET);
+    }
+
+    /**
+     * Constructor mainly used for testing.
+     * Projects are only loaded into memory when they are retrieved, and the least recently retrieved Projects are
+     * dropped from memory once the Projects loaded hold more tasks and members than the given budget.
+     * @param jsonConverter : JsonConverter used to load and save Projects.
+     * @param loadedProjectsBudget : number of tasks and members the Projects kept in memory may hold in total.
+     */
+    public ProjectRepository(JsonConverter jsonConverter, long loadedProjectsBudget) {
+        this.jsonConverter = jsonConverter;
+        this.loadedProjectsBudget = loadedProjectsBudget;
+        this.asyncProjectWriter = new AsyncProjectWriter(jsonConverter, SAVE_QUEUE_CAPACITY, this::recordSavedVersion);
+        this.loadedProjects = new LinkedHashMap<>(16, 0.75f, true);
+        this.projectCatalog = jsonConverter.loadProjectCatalog();
     }
 
+    /**
+     * Method to retrieve all Projects that are not archived. Every Project that is not in memory yet is loaded, so
+     * getNumOfProjects should be used when only the number of Projects is needed.
+     * @return : Returns an ArrayList of all Projects that are not archived.
+     */
     @Override
     public ArrayList<Project> getAll() {
+        ArrayList<Project> allProjects = new ArrayList<>();
+        for (int i = 1; i <= projectCatalog.size(); i++) {
+            if (isArchived(i)) {
+                continue;
+            }
+            Project project = getItem(i);
+            if (project != null) {
+                allProjects.add(project);
+            }
+        }
         return allProjects;
     }
 
+    @Override
+    public int getNumOfProjects() {
+        return projectCatalog.size();
+    }
+
+    public int getNumOfLoadedProjects() {
+        return loadedProjects.size();
+    }
+
     @Override
     public boolean addToRepo(String input) {
         IProject newProject = projectFactory.create(input);
@@ -40,43 +94,156 @@ public class ProjectRepository implements IRepository<Project> {
             return false;
         }
         Project newlyCreatedProject = (Project) newProject;
-        allProjects.add(newlyCreatedProject);
+        projectCatalog.add(new ProjectSummary(newlyCreatedProject));
         jsonConverter.saveProject(newlyCreatedProject);
+        savedVersions.put(newlyCreatedProject, newlyCreatedProject.getVersion());
+        keepInMemory(newlyCreatedProject);
         return true;
     }
 
     /**
-     * Method to retrieve a Project from ArrayList of Projects.
+     * Method to retrieve a Project from ArrayList of Projects. The Project is loaded from its saved file if it is not
+     * in memory, which may drop the least recently retrieved Projects from memory. A Project that cannot be loaded
+     * stays listed, so that the other Projects keep their index numbers, and the reason is kept in takeLoadErrors.
      * @param indexNumber : Index of Project that user wishes to retrieve
-     * @return Returns the Project object desired by user
+     * @return Returns the Project object desired by user, or null if it is archived or its saved file could not be
+     *         loaded
      */
     public Project getItem(int indexNumber) {
-        return this.allProjects.get(indexNumber - 1);
+        String projectName = this.projectCatalog.get(indexNumber - 1).getName();
+        Project project = loadedProjects.get(projectName);
+        if (project != null) {
+            return project;
+        }
+        if (isArchived(indexNumber)) {
+            return null;
+        }
+        asyncProjectWriter.flush();
+        project = jsonConverter.loadProject(projectName);
+        if (project == null) {
+            return null;
+        }
+        ArchDukeLogger.logDebug(ProjectRepository.class.getName(), "Project loaded into memory: " + projectName);
+        savedVersions.put(project, project.getVersion());
+        keepInMemory(project);
+        return project;
     }
 
     /**
-     * Method responsible for deleting an old JSON and creating a new JSON file after a Project renames itself.
+     * Method responsible for renaming a Project in the manifest of the data directory. The saved files of the Project
+     * are named after its ID, so they are left as they are.
      * @param project : Project that is being renamed.
      * @param input : New name for the Project.
-     * @return : Returns a boolean flag stating whether the deletion and recreation of JSon was successful or not.
+     * @return : Returns a boolean flag stating whether the Project was renamed in the manifest or not.
      */
     public boolean updateItem(Project project, String input) {
-        try {
-            jsonConverter.deleteProject(project);
-        } catch (DukeException e) {
+        asyncProjectWriter.flush();
+        final String oldName = project.getName();
+        if (!jsonConverter.renameProject(oldName, input)) {
             return false;
         }
         project.setName(input);
-        jsonConverter.saveProject(project);
+        savedVersions.put(project, project.getVersion());
+        loadedProjects.remove(oldName);
+        loadedProjects.put(project.getName(), project);
+        int catalogIndex = getCatalogIndex(oldName);
+        if (catalogIndex >= 0) {
+            projectCatalog.set(catalogIndex, new ProjectSummary(project));
+        }
         return true;
     }
 
     /**
-     * Method to force save an Object to the Data layer.
+     * Method to save the changes made to an Object to the Data layer.
+     * Only the changes made since the Object was last saved are written, and nothing is written if the version of
+     * the Object has not moved since then. The changes are written in the background by the AsyncProjectWriter,
+     * which records the saved version once the save has succeeded, so a failed save is submitted again next time.
      * @param project : Object to be saved.
      */
     public void saveToRepo(Project project) {
-        jsonConverter.saveProject(project);
+        if (isSaved(project)) {
+            return;
+        }
+        asyncProjectWriter.submit(project);
+    }
+
+    /**
+     * Records the version a Project was saved at, unless the Project has been dropped from memory since.
+     */
+    private void recordSavedVersion(Project project, long version) {
+        savedVersions.computeIfPresent(project, (savedProject, savedVersion) -> version);
+    }
+
+    /**
+     * Method to retrieve the reasons why saved files, or damaged records within them, could not be loaded since the
+     * last call, so that they can be shown to the user.
+     * @return : Returns an ArrayList of error messages in the order they occurred.
+     */
+    @Override
+    public ArrayList<String> takeLoadErrors() {
+        return jsonConverter.takeLoadErrors();
+    }
+
+    /**
+     * Method to wait for any saves still being written in the background, called before ArchDuke exits. The project
+     * catalog is saved afterwards, so that the next start up only needs to load the Projects that are managed.
+     */
+    @Override
+    public void waitForPendingWrites() {
+        asyncProjectWriter.flush();
+        for (Project project : loadedProjects.values()) {
+            updateSummary(project);
+        }
+        jsonConverter.saveProjectCatalog(projectCatalog);
+    }
+
+    /**
+     * Method to save every Project in memory that still holds unsaved changes, called when ArchDuke exits. The
+     * Projects are saved in parallel within SHUTDOWN_FLUSH_DEADLINE_MILLIS, after which the saves still waiting in
+     * the background are flushed and the project catalog is saved as on waitForPendingWrites. Projects that have
+     * never been snapshotted are serialized in parallel but written one at a time by the snapshot writer. Only the
+     * Projects saved in time are recorded as saved; the others are reported and kept dirty.
+     * @return : Returns the result of saving each Project that held unsaved changes.
+     */
+    @Override
+    public ArrayList<String> flushDirtyProjects() {
+        ArrayList<Project> dirtyProjects = new ArrayList<>();
+        for (Project project : loadedProjects.values()) {
+            synchronized (project) {
+                if (!project.getProjectChanges().isEmpty()) {
+                    dirtyProjects.add(project);
+                }
+            }
+        }
+        ArrayList<String> flushResults = ProjectFlusher.flush(dirtyProjects, project -> {
+            synchronized (project) {
+                long version = project.getVersion();
+                if (!jsonConverter.saveChanges(project)) {
+                    return false;
+                }
+                recordSavedVersion(project, version);
+                return true;
+            }
+        }, SHUTDOWN_FLUSH_DEADLINE_MILLIS);
+        waitForPendingWrites();
+        if (!jsonConverter.awaitReplica(SHUTDOWN_FLUSH_DEADLINE_MILLIS)) {
+            flushResults.add("The replica has not caught up with the saved projects yet.");
+        }
+        return flushResults;
+    }
+
+    /**
+     * Method to check that the replica of the data directory matches it and can be loaded.
+     * @return : Returns the outcome of the check, to be shown to the user.
+     */
+    @Override
+    public String[] verifyReplica() {
+        asyncProjectWriter.flush();
+        return jsonConverter.verifyReplica().toArray(new String[0]);
+    }
+
+    public AsyncProjectWriter getAsyncProjectWriter() {
+        return asyncProjectWriter;
     }
 
     /**
@@ -85,9 +252,10 @@ public class ProjectRepository implements IRepository<Project> {
      * @return Returns a boolean that states whether the project is deleted successfully
      */
     public String[] deleteItem(int indexNumber) {
+        asyncProjectWriter.flush();
         try {
-            jsonConverter.deleteProject(allProjects.get(indexNumber - 1));
-            this.allProjects.remove(indexNumber - 1);
+            jsonConverter.deleteProject(projectCatalog.get(indexNumber - 1).getName());
+            removeFromRepo(indexNumber - 1);
             return new String[]{"Project " + indexNumber + " has been deleted"};
         } catch (IndexOutOfBoundsException err) {
             return new String[]{
@@ -97,7 +265,7 @@ public class ProjectRepository implements IRepository<Project> {
                 "You could have attempted to delete the default Project loaded immediately. "
                     + "Do not panic if this was you. The default Project is deleted correctly"};
         } catch (DukeException err) {
-            this.allProjects.remove(indexNumber - 1);
+            removeFromRepo(indexNumber - 1);
             return new String[]{
                 "Error occurred! There could be three possibilities:",
                 "You could have attempted to delete a Project after renaming it's JSON file",
@@ -107,49 +275,153 @@ public class ProjectRepository implements IRepository<Project> {
         }
     }
 
+    /**
+     * Method to move a Project into cold storage. The Project is dropped from memory and is no longer loaded on start
+     * up, but stays listed under the same index until it is unarchived.
+     * @param indexNumber : Index of Project that user wishes to archive.
+     * @return : Returns the messages to be shown to the user.
+     */
+    @Override
+    public String[] archiveItem(int indexNumber) {
+        if (indexNumber < 1 || indexNumber > projectCatalog.size()) {
+            return new String[] {"Error occurred! You could have entered a Project index is out of bounds."};
+        }
+        if (isArchived(indexNumber)) {
+            return new String[] {"Project " + indexNumber + " is already archived."};
+        }
+        asyncProjectWriter.flush();
+        Project project = getItem(indexNumber);
+        if (project == null) {
+            return new String[] {"Project " + indexNumber + " could not be loaded, so it was not archived."};
+        }
+        ProjectSummary projectSummary = jsonConverter.archiveProject(project);
+        if (projectSummary == null) {
+            return new String[] {"Project " + indexNumber + " could not be archived."};
+        }
+        loadedProjects.remove(project.getName());
+        savedVersions.remove(project);
+        projectCatalog.set(getCatalogIndex(project.getName()), projectSummary);
+        return new String[] {"Project " + indexNumber + " has been archived."};
+    }
+
+    /**
+     * Method to bring a Project back out of cold storage, after which it can be managed again.
+     * @param indexNumber : Index of Project that user wishes to unarchive.
+     * @return : Returns the messages to be shown to the user.
+     */
+    @Override
+    public String[] unarchiveItem(int indexNumber) {
+        if (indexNumber < 1 || indexNumber > projectCatalog.size()) {
+            return new String[] {"Error occurred! You could have entered a Project index is out of bounds."};
+        }
+        if (!isArchived(indexNumber)) {
+            return new String[] {"Project " + indexNumber + " is not archived."};
+        }
+        Project project = jsonConverter.unarchiveProject(projectCatalog.get(indexNumber - 1).getName());
+        if (project == null) {
+            return new String[] {"Project " + indexNumber + " could not be unarchived."};
+        }
+        projectCatalog.set(indexNumber - 1, new ProjectSummary(project));
+        savedVersions.put(project, project.getVersion());
+        keepInMemory(project);
+        return new String[] {"Project " + indexNumber + " has been unarchived."};
+    }
+
+    @Override
+    public boolean isArchived(int indexNumber) {
+        return projectCatalog.get(indexNumber - 1).isArchived();
+    }
+
+    private void removeFromRepo(int catalogIndex) {
+        Project removedProject = loadedProjects.remove(projectCatalog.remove(catalogIndex).getName());
+        if (removedProject != null) {
+            savedVersions.remove(removedProject);
+        }
+    }
+
+    /**
+     * Keeps a Project in memory as the most recently retrieved one, and drops the least recently retrieved Projects
+     * from memory while the loaded Projects hold more tasks and members than the budget. Their summaries are updated
+     * and any unsaved changes are saved before they are dropped. A Project is only dropped once its last save is
+     * confirmed, so one whose changes could not be saved stays in memory until they are.
+     */
+    private void keepInMemory(Project project) {
+        loadedProjects.put(project.getName(), project);
+        long loadedProjectsSize = 0;
+        for (Project loadedProject : loadedProjects.values()) {
+            loadedProjectsSize += getEstimatedSize(loadedProject);
+        }
+        ArrayList<Project> evictedProjects = new ArrayList<>();
+        Iterator<Project> leastRecentlyUsed = loadedProjects.values().iterator();
+        while (loadedProjectsSize > loadedProjectsBudget && loadedProjects.size() > evictedProjects.size() + 1) {
+            Project evictedProject = leastRecentlyUsed.next();
+            evictedProjects.add(evictedProject);
+            loadedProjectsSize -= getEstimatedSize(evictedProject);
+        }
+        boolean isAnySaveSubmitted = false;
+        for (Project evictedProject : evictedProjects) {
+            if (!isSaved(evictedProject)) {
+                saveToRepo(evictedProject);
+                isAnySaveSubmitted = true;
+            }
+        }
+        if (isAnySaveSubmitted) {
+            asyncProjectWriter.flush();
+        }
+        for (Project evictedProject : evictedProjects) {
+            if (!isSaved(evictedProject)) {
+                ArchDukeLogger.logError(ProjectRepository.class.getName(), "Project kept in memory, its changes "
+                    + "could not be saved: " + evictedProject.getName());
+                continue;
+            }
+            updateSummary(evictedProject);
+            savedVersions.remove(evictedProject);
+            loadedProjects.remove(evictedProject.getName());
+            ArchDukeLogger.logDebug(ProjectRepository.class.getName(), "Project dropped from memory: "
+                + evictedProject.getName());
+        }
+    }
+
+    private boolean isSaved(Project project) {
+        Long savedVersion = savedVersions.get(project);
+        return savedVersion != null && savedVersion == project.getVersion();
+    }
+
+    private long getEstimatedSize(Project project) {
+        return 1 + project.getNumOfTasks() + project.getNumOfMembers();
+    }
+
+    private void updateSummary(Project project) {
+        int catalogIndex = getCatalogIndex(project.getName());
+        if (catalogIndex >= 0) {
+            projectCatalog.set(catalogIndex, new ProjectSummary(project));
+        }
+    }
+
+    private int getCatalogIndex(String projectName) {
+        for (int i = 0; i < projectCatalog.size(); i++) {
+            if (projectCatalog.get(i).getName().equals(projectName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     //@@author seanlimhx
     /**
      * Method to get all project details in a suitable form for CLIView to print in a table form.
      * @return ArrayList of details to be presented in each table, with each element as an ArrayList
      *         containing each row in the table.
      */
+    @Override
     public ArrayList<ArrayList<String>> getAllProjectsDetailsForTable() {
-        ArrayList<ArrayList<String>> responseModel = new ArrayList<>();
-        for (int projNum = 0; projNum < allProjects.size(); projNum++) {
-            ArrayList<String> toPrint = new ArrayList<>();
-            toPrint.add("Project " + (projNum + 1) + ": " + allProjects.get(projNum).getName());
-            toPrint.add("Members: ");
-            if (allProjects.get(projNum).getNumOfMembers() == 0) {
-                toPrint.add(" --");
-            } else {
-                for (int memberIndex = 1; memberIndex <= allProjects.get(projNum).getNumOfMembers(); memberIndex++) {
-                    toPrint.add(" " + allProjects.get(projNum).getMemberList().getMember(memberIndex).getDetails());
-                }
-                toPrint.add("");
-            }
-            if (allProjects.get(projNum).getNumOfTasks() == 0) {
-                toPrint.add("Next Deadline: ");
-                toPrint.add(" --");
-            } else {
-                String[] detailsClosestDeadlineTask = allProjects.get(projNum).getTaskList().getClosestDeadlineTask();
-                toPrint.add("Next Deadline: " + detailsClosestDeadlineTask[0]);
-                for (int i = 1; i < detailsClosestDeadlineTask.length; i++) {
-                    toPrint.add(" - " + detailsClosestDeadlineTask[i]);
-                }
-                toPrint.add("");
-            }
-            toPrint.add("Overall Progress: ");
-            if (allProjects.get(projNum).getNumOfTasks() == 0) {
-                toPrint.add(" --");
-            } else {
-                String[] detailsOverallProgress = allProjects.get(projNum).getTaskList().getOverallProgress();
-                for (String detail : detailsOverallProgress) {
-                    toPrint.add(" - " + detail);
-                }
-            }
-            responseModel.add(toPrint);
+        ArrayList<ProjectSummary> projectSummaries = new ArrayList<>();
+        HashMap<String, Project> projectsInMemory = new HashMap<>(loadedProjects);
+        for (ProjectSummary projectSummary : projectCatalog) {
+            Project projectInMemory = projectsInMemory.get(projectSummary.getName());
+            projectSummaries.add(projectInMemory == null ? projectSummary : new ProjectSummary(projectInMemory));
         }
-        return responseModel;
+        return ProjectTableFormatter.formatAllProjects(projectSummaries);
     }
 
     //@@author Lucria
@@ -158,47 +430,12 @@ public class ProjectRepository implements IRepository<Project> {
      * @param selectedProject : current Project that is being managed
      * @return : Returns an ArrayList of String for printing in a user friendly format
      */
+    @Override
     public ArrayList<String> getProjectDetailsForTable(Project selectedProject) {
-        ArrayList<String> responseModel = new ArrayList<>();
-        responseModel.add("Project " + (allProjects.indexOf(selectedProject) + 1) + ": " + selectedProject.getName());
-        responseModel.add("Members: ");
-        if (selectedProject.getNumOfMembers() == 0) {
-            responseModel.add(" --");
-        } else {
-            for (int memberIndex = 1; memberIndex <= selectedProject.getNumOfMembers(); memberIndex++) {
-                responseModel.add(" " + selectedProject.getMemberList().getMember(memberIndex).getDetails());
-            }
-            responseModel.add("");
-        }
-        responseModel.add("Tasks:");
-        if (selectedProject.getNumOfTasks() == 0) {
-            responseModel.add(" --");
-            responseModel.add("Next Deadline: ");
-            responseModel.add(" --");
-        } else {
-            for (int taskIndex = 1; taskIndex <= selectedProject.getNumOfTasks(); taskIndex++) {
-                responseModel.add(" " + taskIndex + ". " + selectedProject.getTask(taskIndex).getDetails());
-            }
-            responseModel.add("");
-            String[] detailsClosestDeadlineTask = selectedProject.getTaskList().getClosestDeadlineTask();
-            responseModel.add("Next Deadline: " + detailsClosestDeadlineTask[0]);
-            for (int i = 1; i < detailsClosestDeadlineTask.length; i++) {
-                responseModel.add(" - " + detailsClosestDeadlineTask[i]);
-            }
-            responseModel.add("");
-        }
-        responseModel.add("Overall Progress: ");
-        if (selectedProject.getNumOfTasks() == 0) {
-            responseModel.add(" --");
-        } else {
-            String[] detailsOverallProgress = selectedProject.getTaskList().getOverallProgress();
-            for (String detail : detailsOverallProgress) {
-                responseModel.add(" - " + detail);
-            }
-        }
-        return responseModel;
+        return ProjectTableFormatter.formatProject(selectedProject, getCatalogIndex(selectedProject.getName()) + 1);
     }
 
+    @Override
     public HashMap<Integer, Integer> getAllTasksInCurrentMonth(Project project) {
         return project.getTaskList().getTasksWithinCurrentMonth();
     }
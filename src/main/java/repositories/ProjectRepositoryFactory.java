@@ -0,0 +1,38 @@
+package repositories;
+
+import util.factories.IArchDukeFactory;
+
+import static util.constant.ConstantHelper.STORAGE_BACKEND_PROPERTY;
+import static util.constant.ConstantHelper.STORAGE_BACKEND_ROWS;
+import static util.constant.ConstantHelper.STORAGE_BACKEND_SHARDS;
+import static util.constant.ConstantHelper.STORAGE_BACKEND_SNAPSHOT;
+
+public class ProjectRepositoryFactory implements IArchDukeFactory<IProjectRepository> {
+    /**
+     * Creation of the IProjectRepository for a storage backend.
+     * @param input : Name of the storage backend, snapshot, rows or shards.
+     * @return Method will return the IProjectRepository of the storage backend, or null if the backend is unknown
+     */
+    @Override
+    public IProjectRepository create(String input) {
+        if (STORAGE_BACKEND_SNAPSHOT.equalsIgnoreCase(input)) {
+            return new ProjectRepository();
+        } else if (STORAGE_BACKEND_ROWS.equalsIgnoreCase(input)) {
+            return new RowProjectRepository();
+        } else if (STORAGE_BACKEND_SHARDS.equalsIgnoreCase(input)) {
+            return new ShardedProjectRepository();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the IProjectRepository of the storage backend configured through the archduke.storage.backend system
+     * property. Snapshots are used when the property is not set or names an unknown backend.
+     * @return : Returns the IProjectRepository that Projects should be kept in.
+     */
+    public IProjectRepository createConfiguredRepository() {
+        IProjectRepository configuredRepository = create(System.getProperty(STORAGE_BACKEND_PROPERTY,
+            STORAGE_BACKEND_SNAPSHOT));
+        return configuredRepository == null ? new ProjectRepository() : configuredRepository;
+    }
+}
@@ -0,0 +1,108 @@
+package repositories;
+
+import models.project.Project;
+import models.project.ProjectSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ProjectTableFormatter {
+    private ProjectTableFormatter() {
+    }
+
+    //@@author seanlimhx
+    /**
+     * Method to get the details of Projects in a suitable form for CLIView to print in a table form.
+     * @param projectSummaries : Summaries of the Projects, in the order they are numbered in.
+     * @return ArrayList of details to be presented in each table, with each element as an ArrayList
+     *         containing each row in the table.
+     */
+    static ArrayList<ArrayList<String>> formatAllProjects(List<ProjectSummary> projectSummaries) {
+        ArrayList<ArrayList<String>> responseModel = new ArrayList<>();
+        for (int projNum = 0; projNum < projectSummaries.size(); projNum++) {
+            ProjectSummary projectSummary = projectSummaries.get(projNum);
+            ArrayList<String> toPrint = new ArrayList<>();
+            toPrint.add("Project " + (projNum + 1) + ": " + projectSummary.getName()
+                + (projectSummary.isArchived() ? " (archived)" : ""));
+            toPrint.add("Members: ");
+            if (projectSummary.getNumOfMembers() == 0) {
+                toPrint.add(" --");
+            } else {
+                for (String memberDetails : projectSummary.getMemberDetails()) {
+                    toPrint.add(" " + memberDetails);
+                }
+                toPrint.add("");
+            }
+            if (projectSummary.getNumOfTasks() == 0) {
+                toPrint.add("Next Deadline: ");
+                toPrint.add(" --");
+            } else {
+                String[] detailsClosestDeadlineTask = projectSummary.getClosestDeadline();
+                toPrint.add("Next Deadline: " + detailsClosestDeadlineTask[0]);
+                for (int i = 1; i < detailsClosestDeadlineTask.length; i++) {
+                    toPrint.add(" - " + detailsClosestDeadlineTask[i]);
+                }
+                toPrint.add("");
+            }
+            toPrint.add("Overall Progress: ");
+            if (projectSummary.getNumOfTasks() == 0) {
+                toPrint.add(" --");
+            } else {
+                for (String detail : projectSummary.getOverallProgress()) {
+                    toPrint.add(" - " + detail);
+                }
+            }
+            responseModel.add(toPrint);
+        }
+        return responseModel;
+    }
+
+    //@@author Lucria
+    /**
+     * Method for getting the details about the currently managed Project for ProjectInputController.
+     * @param selectedProject : current Project that is being managed
+     * @param projectNumber : number the Project is listed under
+     * @return : Returns an ArrayList of String for printing in a user friendly format
+     */
+    static ArrayList<String> formatProject(Project selectedProject, int projectNumber) {
+        ArrayList<String> responseModel = new ArrayList<>();
+        responseModel.add("Project " + projectNumber + ": " + selectedProject.getName());
+        responseModel.add("Members: ");
+        if (selectedProject.getNumOfMembers() == 0) {
+            responseModel.add(" --");
+        } else {
+            for (int memberIndex = 1; memberIndex <= selectedProject.getNumOfMembers(); memberIndex++) {
+                responseModel.add(" " + selectedProject.getMemberList().getMember(memberIndex).getDetails());
+            }
+            responseModel.add("");
+        }
+        responseModel.add("Tasks:");
+        if (selectedProject.getNumOfTasks() == 0) {
+            responseModel.add(" --");
+            responseModel.add("Next Deadline: ");
+            responseModel.add(" --");
+        } else {
+            for (int taskIndex = 1; taskIndex <= selectedProject.getNumOfTasks(); taskIndex++) {
+                responseModel.add(" " + taskIndex + ". " + selectedProject.getTask(taskIndex).getDetails());
+            }
+            responseModel.add("");
+            String[] detailsClosestDeadlineTask = selectedProject.getTaskList().getClosestDeadlineTask();
+            responseModel.add("Next Deadline: " + detailsClosestDeadlineTask[0]);
+            for (int i = 1; i < detailsClosestDeadlineTask.length; i++) {
+                responseModel.add(" - " + detailsClosestDeadlineTask[i]);
+            }
+            responseModel.add("");
+        }
+        responseModel.add("Overall Progress: ");
+        if (selectedProject.getNumOfTasks() == 0) {
+            responseModel.add(" --");
+        } else {
+            String[] detailsOverallProgress = selectedProject.getTaskList().getOverallProgress();
+            for (String detail : detailsOverallProgress) {
+                responseModel.add(" - " + detail);
+            }
+        }
+        return responseModel;
+    }
+
+}
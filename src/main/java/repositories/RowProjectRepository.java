@@ -0,0 +1,29 @@
+package repositories;
+
+import storage.ProjectRowStore;
+
+import java.io.File;
+
+import static util.constant.ConstantHelper.ROW_STORE_DIRECTORY_NAME;
+
+public class RowProjectRepository extends StoreBackedProjectRepository {
+    /**
+     * Constructor of RowProjectRepository, which keeps Projects as rows in the rows folder of the current working
+     * directory instead of as snapshots.
+     */
+    public RowProjectRepository() {
+        this(System.getProperty("user.dir") + File.separator + ROW_STORE_DIRECTORY_NAME, true);
+    }
+
+    /**
+     * Constructor mainly used for testing.
+     * Every Project is kept in its own ProjectRowStore, so saving a Project only writes the rows of the tasks,
+     * members, reminders and assignments that have changed since it was last saved.
+     * @param directory : directory where the rows of the Projects are kept.
+     * @param isSeededFromJar : whether the Projects packaged in the jar are added if no Project of the same name has
+     *                        been saved yet.
+     */
+    public RowProjectRepository(String directory, boolean isSeededFromJar) {
+        super(directory, ProjectRowStore.FILE_EXTENSION, ProjectRowStore::new, isSeededFromJar);
+    }
+}
@@ -0,0 +1,29 @@
+package repositories;
+
+import storage.ProjectShardStore;
+
+import java.io.File;
+
+import static util.constant.ConstantHelper.SHARD_STORE_DIRECTORY_NAME;
+
+public class ShardedProjectRepository extends StoreBackedProjectRepository {
+    /**
+     * Constructor of ShardedProjectRepository, which keeps Projects as folders of shards in the shards folder of the
+     * current working directory instead of as snapshots.
+     */
+    public ShardedProjectRepository() {
+        this(System.getProperty("user.dir") + File.separator + SHARD_STORE_DIRECTORY_NAME, true);
+    }
+
+    /**
+     * Constructor mainly used for testing.
+     * Every Project is kept in its own ProjectShardStore, so saving a Project only rewrites the shards holding the
+     * tasks, members, reminders and assignments that have changed since it was last saved.
+     * @param directory : directory where the shards of the Projects are kept.
+     * @param isSeededFromJar : whether the Projects packaged in the jar are added if no Project of the same name has
+     *                        been saved yet.
+     */
+    public ShardedProjectRepository(String directory, boolean isSeededFromJar) {
+        super(directory, ProjectShardStore.FILE_EXTENSION, ProjectShardStore::new, isSeededFromJar);
+    }
+}
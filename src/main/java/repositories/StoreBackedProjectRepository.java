@@ -0,0 +1,295 @@
+package repositories;
+
+import models.project.IProject;
+import models.project.Project;
+import models.project.ProjectSummary;
+import storage.JsonConverter;
+import storage.IProjectStore;
+import util.factories.ProjectFactory;
+import util.log.ArchDukeLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static util.constant.ConstantHelper.SHUTDOWN_FLUSH_DEADLINE_MILLIS;
+
+public abstract class StoreBackedProjectRepository implements IProjectRepository {
+    private ArrayList<Project> allProjects;
+    private IdentityHashMap<Project, IProjectStore> projectStores;
+    private Map<Project, Long> savedVersions;
+    private ProjectFactory projectFactory = new ProjectFactory();
+    private String directory;
+    private String fileExtension;
+    private Function<File, IProjectStore> projectStoreFactory;
+    private ArrayList<String> loadErrors;
+
+    /**
+     * Constructor for repositories that keep every Project in its own IProjectStore, so that saving a Project only
+     * writes what has changed since it was last saved. Every Project is loaded on start up.
+     * @param directory : directory where the stores of the Projects are kept.
+     * @param fileExtension : extension of the file or folder of each store, appended to the name of its Project.
+     * @param projectStoreFactory : creates the store kept in a given file or folder.
+     * @param isSeededFromJar : whether the Projects packaged in the jar are added if no Project of the same name has
+     *                        been saved yet.
+     */
+    protected StoreBackedProjectRepository(String directory, String fileExtension,
+                                           Function<File, IProjectStore> projectStoreFactory,
+                                           boolean isSeededFromJar) {
+        this.directory = directory;
+        this.fileExtension = fileExtension;
+        this.projectStoreFactory = projectStoreFactory;
+        this.allProjects = new ArrayList<>();
+        this.projectStores = new IdentityHashMap<>();
+        this.savedVersions = Collections.synchronizedMap(new IdentityHashMap<>());
+        this.loadErrors = new ArrayList<>();
+        new File(directory).mkdirs();
+        loadAllProjects();
+        if (isSeededFromJar) {
+            seedProjectsFromJar();
+        }
+    }
+
+    @Override
+    public ArrayList<Project> getAll() {
+        return allProjects;
+    }
+
+    @Override
+    public int getNumOfProjects() {
+        return allProjects.size();
+    }
+
+    @Override
+    public boolean addToRepo(String input) {
+        IProject newProject = projectFactory.create(input);
+        if (newProject.getName() == null || newProject.getMemberList() == null) {
+            return false;
+        }
+        return addProject((Project) newProject);
+    }
+
+    @Override
+    public Project getItem(int indexNumber) {
+        return allProjects.get(indexNumber - 1);
+    }
+
+    /**
+     * Method responsible for renaming the store of a Project after the Project renames itself.
+     * @param project : Project that is being renamed.
+     * @param input : New name for the Project.
+     * @return : Returns a boolean flag stating whether the store was renamed successfully or not.
+     */
+    @Override
+    public boolean updateItem(Project project, String input) {
+        IProjectStore projectStore = projectStores.get(project);
+        final String oldName = project.getName();
+        project.setName(input);
+        try {
+            projectStore.rename(project, getStoreFile(input));
+        } catch (IOException err) {
+            ArchDukeLogger.logError(StoreBackedProjectRepository.class.getName(), "Project " + oldName
+                + " could not be renamed: " + err.getMessage());
+            project.setName(oldName);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Method to save the changes made to a Project. Only what has changed since the Project was last saved is
+     * written, and nothing is written if the version of the Project has not moved since then.
+     * @param project : Project to be saved.
+     */
+    @Override
+    public void saveToRepo(Project project) {
+        if (isDirty(project)) {
+            saveProject(project);
+        }
+    }
+
+    /**
+     * Every save is written before saveToRepo returns, so there is nothing to wait for.
+     */
+    @Override
+    public void waitForPendingWrites() {
+    }
+
+    /**
+     * Method to save every Project that has changed since it was last saved, called when ArchDuke exits. Each
+     * Project has a store of its own, so they are saved in parallel within SHUTDOWN_FLUSH_DEADLINE_MILLIS.
+     * @return : Returns the result of saving each Project that held unsaved changes.
+     */
+    @Override
+    public ArrayList<String> flushDirtyProjects() {
+        ArrayList<Project> dirtyProjects = new ArrayList<>();
+        for (Project project : allProjects) {
+            if (isDirty(project)) {
+                dirtyProjects.add(project);
+            }
+        }
+        return ProjectFlusher.flush(dirtyProjects, this::saveProject, SHUTDOWN_FLUSH_DEADLINE_MILLIS);
+    }
+
+    private boolean isDirty(Project project) {
+        Long savedVersion = savedVersions.get(project);
+        return projectStores.get(project) != null && (savedVersion == null || savedVersion != project.getVersion());
+    }
+
+    private boolean saveProject(Project project) {
+        long currentVersion = project.getVersion();
+        try {
+            projectStores.get(project).saveChanges(project);
+            savedVersions.put(project, currentVersion);
+            return true;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(StoreBackedProjectRepository.class.getName(), "Project " + project.getName()
+                + " could not be saved: " + err.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Every Project is loaded on start up, so only stores that could not be loaded then are reported.
+     * @return : Returns the reasons why stores could not be loaded, if they have not been reported yet.
+     */
+    @Override
+    public ArrayList<String> takeLoadErrors() {
+        ArrayList<String> takenLoadErrors = loadErrors;
+        loadErrors = new ArrayList<>();
+        return takenLoadErrors;
+    }
+
+    /**
+     * Every Project is kept in memory, so there is no cold storage to move it into.
+     * @param indexNumber : Index of project that user wishes to archive.
+     * @return : Returns the message to be shown to the user.
+     */
+    @Override
+    public String[] archiveItem(int indexNumber) {
+        return new String[] {"Archiving is only supported by the snapshot storage backend."};
+    }
+
+    @Override
+    public String[] unarchiveItem(int indexNumber) {
+        return new String[] {"Archiving is only supported by the snapshot storage backend."};
+    }
+
+    @Override
+    public boolean isArchived(int indexNumber) {
+        return false;
+    }
+
+    @Override
+    public String[] verifyReplica() {
+        return new String[] {"Replication is only supported by the snapshot storage backend."};
+    }
+
+    /**
+     * Method for deletion of projects.
+     * @param indexNumber : Index of project that user wishes to delete
+     * @return Returns a boolean that states whether the project is deleted successfully
+     */
+    @Override
+    public String[] deleteItem(int indexNumber) {
+        if (indexNumber < 1 || indexNumber > allProjects.size()) {
+            return new String[] {"Error occurred! You could have entered a Project index is out of bounds."};
+        }
+        Project deletedProject = allProjects.remove(indexNumber - 1);
+        savedVersions.remove(deletedProject);
+        try {
+            projectStores.remove(deletedProject).delete();
+        } catch (IOException err) {
+            ArchDukeLogger.logError(StoreBackedProjectRepository.class.getName(), "Store of " + deletedProject.getName()
+                + " could not be deleted: " + err.getMessage());
+        }
+        return new String[] {"Project " + indexNumber + " has been deleted"};
+    }
+
+    @Override
+    public ArrayList<ArrayList<String>> getAllProjectsDetailsForTable() {
+        ArrayList<ProjectSummary> projectSummaries = new ArrayList<>();
+        for (Project project : allProjects) {
+            projectSummaries.add(new ProjectSummary(project));
+        }
+        return ProjectTableFormatter.formatAllProjects(projectSummaries);
+    }
+
+    @Override
+    public ArrayList<String> getProjectDetailsForTable(Project selectedProject) {
+        return ProjectTableFormatter.formatProject(selectedProject, allProjects.indexOf(selectedProject) + 1);
+    }
+
+    @Override
+    public HashMap<Integer, Integer> getAllTasksInCurrentMonth(Project project) {
+        return project.getTaskList().getTasksWithinCurrentMonth();
+    }
+
+    /**
+     * Loads every Project kept in the directory, in the order of their file names. A store that cannot be read is
+     * logged and skipped.
+     */
+    private void loadAllProjects() {
+        File[] storeFiles = new File(directory).listFiles((file, name) -> name.endsWith(fileExtension));
+        if (storeFiles == null) {
+            return;
+        }
+        Arrays.sort(storeFiles);
+        for (File storeFile : storeFiles) {
+            IProjectStore projectStore = projectStoreFactory.apply(storeFile);
+            try {
+                Project project = projectStore.load();
+                if (project != null) {
+                    allProjects.add(project);
+                    projectStores.put(project, projectStore);
+                    savedVersions.put(project, project.getVersion());
+                }
+            } catch (IOException err) {
+                String loadError = storeFile.getName() + " could not be loaded: " + err.getMessage();
+                ArchDukeLogger.logError(StoreBackedProjectRepository.class.getName(), loadError);
+                loadErrors.add(loadError);
+            }
+        }
+    }
+
+    /**
+     * Adds the Projects packaged in the jar that have not been saved yet.
+     */
+    private void seedProjectsFromJar() {
+        HashSet<String> savedProjectNames = new HashSet<>();
+        for (Project project : allProjects) {
+            savedProjectNames.add(project.getName());
+        }
+        for (Project jarProject : new JsonConverter().getResourcesInJar()) {
+            if (!savedProjectNames.contains(jarProject.getName())) {
+                addProject(jarProject);
+            }
+        }
+    }
+
+    private boolean addProject(Project project) {
+        IProjectStore projectStore = projectStoreFactory.apply(getStoreFile(project.getName()));
+        try {
+            projectStore.saveProject(project);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(StoreBackedProjectRepository.class.getName(), "Project " + project.getName()
+                + " could not be saved: " + err.getMessage());
+            return false;
+        }
+        allProjects.add(project);
+        projectStores.put(project, projectStore);
+        savedVersions.put(project, project.getVersion());
+        return true;
+    }
+
+    private File getStoreFile(String projectName) {
+        return new File(directory, projectName + fileExtension);
+    }
+}
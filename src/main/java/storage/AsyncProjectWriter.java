@@ -0,0 +1,169 @@
+package storage;
+
+import models.project.Project;
+import util.log.ArchDukeLogger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
+
+public class AsyncProjectWriter {
+    private static final long IDLE_TIMEOUT_SECONDS = 30;
+    private JsonConverter jsonConverter;
+    private ObjLongConsumer<Project> savedListener;
+    private ArrayBlockingQueue<Project> saveRequests;
+    private Thread writerThread;
+    private int numOfPendingSaves;
+    private long numOfCoalescedSaves;
+    private long numOfFailedSaves;
+    private long numOfGroupCommits;
+
+    /**
+     * Class responsible for saving Projects on a single background writer thread, so that the command thread does
+     * not wait for serialization or disk access. Save requests for the same Project that are waiting in the queue
+     * together are written once, and the journals written for a batch of save requests are forced to disk with a
+     * single group commit. When the queue is full, submitting a save request blocks until there is space.
+     * @param jsonConverter JsonConverter used to write the changes of each Project.
+     * @param queueCapacity Maximum number of save requests waiting to be written.
+     */
+    public AsyncProjectWriter(JsonConverter jsonConverter, int queueCapacity) {
+        this(jsonConverter, queueCapacity, (project, version) -> { });
+    }
+
+    /**
+     * Creates an AsyncProjectWriter that reports every Project it has saved, from the writer thread, together with
+     * the version the Project had when it was saved. A Project whose save fails is not reported.
+     * @param jsonConverter JsonConverter used to write the changes of each Project.
+     * @param queueCapacity Maximum number of save requests waiting to be written.
+     * @param savedListener Called with each Project saved and the version it was saved at.
+     */
+    public AsyncProjectWriter(JsonConverter jsonConverter, int queueCapacity, ObjLongConsumer<Project> savedListener) {
+        this.jsonConverter = jsonConverter;
+        this.saveRequests = new ArrayBlockingQueue<>(queueCapacity);
+        this.savedListener = savedListener;
+    }
+
+    /**
+     * Requests for the changes made to a Project to be written in the background.
+     * The command thread must hold the lock of the Project while changing it.
+     * @param project Project to be saved.
+     */
+    public void submit(Project project) {
+        synchronized (this) {
+            numOfPendingSaves++;
+            if (writerThread == null) {
+                writerThread = new Thread(this::writeSaveRequests, "ArchDuke-project-writer");
+                writerThread.setDaemon(true);
+                writerThread.start();
+            }
+        }
+        try {
+            saveRequests.put(project);
+        } catch (InterruptedException err) {
+            Thread.currentThread().interrupt();
+            ArchDukeLogger.logError(AsyncProjectWriter.class.getName(), "Save request dropped: interrupted");
+            synchronized (this) {
+                numOfPendingSaves--;
+                numOfFailedSaves++;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Blocks until every save request submitted so far, and any snapshot they caused, has been written.
+     */
+    public void flush() {
+        synchronized (this) {
+            while (numOfPendingSaves > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        jsonConverter.waitForPendingWrites();
+        ArchDukeLogger.logDebug(AsyncProjectWriter.class.getName(), "Saves flushed, "
+            + getNumOfCoalescedSaves() + " coalesced, " + getNumOfFailedSaves() + " failed.");
+    }
+
+    public synchronized long getNumOfGroupCommits() {
+        return numOfGroupCommits;
+    }
+
+    public synchronized int getNumOfPendingSaves() {
+        return numOfPendingSaves;
+    }
+
+    public synchronized long getNumOfCoalescedSaves() {
+        return numOfCoalescedSaves;
+    }
+
+    public synchronized long getNumOfFailedSaves() {
+        return numOfFailedSaves;
+    }
+
+    /**
+     * Loop of the writer thread. Takes every save request waiting in the queue, writes each Project in it once,
+     * and stops once no save request has arrived for a while.
+     */
+    private void writeSaveRequests() {
+        ArrayList<Project> saveRequestBatch = new ArrayList<>();
+        while (true) {
+            Project firstProject;
+            try {
+                firstProject = saveRequests.poll(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException err) {
+                firstProject = null;
+            }
+            if (firstProject == null) {
+                synchronized (this) {
+                    if (numOfPendingSaves == 0) {
+                        writerThread = null;
+                        return;
+                    }
+                }
+                continue;
+            }
+            saveRequestBatch.add(firstProject);
+            saveRequests.drainTo(saveRequestBatch);
+            LinkedHashSet<Project> projectsToSave = new LinkedHashSet<>(saveRequestBatch);
+            int numOfFailedInBatch = 0;
+            for (Project project : projectsToSave) {
+                if (!saveProject(project)) {
+                    numOfFailedInBatch++;
+                }
+            }
+            jsonConverter.syncJournals();
+            synchronized (this) {
+                numOfGroupCommits++;
+                numOfPendingSaves -= saveRequestBatch.size();
+                numOfCoalescedSaves += saveRequestBatch.size() - projectsToSave.size();
+                numOfFailedSaves += numOfFailedInBatch;
+                notifyAll();
+            }
+            saveRequestBatch.clear();
+        }
+    }
+
+    private boolean saveProject(Project project) {
+        try {
+            synchronized (project) {
+                long version = project.getVersion();
+                if (!jsonConverter.saveChanges(project)) {
+                    return false;
+                }
+                savedListener.accept(project, version);
+                return true;
+            }
+        } catch (RuntimeException err) {
+            ArchDukeLogger.logError(AsyncProjectWriter.class.getName(), "Project " + project.getName()
+                + " not saved: " + err);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package storage;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class BinaryProjectCodec implements IProjectCodec {
+    public static final String FILE_EXTENSION = ".archduke";
+    private static final int MAGIC_NUMBER = 0x41524344;
+    private static final int FORMAT_VERSION = 2;
+    private static final int UNCHECKED_FORMAT_VERSION = 1;
+    private static final int NULL_TAG = 0;
+    private static final int UUID_TAG = 1;
+    private static final int STRING_TAG = 2;
+    private static final int EPOCH_DAY_TAG = 1;
+    private static final int EPOCH_MILLI_TAG = 2;
+
+    /**
+     * Class responsible for reading and writing a Project as a compact binary snapshot.
+     * The snapshot starts with a table of every distinct string in the Project, which the rest of the snapshot
+     * refers to by index. Members, tasks and reminders are written as length-prefixed records so that fields added
+     * to a record later can be skipped by older readers. The string table and every record are followed by their
+     * CRC32C checksum, so that a damaged record can be left out without losing the rest of the Project. IDs that are
+     * UUIDs are written as two longs, and dates that fall on midnight in the default time zone are written as epoch
+     * days.
+     */
+    public BinaryProjectCodec() {
+    }
+
+    @Override
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public byte[] encode(Project project) throws IOException {
+        StringTable stringTable = new StringTable();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        writeString(bodyOut, stringTable, project.getName());
+        ArrayList<Member> members = project.getMemberList().getMemberList();
+        writeVarInt(bodyOut, members.size());
+        for (Member member : members) {
+            writeRecord(bodyOut, recordOut -> writeMember(recordOut, stringTable, member));
+        }
+        ArrayList<Task> tasks = project.getTaskList().getTaskList();
+        writeVarInt(bodyOut, tasks.size());
+        for (Task task : tasks) {
+            writeRecord(bodyOut, recordOut -> writeTask(recordOut, stringTable, task));
+        }
+        ArrayList<Reminder> reminders = project.getReminderList();
+        writeVarInt(bodyOut, reminders.size());
+        for (Reminder reminder : reminders) {
+            writeRecord(bodyOut, recordOut -> writeReminder(recordOut, stringTable, reminder));
+        }
+        writeIDListMap(bodyOut, stringTable, project.getTasksAndAssignedMembers());
+        writeIDListMap(bodyOut, stringTable, project.getMembersIndividualTaskList());
+        bodyOut.flush();
+
+        ByteArrayOutputStream table = new ByteArrayOutputStream(1024);
+        DataOutputStream tableOut = new DataOutputStream(table);
+        writeVarInt(tableOut, stringTable.size());
+        for (String string : stringTable.getStrings()) {
+            byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(tableOut, stringBytes.length);
+            tableOut.write(stringBytes);
+        }
+        tableOut.flush();
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream(table.size() + body.size() + 12);
+        DataOutputStream out = new DataOutputStream(snapshot);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        table.writeTo(out);
+        out.writeInt((int) RecordChecksum.compute(table.toByteArray()));
+        body.writeTo(out);
+        out.flush();
+        return snapshot.toByteArray();
+    }
+
+    @Override
+    public ProjectSnapshot decode(InputStream in) throws IOException {
+        return decode(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    /**
+     * Reads a Project straight from a buffer, such as a memory-mapped snapshot. Records and strings are read in
+     * place, without copying the snapshot into an intermediate array first.
+     * @param buffer Buffer holding the snapshot.
+     * @return The Project that was read, together with the schema version it was written with and the records that
+     *         were left out because they were damaged.
+     * @throws IOException If the buffer does not hold a complete binary snapshot, or its string table is damaged.
+     */
+    @Override
+    public ProjectSnapshot decode(ByteBuffer buffer) throws IOException {
+        try {
+            return readSnapshot(buffer);
+        } catch (BufferUnderflowException err) {
+            throw new EOFException("Binary snapshot is truncated");
+        }
+    }
+
+    private ProjectSnapshot readSnapshot(ByteBuffer in) throws IOException {
+        if (in.getInt() != MAGIC_NUMBER) {
+            throw new IOException("Not an ArchDuke binary snapshot");
+        }
+        int formatVersion = in.getInt();
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + formatVersion);
+        }
+        boolean isChecked = formatVersion > UNCHECKED_FORMAT_VERSION;
+        ByteBuffer table = in.slice();
+        int tableStart = in.position();
+        int numOfStrings = readVarInt(in);
+        ArrayList<String> strings = new ArrayList<>();
+        for (int i = 0; i < numOfStrings; i++) {
+            strings.add(readUtf8(in));
+        }
+        table.limit(in.position() - tableStart);
+        if (isChecked && in.getInt() != (int) RecordChecksum.compute(table)) {
+            throw new IOException("String table does not match its checksum");
+        }
+        Map<String, String> idPool = new HashMap<>();
+        ArrayList<String> damagedRecords = new ArrayList<>();
+        final String name = readString(in, strings);
+        ArrayList<Member> members = new ArrayList<>();
+        int numOfMembers = readVarInt(in);
+        for (int i = 1; i <= numOfMembers; i++) {
+            ByteBuffer record = readRecord(in, isChecked, "member " + i, damagedRecords);
+            addRecord(members, record, () -> readMember(record, strings, idPool), "member " + i, damagedRecords);
+        }
+        ArrayList<Task> tasks = new ArrayList<>();
+        int numOfTasks = readVarInt(in);
+        for (int i = 1; i <= numOfTasks; i++) {
+            ByteBuffer record = readRecord(in, isChecked, "task " + i, damagedRecords);
+            addRecord(tasks, record, () -> readTask(record, strings, idPool), "task " + i, damagedRecords);
+        }
+        ArrayList<Reminder> reminders = new ArrayList<>();
+        int numOfReminders = readVarInt(in);
+        for (int i = 1; i <= numOfReminders; i++) {
+            ByteBuffer record = readRecord(in, isChecked, "reminder " + i, damagedRecords);
+            addRecord(reminders, record, () -> readReminder(record, strings), "reminder " + i, damagedRecords);
+        }
+        HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned = readIDListMap(in, strings, idPool);
+        HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks = readIDListMap(in, strings, idPool);
+        return new ProjectSnapshot(ProjectTypeAdapter.createProject(name, members, tasks, reminders,
+            taskAndListOfMembersAssigned, memberAndIndividualListOfTasks),
+            isChecked ? ProjectTypeAdapter.CURRENT_SCHEMA_VERSION : ProjectTypeAdapter.CURRENT_SCHEMA_VERSION - 1,
+            damagedRecords);
+    }
+
+    /**
+     * Reads a record and adds it to the records read so far. A record that is damaged, or cannot be read, is left
+     * out and reported instead.
+     * @param record Content of the record, or null if it did not match its checksum.
+     */
+    private <T> void addRecord(ArrayList<T> records, ByteBuffer record, RecordReader<T> recordReader,
+                               String recordName, ArrayList<String> damagedRecords) {
+        if (record == null) {
+            return;
+        }
+        try {
+            records.add(recordReader.read());
+        } catch (IOException | RuntimeException err) {
+            damagedRecords.add(recordName + " skipped, " + err.getMessage());
+        }
+    }
+
+    private void writeMember(DataOutputStream out, StringTable stringTable, Member member) throws IOException {
+        writeID(out, stringTable, member.getMemberID());
+        writeString(out, stringTable, member.getName());
+        writeString(out, stringTable, member.getPhone());
+        writeString(out, stringTable, member.getEmail());
+        out.writeInt(member.getIndexNumber());
+        writeString(out, stringTable, member.getRole());
+    }
+
+    private Member readMember(ByteBuffer in, ArrayList<String> strings, Map<String, String> idPool)
+            throws IOException {
+        String memberID = readID(in, strings, idPool);
+        String name = readString(in, strings);
+        String phone = readString(in, strings);
+        String email = readString(in, strings);
+        int indexNumber = in.getInt();
+        String role = readString(in, strings);
+        return new Member(memberID, name, phone, email, indexNumber, role);
+    }
+
+    private void writeTask(DataOutputStream out, StringTable stringTable, Task task) throws IOException {
+        writeID(out, stringTable, task.getTaskID());
+        writeString(out, stringTable, task.getTaskName());
+        out.writeInt(task.getTaskPriority());
+        writeDate(out, task.getDueDate());
+        out.writeInt(task.getTaskCredit());
+        writeString(out, stringTable, task.getTaskState() == null ? null : task.getTaskState().name());
+        ArrayList<String> taskRequirements = task.getRawTaskRequirements();
+        writeVarInt(out, taskRequirements == null ? 0 : taskRequirements.size() + 1);
+        if (taskRequirements != null) {
+            for (String taskRequirement : taskRequirements) {
+                writeString(out, stringTable, taskRequirement);
+            }
+        }
+    }
+
+    private Task readTask(ByteBuffer in, ArrayList<String> strings, Map<String, String> idPool)
+            throws IOException {
+        String taskID = readID(in, strings, idPool);
+        String taskName = readString(in, strings);
+        int taskPriority = in.getInt();
+        Date dueDate = readDate(in);
+        int taskCredit = in.getInt();
+        String taskStateName = readString(in, strings);
+        TaskState taskState = taskStateName == null ? null : TaskState.valueOf(taskStateName);
+        int numOfTaskRequirements = readVarInt(in) - 1;
+        ArrayList<String> taskRequirements = null;
+        if (numOfTaskRequirements >= 0) {
+            taskRequirements = new ArrayList<>();
+            for (int i = 0; i < numOfTaskRequirements; i++) {
+                taskRequirements.add(readString(in, strings));
+            }
+        }
+        return new Task(taskID, taskName, taskPriority, dueDate, taskCredit, taskState, taskRequirements);
+    }
+
+    private void writeReminder(DataOutputStream out, StringTable stringTable, Reminder reminder) throws IOException {
+        writeString(out, stringTable, reminder.getReminderName());
+        writeString(out, stringTable, reminder.getReminderRemarks());
+        writeDate(out, reminder.getReminderDate());
+        Boolean isDone = reminder.getIsDone();
+        out.writeByte(isDone == null ? 0 : (isDone ? 2 : 1));
+        writeString(out, stringTable, reminder.getCategory());
+    }
+
+    private Reminder readReminder(ByteBuffer in, ArrayList<String> strings) throws IOException {
+        String reminderName = readString(in, strings);
+        String reminderRemarks = readString(in, strings);
+        Date reminderDate = readDate(in);
+        int isDone = in.get();
+        String category = readString(in, strings);
+        Reminder reminder = new Reminder(reminderName, reminderRemarks, reminderDate, category);
+        if (isDone != 0) {
+            reminder.setIsDone(isDone == 2);
+        }
+        return reminder;
+    }
+
+    private void writeIDListMap(DataOutputStream out, StringTable stringTable,
+                                HashMap<String, ArrayList<String>> idListMap) throws IOException {
+        writeVarInt(out, idListMap.size());
+        for (Map.Entry<String, ArrayList<String>> entry : idListMap.entrySet()) {
+            writeID(out, stringTable, entry.getKey());
+            writeVarInt(out, entry.getValue().size());
+            for (String id : entry.getValue()) {
+                writeID(out, stringTable, id);
+            }
+        }
+    }
+
+    private HashMap<String, ArrayList<String>> readIDListMap(ByteBuffer in, ArrayList<String> strings,
+                                                             Map<String, String> idPool) throws IOException {
+        HashMap<String, ArrayList<String>> idListMap = new HashMap<>();
+        int numOfEntries = readVarInt(in);
+        for (int i = 0; i < numOfEntries; i++) {
+            String key = readID(in, strings, idPool);
+            int numOfIDs = readVarInt(in);
+            ArrayList<String> ids = new ArrayList<>();
+            for (int j = 0; j < numOfIDs; j++) {
+                ids.add(readID(in, strings, idPool));
+            }
+            idListMap.put(key, ids);
+        }
+        return idListMap;
+    }
+
+    /**
+     * Writes an ID as two longs when it is a UUID in its canonical form, and through the string table otherwise.
+     */
+    private void writeID(DataOutputStream out, StringTable stringTable, String id) throws IOException {
+        if (id == null) {
+            out.writeByte(NULL_TAG);
+            return;
+        }
+        UUID uuid = parseUUID(id);
+        if (uuid == null) {
+            out.writeByte(STRING_TAG);
+            writeString(out, stringTable, id);
+        } else {
+            out.writeByte(UUID_TAG);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private String readID(ByteBuffer in, ArrayList<String> strings, Map<String, String> idPool)
+            throws IOException {
+        int idTag = in.get();
+        if (idTag == NULL_TAG) {
+            return null;
+        } else if (idTag == STRING_TAG) {
+            return readString(in, strings);
+        } else if (idTag == UUID_TAG) {
+            String id = new UUID(in.getLong(), in.getLong()).toString();
+            return idPool.computeIfAbsent(id, newID -> newID);
+        }
+        throw new IOException("Unknown ID tag " + idTag);
+    }
+
+    private UUID parseUUID(String id) {
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException err) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a date as days since the epoch when it falls on midnight in the default time zone, which is how due
+     * dates entered without a time are stored, and as milliseconds since the epoch otherwise.
+     */
+    private void writeDate(DataOutputStream out, Date date) throws IOException {
+        if (date == null) {
+            out.writeByte(NULL_TAG);
+            return;
+        }
+        ZonedDateTime dateTime = Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault());
+        if (dateTime.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            out.writeByte(EPOCH_DAY_TAG);
+            out.writeInt((int) dateTime.toLocalDate().toEpochDay());
+        } else {
+            out.writeByte(EPOCH_MILLI_TAG);
+            out.writeLong(date.getTime());
+        }
+    }
+
+    private Date readDate(ByteBuffer in) throws IOException {
+        int dateTag = in.get();
+        if (dateTag == NULL_TAG) {
+            return null;
+        } else if (dateTag == EPOCH_DAY_TAG) {
+            return Date.from(LocalDate.ofEpochDay(in.getInt()).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        } else if (dateTag == EPOCH_MILLI_TAG) {
+            return new Date(in.getLong());
+        }
+        throw new IOException("Unknown date tag " + dateTag);
+    }
+
+    private void writeString(DataOutputStream out, StringTable stringTable, String string) throws IOException {
+        writeVarInt(out, string == null ? 0 : stringTable.indexOf(string) + 1);
+    }
+
+    private String readString(ByteBuffer in, ArrayList<String> strings) throws IOException {
+        int stringIndex = readVarInt(in) - 1;
+        if (stringIndex < 0) {
+            return null;
+        }
+        if (stringIndex >= strings.size()) {
+            throw new IOException("String index " + stringIndex + " is not in the string table");
+        }
+        return strings.get(stringIndex);
+    }
+
+    private void writeRecord(DataOutputStream out, RecordWriter recordWriter) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        recordWriter.write(recordOut);
+        recordOut.flush();
+        byte[] recordBytes = record.toByteArray();
+        writeVarInt(out, recordBytes.length);
+        out.write(recordBytes);
+        out.writeInt((int) RecordChecksum.compute(recordBytes));
+    }
+
+    /**
+     * Reads the next record, together with the checksum that follows it in a checked snapshot.
+     * @return The content of the record, or null if it does not match its checksum, in which case it is reported
+     *         as damaged.
+     * @throws IOException If the snapshot ends before the record does.
+     */
+    private ByteBuffer readRecord(ByteBuffer in, boolean isChecked, String recordName,
+                                  ArrayList<String> damagedRecords) throws IOException {
+        int length = readLength(in);
+        ByteBuffer record = in.slice();
+        record.limit(length);
+        in.position(in.position() + length);
+        if (isChecked && in.getInt() != (int) RecordChecksum.compute(record)) {
+            damagedRecords.add(recordName + " skipped, checksum does not match");
+            return null;
+        }
+        return record;
+    }
+
+    private String readUtf8(ByteBuffer in) throws IOException {
+        int length = readLength(in);
+        String string;
+        if (in.hasArray()) {
+            string = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] stringBytes = new byte[length];
+            in.get(stringBytes);
+            string = new String(stringBytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    private int readLength(ByteBuffer in) throws IOException {
+        int length = readVarInt(in);
+        if (length > in.remaining()) {
+            throw new EOFException("Binary snapshot is truncated");
+        }
+        return length;
+    }
+
+    /**
+     * Writes a non-negative int using 7 bits per byte, so that small counts and indexes take a single byte.
+     */
+    private void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int nextByte = in.get() & 0xFF;
+            value |= (nextByte & 0x7F) << shift;
+            if ((nextByte & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length in binary snapshot");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed length in binary snapshot");
+    }
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private interface RecordReader<T> {
+        T read() throws IOException;
+    }
+
+    private static class StringTable {
+        private LinkedHashMap<String, Integer> stringIndexes = new LinkedHashMap<>();
+
+        int indexOf(String string) {
+            return stringIndexes.computeIfAbsent(string, newString -> stringIndexes.size());
+        }
+
+        int size() {
+            return stringIndexes.size();
+        }
+
+        Iterable<String> getStrings() {
+            return stringIndexes.keySet();
+        }
+    }
+}
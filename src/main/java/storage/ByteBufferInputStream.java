@@ -0,0 +1,40 @@
+package storage;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+class ByteBufferInputStream extends InputStream {
+    private ByteBuffer buffer;
+
+    /**
+     * Class reading the remaining bytes of a buffer as a stream, so that a memory-mapped snapshot can be handed to
+     * readers that expect an InputStream without copying it first.
+     * @param buffer : Buffer to be read.
+     */
+    ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int numOfBytesRead = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, numOfBytesRead);
+        return numOfBytesRead;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,97 @@
+package storage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+
+class CsvReader {
+    private Reader reader;
+    private int lineNumber;
+    private int rowLineNumber;
+    private int peekedChar;
+
+    /**
+     * Class responsible for reading a CSV file one row at a time, so that the whole file never has to be held in
+     * memory. Fields follow RFC 4180: a field in double quotes may hold commas, line breaks and doubled quotes.
+     * @param reader Reader positioned at the start of the file, which should be buffered.
+     */
+    CsvReader(Reader reader) {
+        this.reader = reader;
+        this.lineNumber = 0;
+        this.peekedChar = -2;
+    }
+
+    /**
+     * Reads the next row of the file.
+     * @return The fields of the row, or null if the end of the file has been reached.
+     * @throws IOException If the file cannot be read, or ends within a quoted field.
+     */
+    ArrayList<String> readRow() throws IOException {
+        int nextChar = read();
+        if (nextChar == -1) {
+            return null;
+        }
+        lineNumber++;
+        rowLineNumber = lineNumber;
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (nextChar == -1) {
+                    throw new IOException("Row on line " + rowLineNumber + " ends within a quoted field");
+                } else if (nextChar == '"' && peek() == '"') {
+                    read();
+                    field.append('"');
+                } else if (nextChar == '"') {
+                    isQuoted = false;
+                } else {
+                    if (nextChar == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) nextChar);
+                }
+            } else if (nextChar == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else if (nextChar == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (nextChar == '\n' || nextChar == -1) {
+                break;
+            } else if (nextChar == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            } else {
+                field.append((char) nextChar);
+            }
+            nextChar = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the line the last row read starts on, used to point out rows that cannot be imported.
+     */
+    int getLineNumber() {
+        return rowLineNumber;
+    }
+
+    private int read() throws IOException {
+        if (peekedChar != -2) {
+            int nextChar = peekedChar;
+            peekedChar = -2;
+            return nextChar;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peekedChar == -2) {
+            peekedChar = reader.read();
+        }
+        return peekedChar;
+    }
+}
@@ -0,0 +1,79 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+class DurableFiles {
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private DurableFiles() {
+    }
+
+    /**
+     * Replaces a file so that a crash leaves either the old or the new content behind, never a partial file.
+     * The content is written to a temporary file next to the target and forced to disk, before the temporary file
+     * is renamed over the target.
+     * @param target File to be replaced.
+     * @param content New content of the file.
+     * @throws IOException If the file cannot be written or renamed.
+     */
+    static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temporaryFile = target.resolveSibling(target.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try (FileChannel temporaryChannel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer remainingContent = ByteBuffer.wrap(content);
+            while (remainingContent.hasRemaining()) {
+                temporaryChannel.write(remainingContent);
+            }
+            temporaryChannel.force(true);
+        }
+        moveAtomically(temporaryFile, target);
+    }
+
+    /**
+     * Renames a file over another, atomically where the file system supports it, and makes the rename durable.
+     * @param source File to be renamed.
+     * @param target File to be replaced.
+     * @throws IOException If the file cannot be renamed.
+     */
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException err) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces everything written to a file so far to disk.
+     * @param file File to be forced to disk. Nothing is done if it does not exist.
+     * @throws IOException If the file cannot be forced to disk.
+     */
+    static void sync(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            fileChannel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of a directory to disk, so that files created or renamed in it survive a crash. Some
+     * platforms, such as Windows, cannot open a directory for this, in which case nothing is done.
+     */
+    static void syncDirectory(Path directory) {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException err) {
+            return;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package storage;
+
+import models.project.Project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+public interface IProjectCodec {
+    String getFileExtension();
+
+    byte[] encode(Project project) throws IOException;
+
+    ProjectSnapshot decode(InputStream in) throws IOException;
+
+    ProjectSnapshot decode(ByteBuffer buffer) throws IOException;
+}
@@ -0,0 +1,18 @@
+package storage;
+
+import models.project.Project;
+
+import java.io.File;
+import java.io.IOException;
+
+public interface IProjectStore {
+    Project load() throws IOException;
+
+    void saveProject(Project project) throws IOException;
+
+    void saveChanges(Project project) throws IOException;
+
+    void rename(Project project, File file) throws IOException;
+
+    void delete() throws IOException;
+}
@@ -0,0 +1,77 @@
+package storage;
+
+import java.util.ArrayList;
+
+public class ImportSummary {
+    private static final int MAX_REPORTED_ROW_ERRORS = 20;
+    private int numOfTasksImported;
+    private int numOfMembersImported;
+    private int numOfAssignmentsImported;
+    private int numOfRemindersImported;
+    private int numOfRowErrors;
+    private ArrayList<String> rowErrors;
+
+    /**
+     * Class holding the outcome of importing a file into a project. Only the first few row errors are kept, so that
+     * a file full of bad rows does not fill up memory or the screen.
+     */
+    ImportSummary() {
+        this.rowErrors = new ArrayList<>();
+    }
+
+    void addTaskImported() {
+        numOfTasksImported++;
+    }
+
+    void addMemberImported() {
+        numOfMembersImported++;
+    }
+
+    void addAssignmentImported() {
+        numOfAssignmentsImported++;
+    }
+
+    void addReminderImported() {
+        numOfRemindersImported++;
+    }
+
+    /**
+     * Records a row of the file that could not be imported.
+     * @param lineNumber Line of the file the row starts on.
+     * @param errorMessage Reason the row could not be imported.
+     */
+    void addRowError(int lineNumber, String errorMessage) {
+        numOfRowErrors++;
+        if (rowErrors.size() < MAX_REPORTED_ROW_ERRORS) {
+            rowErrors.add("Line " + lineNumber + ": " + errorMessage);
+        }
+    }
+
+    public int getNumOfTasksImported() {
+        return numOfTasksImported;
+    }
+
+    public int getNumOfMembersImported() {
+        return numOfMembersImported;
+    }
+
+    public int getNumOfAssignmentsImported() {
+        return numOfAssignmentsImported;
+    }
+
+    public int getNumOfRemindersImported() {
+        return numOfRemindersImported;
+    }
+
+    public int getNumOfRowErrors() {
+        return numOfRowErrors;
+    }
+
+    /**
+     * Returns the reasons the first rows that could not be imported were left out.
+     * @return Row errors, each starting with the line of the file the row starts on.
+     */
+    public ArrayList<String> getRowErrors() {
+        return rowErrors;
+    }
+}
@@ -0,0 +1,5 @@
+package storage;
+
+public enum JournalOperation {
+    PUT_TASK, REMOVE_TASK, REORDER_TASKS, PUT_MEMBER, REMOVE_MEMBER, ASSIGN, UNASSIGN, PUT_REMINDERS;
+}
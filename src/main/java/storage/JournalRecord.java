@@ -0,0 +1,157 @@
+package storage;
+
+import models.member.IMember;
+import models.member.Member;
+import models.project.Project;
+import models.project.ProjectChanges;
+import models.reminder.Reminder;
+import models.task.ITask;
+import models.task.Task;
+
+import java.util.ArrayList;
+
+public class JournalRecord {
+    private JournalOperation operation;
+    private Task task;
+    private Member member;
+    private String taskID;
+    private String memberID;
+    private ArrayList<String> taskOrder;
+    private ArrayList<Reminder> reminders;
+
+    /**
+     * Class representing a single mutation of a Project, as appended to the journal of the Project.
+     * Applying a record is idempotent, so a record can safely be replayed over a snapshot that already contains it.
+     * @param operation The kind of mutation this record represents.
+     */
+    private JournalRecord(JournalOperation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Converts the mutations recorded in the ProjectChanges of a Project into journal records.
+     * Removals come before updates so that a re-added member or task is not removed again during replay.
+     * @param project The Project whose changes are to be recorded.
+     * @return ArrayList of records describing the changes, in the order they should be replayed.
+     */
+    public static ArrayList<JournalRecord> createRecords(Project project) {
+        ProjectChanges projectChanges = project.getProjectChanges();
+        ArrayList<JournalRecord> records = new ArrayList<>();
+        for (String removedTaskID : projectChanges.getRemovedTaskIDs()) {
+            JournalRecord record = new JournalRecord(JournalOperation.REMOVE_TASK);
+            record.taskID = removedTaskID;
+            records.add(record);
+        }
+        for (String removedMemberID : projectChanges.getRemovedMemberIDs()) {
+            JournalRecord record = new JournalRecord(JournalOperation.REMOVE_MEMBER);
+            record.memberID = removedMemberID;
+            records.add(record);
+        }
+        for (String changedTaskID : projectChanges.getChangedTaskIDs()) {
+            ITask changedTask = project.getTaskFromID(changedTaskID);
+            if (changedTask instanceof Task) {
+                JournalRecord record = new JournalRecord(JournalOperation.PUT_TASK);
+                record.task = (Task) changedTask;
+                records.add(record);
+            }
+        }
+        for (String changedMemberID : projectChanges.getChangedMemberIDs()) {
+            IMember changedMember = project.getMemberFromID(changedMemberID);
+            if (changedMember instanceof Member) {
+                JournalRecord record = new JournalRecord(JournalOperation.PUT_MEMBER);
+                record.member = (Member) changedMember;
+                records.add(record);
+            }
+        }
+        for (String[] assignmentChange : projectChanges.getAssignmentChanges()) {
+            boolean isAssigned = Boolean.parseBoolean(assignmentChange[2]);
+            JournalRecord record = new JournalRecord(isAssigned ? JournalOperation.ASSIGN : JournalOperation.UNASSIGN);
+            record.taskID = assignmentChange[0];
+            record.memberID = assignmentChange[1];
+            records.add(record);
+        }
+        if (projectChanges.isTaskOrderChanged()) {
+            JournalRecord record = new JournalRecord(JournalOperation.REORDER_TASKS);
+            record.taskOrder = new ArrayList<>();
+            for (Task currentTask : project.getTaskList().getTaskList()) {
+                record.taskOrder.add(currentTask.getTaskID());
+            }
+            records.add(record);
+        }
+        if (projectChanges.isReminderListChanged()) {
+            JournalRecord record = new JournalRecord(JournalOperation.PUT_REMINDERS);
+            record.reminders = new ArrayList<>(project.getReminderList());
+            records.add(record);
+        }
+        return records;
+    }
+
+    public JournalOperation getOperation() {
+        return this.operation;
+    }
+
+    /**
+     * Applies the mutation represented by this record to a Project.
+     * Records referring to tasks or members that no longer exist are ignored.
+     * @param project The Project to apply the mutation to.
+     */
+    public void applyTo(Project project) {
+        switch (this.operation) {
+        case PUT_TASK:
+            if (!project.getTaskList().replaceTask(this.task)) {
+                project.addTask(this.task);
+            }
+            break;
+        case REMOVE_TASK:
+            int taskIndexNumber = getTaskIndexNumber(project, this.taskID);
+            if (taskIndexNumber > 0) {
+                project.removeTask(taskIndexNumber);
+            }
+            break;
+        case PUT_MEMBER:
+            if (!project.getMemberList().replaceMember(this.member)) {
+                project.addMember(this.member);
+            }
+            break;
+        case REMOVE_MEMBER:
+            IMember memberToRemove = project.getMemberFromID(this.memberID);
+            if (memberToRemove instanceof Member) {
+                project.removeMember((Member) memberToRemove);
+            }
+            break;
+        case ASSIGN:
+        case UNASSIGN:
+            applyAssignmentTo(project);
+            break;
+        case REORDER_TASKS:
+            project.getTaskList().reorderTasks(this.taskOrder);
+            break;
+        case PUT_REMINDERS:
+            project.replaceReminders(this.reminders);
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void applyAssignmentTo(Project project) {
+        ITask assignedTask = project.getTaskFromID(this.taskID);
+        IMember assignedMember = project.getMemberFromID(this.memberID);
+        if (!(assignedTask instanceof Task) || !(assignedMember instanceof Member)) {
+            return;
+        }
+        Task task = (Task) assignedTask;
+        Member member = (Member) assignedMember;
+        boolean isAssigned = project.containsAssignment(task, member);
+        if (this.operation == JournalOperation.ASSIGN && !isAssigned) {
+            project.createAssignment(task, member);
+        } else if (this.operation == JournalOperation.UNASSIGN && isAssigned) {
+            project.removeAssignment(member, task);
+        }
+    }
+
+    private static int getTaskIndexNumber(Project project, String taskID) {
+        Task task = project.getTaskList().getTaskFromID(taskID);
+        return task == null ? -1 : project.getTaskList().getIndexNumber(task);
+    }
+}
@@ -1,42 +1,158 @@
 package storage;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import exceptions.DukeException;
 import models.project.Project;
+import models.project.ProjectChanges;
+import models.project.ProjectSummary;
 import util.log.ArchDukeLogger;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import static util.constant.ConstantHelper.DATA_DIRECTORY_NAME;
+import static util.constant.ConstantHelper.JOURNAL_COMPACTION_THRESHOLD_BYTES;
+import static util.constant.ConstantHelper.REPLICA_VERIFY_TIMEOUT_MILLIS;
+import static util.constant.ConstantHelper.STORAGE_REPLICA_PROPERTY;
 
 public class JsonConverter {
-    private String userDirectory = System.getProperty("user.dir");
+    private long journalCompactionThreshold;
+    private ProjectFileStore projectFileStore;
+    private IProjectCodec projectCodec;
+    private boolean isSeededFromJar;
+
+    /**
+     * Class responsible for persisting Projects as snapshots in the data folder of the current working directory,
+     * together with a journal of the changes made to each Project since its snapshot was written. Snapshots are
+     * saved in the storage format configured through the archduke.storage.format system property, which is JSON by
+     * default. Snapshots saved straight in the current working directory by older versions are moved into the data
+     * folder the first time it is used.
+     */
+    public JsonConverter() {
+        this(System.getProperty("user.dir") + File.separator + DATA_DIRECTORY_NAME,
+            JOURNAL_COMPACTION_THRESHOLD_BYTES);
+        this.projectFileStore.setLegacyDirectory(System.getProperty("user.dir"));
+        String replicaDirectory = System.getProperty(STORAGE_REPLICA_PROPERTY);
+        if (replicaDirectory != null && !replicaDirectory.isBlank()) {
+            replicateTo(replicaDirectory);
+        }
+    }
+
+    /**
+     * Constructor mainly used for testing.
+     * @param dataDirectory : directory where the manifest, snapshots and journals are kept.
+     * @param journalCompactionThreshold : size in bytes a journal can grow to before it is compacted into a snapshot.
+     */
+    public JsonConverter(String dataDirectory, long journalCompactionThreshold) {
+        this(dataDirectory, journalCompactionThreshold, true);
+    }
+
+    /**
+     * Constructor mainly used for testing.
+     * @param dataDirectory : directory where the manifest, snapshots and journals are kept.
+     * @param journalCompactionThreshold : size in bytes a journal can grow to before it is compacted into a snapshot.
+     * @param isSeededFromJar : whether the Projects packaged in the jar are saved when no Project of the same name
+     *                        has been saved yet.
+     */
+    public JsonConverter(String dataDirectory, long journalCompactionThreshold, boolean isSeededFromJar) {
+        this(dataDirectory, journalCompactionThreshold, new ProjectCodecFactory().createConfiguredCodec(),
+            isSeededFromJar);
+    }
+
+    /**
+     * Constructor mainly used for testing.
+     * Snapshots saved in any storage format are loaded, but Projects are always saved with the given codec, and a
+     * Project loaded from a snapshot in another format is saved again with it.
+     * @param dataDirectory : directory where the manifest, snapshots and journals are kept.
+     * @param journalCompactionThreshold : size in bytes a journal can grow to before it is compacted into a snapshot.
+     * @param projectCodec : codec that snapshots are saved with.
+     */
+    public JsonConverter(String dataDirectory, long journalCompactionThreshold, IProjectCodec projectCodec) {
+        this(dataDirectory, journalCompactionThreshold, projectCodec, true);
+    }
+
+    private JsonConverter(String dataDirectory, long journalCompactionThreshold, IProjectCodec projectCodec,
+                          boolean isSeededFromJar) {
+        this.isSeededFromJar = isSeededFromJar;
+        this.projectCodec = projectCodec;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.projectFileStore = new ProjectFileStore(dataDirectory, projectCodec.getFileExtension());
+    }
 
     /**
      * Method that is responsible for saving Projects Data by using GSON library to convert to a human editable JSON
-     * file.
+     * file. The journal of the Project is no longer needed once the full snapshot is written. A Project saved for
+     * the first time is given an ID to name its files after, and is added to the manifest.
      */
     public void saveProject(Project project) {
-        Gson gson = new GsonBuilder()
-                .enableComplexMapKeySerialization()
-                .setPrettyPrinting()
-                .create();
+        saveSnapshot(project);
+    }
+
+    /**
+     * Method that is responsible for saving only the changes made to a Project since it was last saved, by appending
+     * them to the journal of the Project. Once the journal grows past the compaction threshold, a fresh snapshot is
+     * written in the background and the journal records it contains are discarded.
+     * @param project : Project whose changes are to be saved.
+     * @return : Returns false if neither the changes nor a full snapshot of the Project could be written.
+     */
+    public boolean saveChanges(Project project) {
+        ProjectChanges projectChanges = project.getProjectChanges();
+        if (projectChanges.isEmpty()) {
+            return true;
+        }
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(project.getName());
+        if (manifestRecord == null) {
+            return saveSnapshot(project);
+        }
         try {
-            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Saving to file.");
-            FileWriter fileWriter = new FileWriter(userDirectory + "/"
-                                                    + project.getName() + ".json");
-            gson.toJson(project, fileWriter);
-            fileWriter.flush();
-            fileWriter.close();
-            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "File saved.");
+            long journalSize = projectFileStore.appendToJournal(manifestRecord, JournalRecord.createRecords(project));
+            projectChanges.clear();
+            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Changes appended to journal.");
+            if (journalSize >= journalCompactionThreshold) {
+                projectFileStore.compactInBackground(manifestRecord, journalSize, () -> toSnapshot(project));
+            }
+            return true;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(JsonConverter.class.getName(), "Journal not written, saving full project instead");
+            return saveSnapshot(project);
+        }
+    }
+
+    /**
+     * Blocks until all snapshots being written in the background have been written, and forces every journal
+     * appended to so far to disk.
+     */
+    public void waitForPendingWrites() {
+        projectFileStore.waitForSnapshotWriter();
+        syncJournals();
+    }
+
+    /**
+     * Forces every journal appended to since the last sync to disk. Called once for each batch of saves, so that
+     * the changes saved for the whole batch are made durable together.
+     * @return : Returns false if a journal could not be forced to disk.
+     */
+    public boolean syncJournals() {
+        try {
+            int numOfSyncedJournals = projectFileStore.syncJournals();
+            if (numOfSyncedJournals > 0) {
+                ArchDukeLogger.logDebug(JsonConverter.class.getName(), numOfSyncedJournals + " journals synced.");
+            }
+            return true;
         } catch (IOException err) {
-            ArchDukeLogger.logError(JsonConverter.class.getName(), "Save file is not found or not created");
+            ArchDukeLogger.logError(JsonConverter.class.getName(), "Journals not synced: " + err.getMessage());
+            return false;
         }
     }
 
@@ -46,46 +162,368 @@ public class JsonConverter {
      * @throws DukeException : Exception thrown when JSON of project cannot be found
      */
     public void deleteProject(Project project) throws DukeException {
-        String selectedProjectJson = userDirectory + "/" + project.getName() + ".json";
-        File file = new File(selectedProjectJson);
-        if (!file.delete()) {
+        deleteProject(project.getName());
+    }
+
+    /**
+     * Method to delete the relevant json of a Project that has not been loaded, using the name of the Project. The
+     * Project is removed from the manifest even if its snapshot is already gone.
+     * @param projectName : name of the Project to be deleted
+     * @throws DukeException : Exception thrown when JSON of project cannot be found
+     */
+    public void deleteProject(String projectName) throws DukeException {
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(projectName);
+        if (manifestRecord == null || !projectFileStore.deleteProject(manifestRecord)) {
             throw new DukeException("JSON of project not found");
         }
     }
 
     /**
-     * Method responsible for loading Projects Data from hard coded directory where savedProjects.json file is located
+     * Method to rename a saved Project. The files of a Project are named after its ID, so only the manifest is
+     * rewritten, and the new name replaces the one in the snapshot when the Project is next loaded.
+     * @param oldName : Name the Project was saved with.
+     * @param newName : New name of the Project.
+     * @return : Returns false if no Project is saved with the old name, or the manifest could not be written.
+     */
+    public boolean renameProject(String oldName, String newName) {
+        return projectFileStore.renameProject(oldName, newName);
+    }
+
+    /**
+     * Method to move a saved Project into cold storage. The Project is compressed into the archive folder, and its
+     * snapshot and journal are deleted once the manifest records it as archived, so that it is no longer read at
+     * start up. Its summary stays in the manifest, so that it is still listed.
+     * @param project : Project to be archived, holding every change made to it.
+     * @return : Returns the summary of the archived Project, or null if the Project could not be archived.
+     */
+    public ProjectSummary archiveProject(Project project) {
+        waitForPendingWrites();
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(project.getName());
+        if (manifestRecord == null || manifestRecord.isArchived()) {
+            return null;
+        }
+        byte[] snapshot = toSnapshot(project);
+        if (snapshot == null) {
+            return null;
+        }
+        ProjectSummary projectSummary = new ProjectSummary(project);
+        projectSummary.setArchived(true);
+        if (!projectFileStore.archiveProject(manifestRecord, snapshot, projectSummary)) {
+            return null;
+        }
+        project.getProjectChanges().clear();
+        return projectSummary;
+    }
+
+    /**
+     * Method to bring an archived Project back out of cold storage. The archive is decompressed as it is decoded,
+     * and a snapshot of the Project is written before the archive is deleted.
+     * @param projectName : Name of the archived Project.
+     * @return : Returns the Project, or null if it is not archived or its archive could not be read.
+     */
+    public Project unarchiveProject(String projectName) {
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(projectName);
+        if (manifestRecord == null || !manifestRecord.isArchived()) {
+            return null;
+        }
+        Project project;
+        try {
+            project = projectFileStore.readArchive(manifestRecord, true);
+        } catch (IOException | RuntimeException err) {
+            projectFileStore.reportLoadError(projectName + " could not be unarchived: " + err.getMessage());
+            return null;
+        }
+        if (!saveSnapshot(project)) {
+            return null;
+        }
+        projectFileStore.removeArchive(manifestRecord);
+        return project;
+    }
+
+    /**
+     * Method to start shipping every file written to the data directory to a replica directory, kept as a warm
+     * standby that can be loaded in place of the data directory. Files are shipped by a background thread, which
+     * first brings the replica up to date with the data directory.
+     * @param replicaDirectory : Directory the replica is kept in.
+     */
+    public void replicateTo(String replicaDirectory) {
+        projectFileStore.replicateTo(replicaDirectory);
+    }
+
+    /**
+     * Method to check that the replica matches the data directory and can be loaded. Every write saved so far is
+     * waited for first, for up to REPLICA_VERIFY_TIMEOUT_MILLIS. The Projects packaged in the jar are not added to
+     * the replica when it is loaded, so that loading it leaves it as it is.
+     * @return : Returns the outcome of the check, one line for each problem found.
+     */
+    public ArrayList<String> verifyReplica() {
+        ArrayList<String> verifyResults = new ArrayList<>();
+        ProjectReplicator projectReplicator = projectFileStore.getReplicator();
+        if (projectReplicator == null) {
+            verifyResults.add("Replication is not enabled. Set " + STORAGE_REPLICA_PROPERTY
+                + " to a directory to enable it.");
+            return verifyResults;
+        }
+        waitForPendingWrites();
+        boolean isCaughtUp = projectReplicator.awaitReplica(REPLICA_VERIFY_TIMEOUT_MILLIS);
+        verifyResults.add("Replica at " + projectReplicator.getReplicaDirectory() + " has applied changes up to "
+            + projectReplicator.readReplicaSequence() + " of " + projectReplicator.getShippedSequence() + ".");
+        if (!isCaughtUp) {
+            verifyResults.add("The replica did not catch up within " + REPLICA_VERIFY_TIMEOUT_MILLIS + " ms.");
+        }
+        try {
+            ArrayList<String> mismatches = projectReplicator.compareWithPrimary();
+            verifyResults.addAll(mismatches);
+            if (mismatches.isEmpty()) {
+                verifyResults.add("Every saved file matches the replica.");
+            }
+        } catch (IOException err) {
+            verifyResults.add("The replica could not be compared: " + err.getMessage());
+        }
+        long startTime = System.nanoTime();
+        JsonConverter replicaConverter = new JsonConverter(projectReplicator.getReplicaDirectory(), Long.MAX_VALUE,
+            projectCodec, false);
+        int numOfReplicaProjects = replicaConverter.loadAllProjectsData().size();
+        verifyResults.add("Loaded " + numOfReplicaProjects + " projects from the replica in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms.");
+        verifyResults.addAll(replicaConverter.takeLoadErrors());
+        return verifyResults;
+    }
+
+    /**
+     * Method to wait for the replica to apply every write shipped so far, called before ArchDuke exits.
+     * @param timeoutMillis : Longest time to wait, in milliseconds.
+     * @return : Returns false if the replica is still behind, or true if it caught up or there is no replica.
+     */
+    public boolean awaitReplica(long timeoutMillis) {
+        ProjectReplicator projectReplicator = projectFileStore.getReplicator();
+        return projectReplicator == null || projectReplicator.awaitReplica(timeoutMillis);
+    }
+
+    /**
+     * Method to check if a saved Project is archived.
+     * @param projectName : Name of the Project.
+     * @return : Returns true if the Project is saved in the archive folder.
+     */
+    public boolean isArchived(String projectName) {
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(projectName);
+        return manifestRecord != null && manifestRecord.isArchived();
+    }
+
+    /**
+     * Method responsible for loading every Project listed in the manifest of the data directory. Each Project is
+     * loaded by its own task on a fork-join pool, and any changes recorded in its journal are replayed over its
+     * snapshot. A Project that cannot be loaded has its files moved into the quarantine folder without affecting the
+     * other Projects. Archived Projects are not read at all. Projects are returned in the order of their names.
      */
     public ArrayList<Project> loadAllProjectsData() {
-        Gson gson = new Gson();
+        projectFileStore.clearLoadErrors();
         ArrayList<Project> allProjects = new ArrayList<>();
-        File directory = new File(userDirectory);
-        File[] allProjectJson = directory.listFiles((file, name) -> name.endsWith(".json"));
-        for (File projectJson : allProjectJson) {
-            try (FileReader fileReader = new FileReader(projectJson)) {
-                ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Loading saved file.");
-                Project newProject = gson.fromJson(fileReader, new TypeToken<Project>(){}.getType());
-                allProjects.add(newProject);
-                ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Saved file loaded.");
-            } catch (IOException err) {
-                ArchDukeLogger.logError(JsonConverter.class.getName(), "Saved file not loaded");
-                return allProjects;
+        ArrayList<ForkJoinTask<Project>> loadingTasks = new ArrayList<>();
+        HashSet<String> savedProjectNames = new HashSet<>();
+        for (ProjectManifestRecord manifestRecord : projectFileStore.getManifestRecords()) {
+            if (manifestRecord.isArchived()) {
+                savedProjectNames.add(manifestRecord.getProjectName());
+            } else {
+                loadingTasks.add(ForkJoinPool.commonPool().submit(() -> loadProject(manifestRecord)));
+            }
+        }
+        for (ForkJoinTask<Project> loadingTask : loadingTasks) {
+            Project loadedProject = loadingTask.join();
+            if (loadedProject != null) {
+                allProjects.add(loadedProject);
             }
         }
-        ArrayList<Project> projectsFromResource = getResourcesInJar();
         for (Project jsonProject : allProjects) {
-            for (Project jarProject : projectsFromResource) {
-                if (jsonProject.getName().equals(jarProject.getName())) {
-                    projectsFromResource.remove(jarProject);
-                    break;
+            savedProjectNames.add(jsonProject.getName());
+        }
+        allProjects.addAll(seedProjectsFromJar(savedProjectNames));
+        return allProjects;
+    }
+
+    /**
+     * Method responsible for loading the summaries of all saved Projects without keeping the Projects themselves in
+     * memory. The summary of a Project is taken from the manifest when its snapshot and journal have not been
+     * written since the summary was recorded, and otherwise by loading the Project on a fork-join pool. The summary
+     * of an archived Project is always taken from the manifest. Summaries are returned in the order of the names of
+     * the Projects.
+     * @return : Returns an ArrayList of ProjectSummary, one for each saved Project.
+     */
+    public ArrayList<ProjectSummary> loadProjectCatalog() {
+        projectFileStore.clearLoadErrors();
+        ArrayList<ProjectManifestRecord> manifestRecords = projectFileStore.getManifestRecords();
+        ProjectSummary[] savedSummaries = new ProjectSummary[manifestRecords.size()];
+        ArrayList<ForkJoinTask<ProjectSummary>> summaryTasks = new ArrayList<>();
+        for (int i = 0; i < manifestRecords.size(); i++) {
+            ProjectManifestRecord manifestRecord = manifestRecords.get(i);
+            if (manifestRecord.isArchived()) {
+                savedSummaries[i] = manifestRecord.getProjectSummary();
+                summaryTasks.add(savedSummaries[i] != null ? null
+                    : ForkJoinPool.commonPool().submit(() -> projectFileStore.summarizeArchive(manifestRecord)));
+            } else if (projectFileStore.isUpToDate(manifestRecord)) {
+                savedSummaries[i] = manifestRecord.getProjectSummary();
+                summaryTasks.add(null);
+            } else {
+                summaryTasks.add(ForkJoinPool.commonPool().submit(() -> summarize(loadProject(manifestRecord))));
+            }
+        }
+        boolean isManifestOutdated = false;
+        ArrayList<ProjectSummary> projectSummaries = new ArrayList<>();
+        HashSet<String> savedProjectNames = new HashSet<>();
+        for (int i = 0; i < manifestRecords.size(); i++) {
+            if (summaryTasks.get(i) != null) {
+                savedSummaries[i] = summaryTasks.get(i).join();
+                isManifestOutdated = true;
+            }
+            if (savedSummaries[i] != null) {
+                projectSummaries.add(savedSummaries[i]);
+                savedProjectNames.add(savedSummaries[i].getName());
+            }
+        }
+        for (Project jarProject : seedProjectsFromJar(savedProjectNames)) {
+            projectSummaries.add(new ProjectSummary(jarProject));
+            isManifestOutdated = true;
+        }
+        if (isManifestOutdated) {
+            saveProjectCatalog(projectSummaries);
+        }
+        return projectSummaries;
+    }
+
+    /**
+     * Method responsible for recording the summaries of the Projects in the manifest, so that the next start up
+     * does not need to load Projects whose saved files have not changed. Any pending snapshots are written first,
+     * so that the summaries are recorded against the saved files as they are once the writes are done.
+     * @param projectSummaries : Summaries of all Projects, in the order they are listed.
+     */
+    public void saveProjectCatalog(List<ProjectSummary> projectSummaries) {
+        waitForPendingWrites();
+        projectFileStore.recordSummaries(projectSummaries);
+    }
+
+    /**
+     * Returns the reasons why saved files could not be loaded by the last call to loadAllProjectsData.
+     * @return : Returns an ArrayList of error messages, one for each file that was quarantined or record that was
+     *         left out.
+     */
+    public ArrayList<String> getLoadErrors() {
+        return projectFileStore.getLoadErrors();
+    }
+
+    /**
+     * Returns the reasons why saved files, or records within them, could not be loaded since this method was last
+     * called, so that each of them is only reported once.
+     * @return : Returns an ArrayList of error messages in the order they occurred.
+     */
+    public ArrayList<String> takeLoadErrors() {
+        return projectFileStore.takeLoadErrors();
+    }
+
+    /**
+     * Method responsible for loading a single saved Project, together with the changes recorded in its journal.
+     * @param projectName : Name of the Project to be loaded.
+     * @return : Returns the loaded Project, or null if its saved file could not be loaded.
+     */
+    public Project loadProject(String projectName) {
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(projectName);
+        if (manifestRecord == null) {
+            ArchDukeLogger.logError(JsonConverter.class.getName(), projectName + " not found in manifest");
+            return null;
+        } else if (manifestRecord.isArchived()) {
+            ArchDukeLogger.logError(JsonConverter.class.getName(), projectName + " is archived");
+            return null;
+        }
+        return loadProject(manifestRecord);
+    }
+
+    /**
+     * Returns the snapshot a saved Project is loaded from, mainly used for testing.
+     * @param projectName : Name of the Project.
+     * @return : Returns the snapshot file, or null if no Project is saved with the name.
+     */
+    public File getSnapshotFile(String projectName) {
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(projectName);
+        return manifestRecord == null ? null : projectFileStore.findSnapshotFile(manifestRecord);
+    }
+
+    /**
+     * Returns the journal of a saved Project, mainly used for testing.
+     * @param projectName : Name of the Project.
+     * @return : Returns the journal file, or null if no Project is saved with the name.
+     */
+    public File getJournalFile(String projectName) {
+        ProjectManifestRecord manifestRecord = projectFileStore.getManifestRecord(projectName);
+        return manifestRecord == null ? null : projectFileStore.getJournalFile(manifestRecord);
+    }
+
+    /**
+     * Loads a single Project from its snapshot and journal. A Project renamed since its snapshot was written takes
+     * the name recorded in the manifest. Files that cannot be read are quarantined and dropped from the manifest.
+     * A Project whose snapshot is in an older schema or another storage format is saved again with the configured
+     * codec.
+     * @return : Returns the loaded Project, or null if the file could not be loaded.
+     */
+    private Project loadProject(ProjectManifestRecord manifestRecord) {
+        File projectJson = projectFileStore.findSnapshotFile(manifestRecord);
+        try {
+            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Loading saved file " + projectJson.getName());
+            if (!projectJson.exists()) {
+                throw new IOException("Saved file is missing");
+            }
+            ProjectSnapshot projectSnapshot = projectFileStore.readSnapshot(projectJson, manifestRecord);
+            if (projectSnapshot == null || projectSnapshot.getProject().getName() == null) {
+                throw new JsonParseException("Saved file does not contain a project name");
+            }
+            Project newProject = projectSnapshot.getProject();
+            newProject.setName(manifestRecord.getProjectName());
+            ArrayList<String> damagedRecords = new ArrayList<>(projectSnapshot.getDamagedRecords());
+            int numOfReplayedRecords = projectFileStore.replayJournal(manifestRecord, newProject, damagedRecords);
+            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Saved file loaded, "
+                + numOfReplayedRecords + " journal records replayed.");
+            newProject.getProjectChanges().clear();
+            if (!damagedRecords.isEmpty()) {
+                for (String damagedRecord : damagedRecords) {
+                    projectFileStore.reportLoadError(newProject.getName() + ": " + damagedRecord);
                 }
+                projectFileStore.quarantine(projectJson, true);
+                saveProject(newProject);
+            } else if (projectSnapshot.isLegacyLayout()) {
+                ArchDukeLogger.logInfo(JsonConverter.class.getName(), "Migrating " + newProject.getName()
+                    + " to storage schema version " + ProjectTypeAdapter.CURRENT_SCHEMA_VERSION);
+                saveProject(newProject);
+            } else if (projectFileStore.getCodec(projectJson).getClass() != projectCodec.getClass()) {
+                ArchDukeLogger.logInfo(JsonConverter.class.getName(), "Converting " + projectJson.getName()
+                    + " to " + projectCodec.getFileExtension());
+                saveProject(newProject);
             }
+            return newProject;
+        } catch (IOException | RuntimeException err) {
+            projectFileStore.reportLoadError(projectJson.getName() + " not loaded: " + err.getMessage());
+            projectFileStore.quarantine(projectJson, false);
+            projectFileStore.removeFromManifest(manifestRecord.getProjectName());
+            return null;
+        }
+    }
+
+    private ProjectSummary summarize(Project project) {
+        return project == null ? null : new ProjectSummary(project);
+    }
+
+    /**
+     * Saves the Projects packaged in the jar that are not saved in the data directory yet.
+     * @param savedProjectNames : Names of the Projects already saved.
+     * @return : Returns the Projects from the jar that have been saved.
+     */
+    private ArrayList<Project> seedProjectsFromJar(Set<String> savedProjectNames) {
+        if (!isSeededFromJar) {
+            return new ArrayList<>();
         }
+        ArrayList<Project> projectsFromResource = getResourcesInJar();
+        projectsFromResource.removeIf(jarProject -> savedProjectNames.contains(jarProject.getName()));
         for (Project jarProject : projectsFromResource) {
             saveProject(jarProject);
         }
-        allProjects.addAll(projectsFromResource);
-        return allProjects;
+        return projectsFromResource;
     }
 
     /**
@@ -98,7 +536,7 @@ public class JsonConverter {
         try {
             allProjects.add(getProjectJsonFromJar("avengers.json"));
             allProjects.add(getProjectJsonFromJar("CS1010.json"));
-        } catch (NullPointerException err) {
+        } catch (NullPointerException | IOException err) {
             return allProjects;
         }
         return allProjects;
@@ -108,10 +546,37 @@ public class JsonConverter {
      * Function to pull Projects Json packaged inside Jar file.
      * @param nameOfJsonFile : name of JSON file you wish to pull from resources/initdata folder.
      */
-    private Project getProjectJsonFromJar(String nameOfJsonFile) {
-        Gson gson = new Gson();
+    private Project getProjectJsonFromJar(String nameOfJsonFile) throws IOException {
         InputStream is = getClass().getResourceAsStream("/initdata/" + nameOfJsonFile);
-        InputStreamReader isr = new InputStreamReader(is);
-        return gson.fromJson(isr, new TypeToken<Project>(){}.getType());
+        InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
+        return StorageGson.getProjectTypeAdapter().read(new JsonReader(isr));
+    }
+
+    /**
+     * Serializes a Project with the configured codec.
+     * @return : Returns the serialized snapshot, or null if the Project could not be serialized.
+     */
+    private byte[] toSnapshot(Project project) {
+        try {
+            return projectCodec.encode(project);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(JsonConverter.class.getName(), "Project could not be serialized: "
+                + err.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves a full snapshot of a Project. The changes recorded in the Project are only cleared once the snapshot
+     * has been written, so that a Project whose snapshot could not be written is still saved again later.
+     */
+    private boolean saveSnapshot(Project project) {
+        ProjectManifestRecord manifestRecord = projectFileStore.getOrAddManifestRecord(project.getName());
+        byte[] snapshot = toSnapshot(project);
+        if (snapshot == null || !projectFileStore.saveSnapshot(manifestRecord, snapshot)) {
+            return false;
+        }
+        project.getProjectChanges().clear();
+        return true;
     }
 }
@@ -0,0 +1,53 @@
+package storage;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import models.project.Project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class JsonProjectCodec implements IProjectCodec {
+    public static final String FILE_EXTENSION = ".json";
+
+    @Override
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    /**
+     * Serializes a Project into an indented snapshot, so that the saved file stays human editable.
+     * @param project Project to be serialized.
+     * @return UTF-8 bytes of the snapshot.
+     */
+    @Override
+    public byte[] encode(Project project) {
+        StringWriter snapshot = new StringWriter();
+        JsonWriter jsonWriter = new JsonWriter(snapshot);
+        jsonWriter.setIndent("  ");
+        StorageGson.getGson().toJson(project, Project.class, jsonWriter);
+        return snapshot.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ProjectSnapshot decode(InputStream in) throws IOException {
+        return StorageGson.getProjectTypeAdapter()
+            .readSnapshot(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads a Project from a buffer, such as a memory-mapped snapshot. The bytes are decoded into characters as the
+     * JsonReader consumes them, so the snapshot is never copied into a byte array or a String first.
+     * @param buffer Buffer holding the snapshot.
+     * @return The Project that was read, together with the schema version it was written with.
+     * @throws IOException If the buffer does not hold a valid snapshot.
+     */
+    @Override
+    public ProjectSnapshot decode(ByteBuffer buffer) throws IOException {
+        return decode(new ByteBufferInputStream(buffer));
+    }
+}
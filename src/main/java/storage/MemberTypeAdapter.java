@@ -0,0 +1,82 @@
+package storage;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MemberTypeAdapter extends TypeAdapter<Member> {
+    @Override
+    public void write(JsonWriter out, Member member) throws IOException {
+        if (member == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("memberID").value(member.getMemberID());
+        out.name("name").value(member.getName());
+        out.name("phone").value(member.getPhone());
+        out.name("email").value(member.getEmail());
+        out.name("indexNumber").value(member.getIndexNumber());
+        out.name("role").value(member.getRole());
+        out.endObject();
+    }
+
+    @Override
+    public Member read(JsonReader in) throws IOException {
+        return read(in, new HashMap<>());
+    }
+
+    /**
+     * Reads a member, reusing strings already read into the string pool of the Project it belongs to.
+     * @param in JsonReader positioned at the member.
+     * @param stringPool Strings already read from the same Project.
+     * @return The member that was read.
+     * @throws IOException If the member cannot be read.
+     */
+    public Member read(JsonReader in, Map<String, String> stringPool) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String memberID = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        int indexNumber = 0;
+        String role = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "memberID":
+                memberID = StorageGson.readString(in, stringPool);
+                break;
+            case "name":
+                name = StorageGson.readString(in, stringPool);
+                break;
+            case "phone":
+                phone = StorageGson.readString(in, stringPool);
+                break;
+            case "email":
+                email = StorageGson.readString(in, stringPool);
+                break;
+            case "indexNumber":
+                indexNumber = in.nextInt();
+                break;
+            case "role":
+                role = StorageGson.readString(in, stringPool);
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        return new Member(memberID, name, phone, email, indexNumber, role);
+    }
+}
@@ -0,0 +1,107 @@
+package storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static util.constant.ConstantHelper.ARCHIVE_DIRECTORY_NAME;
+
+class ProjectArchive {
+    static final String ARCHIVE_FILE_EXTENSION = ".deflate";
+    private File archiveDirectory;
+    private volatile ProjectReplicator projectReplicator;
+
+    /**
+     * Class responsible for the cold storage of archived Projects. The snapshot of each archived Project is kept
+     * compressed with a Deflater in the archive folder of the data directory, named after the snapshot it was
+     * compressed from, so that the codec it was encoded with can still be told from its name.
+     * @param dataDirectory Data directory the archive folder is kept in.
+     */
+    ProjectArchive(String dataDirectory) {
+        this.archiveDirectory = new File(dataDirectory, ARCHIVE_DIRECTORY_NAME);
+    }
+
+    /**
+     * Compresses a snapshot and writes it atomically to the archive folder.
+     * @param snapshotFileName Name of the snapshot file the archive is named after.
+     * @param snapshot Encoded snapshot of the Project.
+     * @return The name of the archive file written.
+     * @throws IOException If the archive file cannot be written.
+     */
+    String write(String snapshotFileName, byte[] snapshot) throws IOException {
+        Files.createDirectories(archiveDirectory.toPath());
+        ByteArrayOutputStream compressedSnapshot = new ByteArrayOutputStream(snapshot.length / 4 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(compressedSnapshot, deflater)) {
+            deflaterOutput.write(snapshot);
+        } finally {
+            deflater.end();
+        }
+        String archiveFileName = snapshotFileName + ARCHIVE_FILE_EXTENSION;
+        byte[] archive = compressedSnapshot.toByteArray();
+        DurableFiles.writeAtomically(getArchiveFile(archiveFileName).toPath(), archive);
+        if (projectReplicator != null) {
+            projectReplicator.shipWrite(getArchiveFile(archiveFileName), archive);
+        }
+        return archiveFileName;
+    }
+
+    /**
+     * Opens an archive file, decompressing it as it is read.
+     * @param archiveFileName Name of the archive file.
+     * @return The stream of the snapshot held in the archive file.
+     * @throws IOException If the archive file cannot be opened.
+     */
+    InputStream open(String archiveFileName) throws IOException {
+        return new InflaterInputStream(new BufferedInputStream(new FileInputStream(getArchiveFile(archiveFileName))));
+    }
+
+    /**
+     * Lists the archive files in the archive folder, used when the manifest has to be rebuilt.
+     * @return The archive files, or an empty array if nothing has been archived.
+     */
+    File[] list() {
+        File[] archiveFiles = archiveDirectory.listFiles((file, name) -> name.endsWith(ARCHIVE_FILE_EXTENSION));
+        return archiveFiles == null ? new File[0] : archiveFiles;
+    }
+
+    File getArchiveFile(String archiveFileName) {
+        return new File(archiveDirectory, archiveFileName);
+    }
+
+    /**
+     * Returns the name of the snapshot an archive file was compressed from.
+     * @param archiveFileName Name of the archive file.
+     * @return The name of the snapshot file.
+     */
+    static String getSnapshotFileName(String archiveFileName) {
+        return archiveFileName.substring(0, archiveFileName.length() - ARCHIVE_FILE_EXTENSION.length());
+    }
+
+    /**
+     * Deletes an archive file.
+     * @param archiveFileName Name of the archive file.
+     * @throws IOException If the archive file exists but cannot be deleted.
+     */
+    void delete(String archiveFileName) throws IOException {
+        Files.deleteIfExists(getArchiveFile(archiveFileName).toPath());
+        if (projectReplicator != null) {
+            projectReplicator.shipFile(getArchiveFile(archiveFileName));
+        }
+    }
+
+    /**
+     * Ships every archive written or deleted to a replica from now on.
+     * @param projectReplicator Replicator the writes are shipped to.
+     */
+    void setReplicator(ProjectReplicator projectReplicator) {
+        this.projectReplicator = projectReplicator;
+    }
+}
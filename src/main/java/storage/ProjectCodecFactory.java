@@ -0,0 +1,34 @@
+package storage;
+
+import util.factories.IArchDukeFactory;
+
+import static util.constant.ConstantHelper.STORAGE_FORMAT_BINARY;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_JSON;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_PROPERTY;
+
+public class ProjectCodecFactory implements IArchDukeFactory<IProjectCodec> {
+    /**
+     * Creation of the IProjectCodec for a storage format.
+     * @param input : Name of the storage format, either json or binary.
+     * @return Method will return the IProjectCodec of the storage format, or null if the format is unknown
+     */
+    @Override
+    public IProjectCodec create(String input) {
+        if (STORAGE_FORMAT_JSON.equalsIgnoreCase(input)) {
+            return new JsonProjectCodec();
+        } else if (STORAGE_FORMAT_BINARY.equalsIgnoreCase(input)) {
+            return new BinaryProjectCodec();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the IProjectCodec of the storage format configured through the archduke.storage.format system
+     * property. JSON is used when the property is not set or names an unknown format.
+     * @return : Returns the IProjectCodec that Projects should be saved with.
+     */
+    public IProjectCodec createConfiguredCodec() {
+        IProjectCodec configuredCodec = create(System.getProperty(STORAGE_FORMAT_PROPERTY, STORAGE_FORMAT_JSON));
+        return configuredCodec == null ? new JsonProjectCodec() : configuredCodec;
+    }
+}
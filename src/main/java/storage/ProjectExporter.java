@@ -0,0 +1,242 @@
+package storage;
+
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import util.log.ArchDukeLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+public class ProjectExporter {
+    private static final String[] COLUMNS = {"type", "name", "priority", "credit", "due", "state", "requirements",
+        "phone", "email", "role", "task", "member", "remarks", "category", "done"};
+    private static final int TYPE = 0;
+    private static final int NAME = 1;
+    private static final int PRIORITY = 2;
+    private static final int CREDIT = 3;
+    private static final int DUE = 4;
+    private static final int STATE = 5;
+    private static final int REQUIREMENTS = 6;
+    private static final int PHONE = 7;
+    private static final int EMAIL = 8;
+    private static final int ROLE = 9;
+    private static final int TASK = 10;
+    private static final int MEMBER = 11;
+    private static final int REMARKS = 12;
+    private static final int CATEGORY = 13;
+    private static final int DONE = 14;
+
+    private Project project;
+    private SimpleDateFormat dateFormat;
+    private String[] record;
+    private ArrayList<String> recordRequirements;
+    private boolean isCsv;
+    private BufferedWriter writer;
+
+    /**
+     * Class responsible for exporting the tasks, members, assignments and reminders of a project to a CSV or NDJSON
+     * file, in the format read back by ProjectImporter. Records are written to a buffered writer one at a time
+     * through a single reused record, so exporting takes the same memory however large the project is.
+     * @param project Project to be exported.
+     */
+    public ProjectExporter(Project project) {
+        this.project = project;
+        this.dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        this.record = new String[COLUMNS.length];
+    }
+
+    /**
+     * Exports the project to a file, replacing the file if it exists.
+     * @param filePath Path of a .csv file, or of a .ndjson or .jsonl file.
+     * @return The number of records written.
+     * @throws IOException If the file cannot be written.
+     */
+    public int exportFile(String filePath) throws IOException {
+        this.isCsv = filePath.toLowerCase().endsWith(".csv");
+        int numOfRecords = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            this.writer = writer;
+            if (isCsv) {
+                writeCsvRow(Arrays.asList(COLUMNS));
+            }
+            for (Task task : project.getTaskList().getTaskList()) {
+                writeTask(task);
+                numOfRecords++;
+            }
+            for (Member member : project.getMemberList().getMemberList()) {
+                writeMember(member);
+                numOfRecords++;
+            }
+            numOfRecords += writeAssignments();
+            for (Reminder reminder : project.getReminderList()) {
+                writeReminder(reminder);
+                numOfRecords++;
+            }
+        } finally {
+            this.writer = null;
+        }
+        ArchDukeLogger.logInfo(ProjectExporter.class.getName(), "Exported " + numOfRecords + " records of "
+            + project.getName() + " to " + filePath);
+        return numOfRecords;
+    }
+
+    private void writeTask(Task task) throws IOException {
+        startRecord("task");
+        record[NAME] = task.getTaskName();
+        record[PRIORITY] = String.valueOf(task.getTaskPriority());
+        record[CREDIT] = String.valueOf(task.getTaskCredit());
+        record[DUE] = formatDate(task.getDueDate());
+        record[STATE] = (task.getTaskState() == null) ? null : task.getTaskState().name().toLowerCase();
+        if (task.getRawTaskRequirements() != null && isCsv) {
+            record[REQUIREMENTS] = joinRequirements(task.getRawTaskRequirements());
+        } else {
+            recordRequirements = task.getRawTaskRequirements();
+        }
+        writeRecord();
+    }
+
+    /**
+     * Joins the requirements of a task into one CSV field, separated by ';'. A ';' or '\\' within a requirement is
+     * escaped with a '\\', which ProjectImporter removes again when it splits the field.
+     * @param requirements Requirements of a task.
+     * @return The requirements as a single field.
+     */
+    private static String joinRequirements(List<String> requirements) {
+        StringBuilder joinedRequirements = new StringBuilder();
+        for (String requirement : requirements) {
+            if (joinedRequirements.length() > 0) {
+                joinedRequirements.append(';');
+            }
+            for (int i = 0; i < requirement.length(); i++) {
+                char c = requirement.charAt(i);
+                if (c == ';' || c == '\\') {
+                    joinedRequirements.append('\\');
+                }
+                joinedRequirements.append(c);
+            }
+        }
+        return joinedRequirements.toString();
+    }
+
+    private void writeMember(Member member) throws IOException {
+        startRecord("member");
+        record[NAME] = member.getName();
+        record[PHONE] = member.getPhone();
+        record[EMAIL] = member.getEmail();
+        record[ROLE] = member.getRole();
+        writeRecord();
+    }
+
+    /**
+     * Writes one record for each member assigned to each task, in the order the tasks are listed.
+     * @return The number of records written.
+     * @throws IOException If the file cannot be written.
+     */
+    private int writeAssignments() throws IOException {
+        int numOfAssignments = 0;
+        for (Task task : project.getTaskList().getTaskList()) {
+            for (String memberID : project.getAssignmentGraph().getAssignedMemberIDs(task.getTaskID())) {
+                startRecord("assignment");
+                record[TASK] = task.getTaskName();
+                record[MEMBER] = project.getMemberFromID(memberID).getName();
+                writeRecord();
+                numOfAssignments++;
+            }
+        }
+        return numOfAssignments;
+    }
+
+    private void writeReminder(Reminder reminder) throws IOException {
+        startRecord("reminder");
+        record[NAME] = reminder.getReminderName();
+        record[REMARKS] = reminder.getReminderRemarks();
+        record[DUE] = formatDate(reminder.getReminderDate());
+        record[CATEGORY] = reminder.getCategory();
+        record[DONE] = String.valueOf(Boolean.TRUE.equals(reminder.getIsDone()));
+        writeRecord();
+    }
+
+    private String formatDate(Date date) {
+        return (date == null) ? null : dateFormat.format(date);
+    }
+
+    private void startRecord(String type) {
+        Arrays.fill(record, null);
+        record[TYPE] = type;
+        recordRequirements = null;
+    }
+
+    private void writeRecord() throws IOException {
+        if (isCsv) {
+            writeCsvRow(Arrays.asList(record));
+        } else {
+            writeJsonRecord();
+        }
+    }
+
+    /**
+     * Writes the current record as a JSON object on a line of its own. Only the fields that are set are written.
+     */
+    private void writeJsonRecord() throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.beginObject();
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (record[i] == null) {
+                continue;
+            }
+            jsonWriter.name(COLUMNS[i]);
+            if (i == PRIORITY || i == CREDIT || i == DONE) {
+                jsonWriter.jsonValue(record[i]);
+            } else {
+                jsonWriter.value(record[i]);
+            }
+        }
+        if (recordRequirements != null) {
+            jsonWriter.name("requirements");
+            jsonWriter.beginArray();
+            for (String requirement : recordRequirements) {
+                jsonWriter.value(requirement);
+            }
+            jsonWriter.endArray();
+        }
+        jsonWriter.endObject();
+        writer.newLine();
+    }
+
+    /**
+     * Writes a row of fields, quoting the fields that hold commas, quotes or line breaks.
+     * @param fields Fields of the row, where null fields are left empty.
+     */
+    private void writeCsvRow(Iterable<String> fields) throws IOException {
+        boolean isFirstField = true;
+        for (String field : fields) {
+            if (!isFirstField) {
+                writer.write(',');
+            }
+            isFirstField = false;
+            if (field == null) {
+                continue;
+            }
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0
+                || field.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(field.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(field);
+            }
+        }
+        writer.newLine();
+    }
+}
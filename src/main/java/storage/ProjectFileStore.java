@@ -0,0 +1,793 @@
+package storage;
+
+import com.google.gson.JsonParseException;
+import models.project.Project;
+import models.project.ProjectSummary;
+import util.log.ArchDukeLogger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import static util.constant.ConstantHelper.MAPPED_READ_THRESHOLD_BYTES;
+
+class ProjectFileStore {
+    private static final String QUARANTINE_DIRECTORY_NAME = "quarantine";
+    private String dataDirectory;
+    private String legacyDirectory;
+    private String snapshotFileExtension;
+    private ProjectJournal projectJournal;
+    private ProjectManifest projectManifest;
+    private ProjectArchive projectArchive;
+    private ProjectReplicator projectReplicator;
+    private boolean isManifestOpen;
+    private ThreadPoolExecutor snapshotWriter;
+    private Set<String> projectsBeingCompacted;
+    private ConcurrentLinkedQueue<String> loadErrors;
+    private IProjectCodec[] readableCodecs;
+    private boolean isMappedReadSupported;
+
+    /**
+     * Class responsible for the layout of the data directory. It owns the manifest that maps the name of each
+     * Project to the ID its files are named after, together with the snapshots, journals, archives and quarantined
+     * files kept under those IDs, and the replica every file written is shipped to. Snapshots are written one at a
+     * time by a single background thread, so that writes to the same Project are never reordered.
+     * @param dataDirectory Directory where the manifest, snapshots and journals are kept.
+     * @param snapshotFileExtension File extension of the storage format that snapshots are written in.
+     */
+    ProjectFileStore(String dataDirectory, String snapshotFileExtension) {
+        this.dataDirectory = dataDirectory;
+        this.snapshotFileExtension = snapshotFileExtension;
+        this.isMappedReadSupported = !System.getProperty("os.name", "").startsWith("Windows");
+        this.readableCodecs = new IProjectCodec[] {new JsonProjectCodec(), new BinaryProjectCodec()};
+        this.projectJournal = new ProjectJournal(dataDirectory);
+        this.projectManifest = new ProjectManifest(dataDirectory);
+        this.projectArchive = new ProjectArchive(dataDirectory);
+        this.projectsBeingCompacted = ConcurrentHashMap.newKeySet();
+        this.loadErrors = new ConcurrentLinkedQueue<>();
+        this.snapshotWriter = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ArchDuke-snapshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.snapshotWriter.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the directory that older versions saved snapshots straight into. Its snapshots are moved into the data
+     * directory the next time the manifest has to be rebuilt.
+     * @param legacyDirectory Directory the snapshots of older versions are kept in.
+     */
+    void setLegacyDirectory(String legacyDirectory) {
+        this.legacyDirectory = legacyDirectory;
+    }
+
+    /**
+     * Returns the record of a Project in the manifest.
+     * @param projectName Name of the Project.
+     * @return The record of the Project, or null if no Project is saved with the name.
+     */
+    ProjectManifestRecord getManifestRecord(String projectName) {
+        openManifest();
+        return projectManifest.get(projectName);
+    }
+
+    /**
+     * Returns the record of a Project in the manifest, adding one if the Project has not been saved before.
+     * @param projectName Name of the Project.
+     * @return The record of the Project.
+     */
+    ProjectManifestRecord getOrAddManifestRecord(String projectName) {
+        openManifest();
+        return projectManifest.getOrAdd(projectName, snapshotFileExtension);
+    }
+
+    /**
+     * Returns the records of every saved Project in the order of their names.
+     * @return ArrayList of the records in the manifest.
+     */
+    ArrayList<ProjectManifestRecord> getManifestRecords() {
+        openManifest();
+        return projectManifest.getRecords();
+    }
+
+    /**
+     * Renames a Project in the manifest.
+     * @param oldName Name the Project was saved with.
+     * @param newName New name of the Project.
+     * @return false if no Project is saved with the old name, or the manifest could not be written.
+     */
+    boolean renameProject(String oldName, String newName) {
+        openManifest();
+        return projectManifest.rename(oldName, newName) && writeManifest();
+    }
+
+    /**
+     * Removes a Project from the manifest without touching its files.
+     * @param projectName Name of the Project.
+     */
+    void removeFromManifest(String projectName) {
+        projectManifest.remove(projectName);
+        writeManifest();
+    }
+
+    /**
+     * Records the summaries of the Projects in the manifest, against their saved files as they are now.
+     * @param projectSummaries Summaries of all Projects.
+     */
+    void recordSummaries(List<ProjectSummary> projectSummaries) {
+        openManifest();
+        for (ProjectSummary projectSummary : projectSummaries) {
+            ProjectManifestRecord manifestRecord = projectManifest.get(projectSummary.getName());
+            if (manifestRecord != null) {
+                manifestRecord.recordSummary(projectJournal.getJournalFile(manifestRecord.getProjectID()),
+                    projectSummary);
+            }
+        }
+        writeManifest();
+    }
+
+    /**
+     * Checks if the summary of a Project recorded in the manifest still matches its snapshot and journal.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @return true if neither file has been written since the summary was recorded.
+     */
+    boolean isUpToDate(ProjectManifestRecord manifestRecord) {
+        return manifestRecord.isUpToDate(findSnapshotFile(manifestRecord),
+            projectJournal.getJournalFile(manifestRecord.getProjectID()));
+    }
+
+    /**
+     * Returns the journal of a Project.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @return The journal file, which does not exist if no changes have been appended since the last snapshot.
+     */
+    File getJournalFile(ProjectManifestRecord manifestRecord) {
+        return projectJournal.getJournalFile(manifestRecord.getProjectID());
+    }
+
+    /**
+     * Appends the changes made to a Project to its journal.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @param records Records of the changes.
+     * @return The size of the journal in bytes after appending.
+     * @throws IOException If the journal could not be written.
+     */
+    long appendToJournal(ProjectManifestRecord manifestRecord, ArrayList<JournalRecord> records)
+            throws IOException {
+        return projectJournal.append(manifestRecord.getProjectID(), records);
+    }
+
+    /**
+     * Replays the journal of a Project over the Project loaded from its snapshot.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @param project Project loaded from its snapshot.
+     * @param damagedRecords Descriptions of the records that were skipped are added to this list.
+     * @return Number of records replayed.
+     */
+    int replayJournal(ProjectManifestRecord manifestRecord, Project project, ArrayList<String> damagedRecords) {
+        return projectJournal.replay(manifestRecord.getProjectID(), project, damagedRecords);
+    }
+
+    /**
+     * Forces every journal appended to since the last sync to disk.
+     * @return Number of journals that were forced to disk.
+     * @throws IOException If a journal could not be forced to disk.
+     */
+    int syncJournals() throws IOException {
+        return projectJournal.syncAll();
+    }
+
+    /**
+     * Blocks until every snapshot queued on the snapshot writer has been written.
+     */
+    void waitForSnapshotWriter() {
+        runOnSnapshotWriter(() -> true);
+    }
+
+    /**
+     * Writes the snapshot of a Project on the snapshot writer and waits for it. Only the journal records appended
+     * before this call are discarded once the snapshot is written.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @param snapshot Encoded snapshot of the Project.
+     * @return false if the snapshot could not be written.
+     */
+    boolean saveSnapshot(ProjectManifestRecord manifestRecord, byte[] snapshot) {
+        long journalOffset = projectJournal.getSize(manifestRecord.getProjectID());
+        return runOnSnapshotWriter(() -> writeSnapshot(manifestRecord, snapshot, journalOffset));
+    }
+
+    /**
+     * Queues a snapshot of a Project on the snapshot writer without waiting for it. The snapshot is encoded on the
+     * calling thread, so that later changes to the Project are not included in it, and only one compaction per
+     * Project is queued at a time.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @param journalOffset Size of the journal the snapshot covers.
+     * @param snapshotEncoder Encodes the snapshot, returning null if the Project could not be encoded.
+     */
+    void compactInBackground(ProjectManifestRecord manifestRecord, long journalOffset,
+                             Supplier<byte[]> snapshotEncoder) {
+        String projectID = manifestRecord.getProjectID();
+        if (!projectsBeingCompacted.add(projectID)) {
+            return;
+        }
+        byte[] snapshot = snapshotEncoder.get();
+        if (snapshot == null) {
+            projectsBeingCompacted.remove(projectID);
+            return;
+        }
+        snapshotWriter.execute(() -> {
+            try {
+                writeSnapshot(manifestRecord, snapshot, journalOffset);
+            } finally {
+                projectsBeingCompacted.remove(projectID);
+            }
+        });
+    }
+
+    /**
+     * Deletes the snapshot, journal and archive of a Project, and removes it from the manifest even if its snapshot
+     * is already gone.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @return false if the Project had no snapshot or archive to delete.
+     */
+    boolean deleteProject(ProjectManifestRecord manifestRecord) {
+        String projectID = manifestRecord.getProjectID();
+        runOnSnapshotWriter(() -> projectJournal.delete(projectID));
+        boolean isSnapshotDeleted = false;
+        if (manifestRecord.isArchived()) {
+            try {
+                projectArchive.delete(manifestRecord.getArchiveFileName());
+                isSnapshotDeleted = true;
+            } catch (IOException err) {
+                ArchDukeLogger.logError(ProjectFileStore.class.getName(), "Archive of "
+                    + manifestRecord.getProjectName() + " not deleted: " + err.getMessage());
+            }
+        }
+        for (IProjectCodec readableCodec : readableCodecs) {
+            File file = new File(dataDirectory, projectID + readableCodec.getFileExtension());
+            if (file.delete()) {
+                isSnapshotDeleted = true;
+                shipFile(file);
+            }
+        }
+        removeFromManifest(manifestRecord.getProjectName());
+        return isSnapshotDeleted;
+    }
+
+    /**
+     * Writes the archive of a Project on the snapshot writer and waits for it.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @param snapshot Encoded snapshot of the Project.
+     * @param projectSummary Summary recorded for the archived Project.
+     * @return false if the Project could not be archived.
+     */
+    boolean archiveProject(ProjectManifestRecord manifestRecord, byte[] snapshot, ProjectSummary projectSummary) {
+        return runOnSnapshotWriter(() -> writeArchive(manifestRecord, snapshot, projectSummary));
+    }
+
+    /**
+     * Deletes the archive of a Project that has been saved as a snapshot again, after recording in the manifest
+     * that it is no longer archived.
+     * @param manifestRecord Record of the Project in the manifest.
+     */
+    void removeArchive(ProjectManifestRecord manifestRecord) {
+        String archiveFileName = manifestRecord.getArchiveFileName();
+        manifestRecord.clearArchive();
+        writeManifest();
+        try {
+            projectArchive.delete(archiveFileName);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), archiveFileName + " not deleted: "
+                + err.getMessage());
+        }
+    }
+
+    /**
+     * Decodes an archived Project straight from its decompressing stream.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @param isDamageReported Whether damaged records left out are reported, and the archive copied into the
+     *                         quarantine folder.
+     * @return The Project, which takes the name recorded in the manifest if there is one.
+     * @throws IOException If the archive could not be read.
+     */
+    Project readArchive(ProjectManifestRecord manifestRecord, boolean isDamageReported) throws IOException {
+        String archiveFileName = manifestRecord.getArchiveFileName();
+        IProjectCodec archiveCodec = getCodec(ProjectArchive.getSnapshotFileName(archiveFileName));
+        if (archiveCodec == null) {
+            throw new IOException("Archive is not in a known storage format");
+        }
+        ProjectSnapshot projectSnapshot;
+        try (InputStream archiveInput = projectArchive.open(archiveFileName)) {
+            projectSnapshot = archiveCodec.decode(archiveInput);
+        }
+        if (projectSnapshot == null || projectSnapshot.getProject().getName() == null) {
+            throw new JsonParseException("Archive does not contain a project name");
+        }
+        Project project = projectSnapshot.getProject();
+        if (manifestRecord.getProjectName() != null) {
+            project.setName(manifestRecord.getProjectName());
+        }
+        project.getProjectChanges().clear();
+        if (isDamageReported && !projectSnapshot.getDamagedRecords().isEmpty()) {
+            for (String damagedRecord : projectSnapshot.getDamagedRecords()) {
+                reportLoadError(project.getName() + ": " + damagedRecord);
+            }
+            quarantine(projectArchive.getArchiveFile(archiveFileName), manifestRecord.getProjectID(), true);
+        }
+        return project;
+    }
+
+    /**
+     * Summarises an archived Project whose summary is missing from the manifest, by reading its archive.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @return The summary of the Project, or null if its archive could not be read.
+     */
+    ProjectSummary summarizeArchive(ProjectManifestRecord manifestRecord) {
+        try {
+            ProjectSummary projectSummary = new ProjectSummary(readArchive(manifestRecord, false));
+            projectSummary.setArchived(true);
+            manifestRecord.recordArchive(manifestRecord.getArchiveFileName(), projectSummary);
+            return projectSummary;
+        } catch (IOException | RuntimeException err) {
+            reportLoadError(manifestRecord.getArchiveFileName() + " not loaded: " + err.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Starts shipping every file written to the data directory to a replica directory.
+     * @param replicaDirectory Directory the replica is kept in.
+     */
+    void replicateTo(String replicaDirectory) {
+        projectReplicator = new ProjectReplicator(dataDirectory, replicaDirectory);
+        projectJournal.setReplicator(projectReplicator);
+        projectManifest.setReplicator(projectReplicator);
+        projectArchive.setReplicator(projectReplicator);
+        projectReplicator.start();
+        ArchDukeLogger.logInfo(ProjectFileStore.class.getName(), "Replicating " + dataDirectory + " to "
+            + replicaDirectory);
+    }
+
+    /**
+     * Returns the replicator the data directory is shipped through.
+     * @return The replicator, or null if replication is not enabled.
+     */
+    ProjectReplicator getReplicator() {
+        return projectReplicator;
+    }
+
+    /**
+     * Records why a saved file, or a record within it, could not be loaded.
+     * @param loadError Description of the error.
+     */
+    void reportLoadError(String loadError) {
+        ArchDukeLogger.logError(ProjectFileStore.class.getName(), loadError);
+        loadErrors.add(loadError);
+    }
+
+    void clearLoadErrors() {
+        loadErrors.clear();
+    }
+
+    ArrayList<String> getLoadErrors() {
+        return new ArrayList<>(loadErrors);
+    }
+
+    /**
+     * Returns the load errors recorded since this method was last called, so that each of them is only reported
+     * once.
+     * @return ArrayList of error messages in the order they occurred.
+     */
+    ArrayList<String> takeLoadErrors() {
+        ArrayList<String> takenLoadErrors = new ArrayList<>();
+        String loadError;
+        while ((loadError = loadErrors.poll()) != null) {
+            takenLoadErrors.add(loadError);
+        }
+        return takenLoadErrors;
+    }
+
+    /**
+     * Returns the codec of the storage format a snapshot is saved in.
+     * @param snapshot Snapshot file.
+     * @return The codec, or null if the file is not in a known storage format.
+     */
+    IProjectCodec getCodec(File snapshot) {
+        return getCodec(snapshot.getName());
+    }
+
+    /**
+     * Finds the snapshot of a Project, preferring the one saved in the configured storage format.
+     * @param manifestRecord Record of the Project in the manifest.
+     * @return The snapshot file, which does not exist if the Project has no snapshot.
+     */
+    File findSnapshotFile(ProjectManifestRecord manifestRecord) {
+        File snapshotFile = getSnapshotFile(manifestRecord);
+        File recordedSnapshotFile = new File(dataDirectory, manifestRecord.getSnapshotFileName());
+        if (!snapshotFile.exists() && recordedSnapshotFile.exists()) {
+            return recordedSnapshotFile;
+        }
+        for (int i = 0; i < readableCodecs.length && !snapshotFile.exists(); i++) {
+            File otherSnapshotFile = new File(dataDirectory,
+                manifestRecord.getProjectID() + readableCodecs[i].getFileExtension());
+            if (otherSnapshotFile.exists()) {
+                snapshotFile = otherSnapshotFile;
+            }
+        }
+        return snapshotFile;
+    }
+
+    /**
+     * Reads a snapshot with the codec of its storage format. Snapshots of at least MAPPED_READ_THRESHOLD_BYTES are
+     * memory-mapped and decoded straight from the mapped buffer. Mapping is skipped on Windows, where a mapped file
+     * cannot be overwritten or moved until the mapping is garbage collected. When the snapshot is still the one
+     * recorded in the manifest, its CRC32 checksum is checked against the recorded one while it is read.
+     * @param snapshot Snapshot file.
+     * @param manifestRecord Record of the Project in the manifest, or null if it has not been listed yet.
+     * @return The decoded snapshot.
+     * @throws IOException If the snapshot could not be read, or does not match the checksum in the manifest.
+     */
+    ProjectSnapshot readSnapshot(File snapshot, ProjectManifestRecord manifestRecord) throws IOException {
+        IProjectCodec snapshotCodec = getCodec(snapshot);
+        boolean isChecksumVerified = manifestRecord != null && manifestRecord.getSnapshotChecksum() != 0
+            && manifestRecord.isSnapshotRecorded(snapshot);
+        CRC32 checksum = new CRC32();
+        ProjectSnapshot projectSnapshot;
+        long snapshotLength = snapshot.length();
+        if (isMappedReadSupported && snapshotLength >= MAPPED_READ_THRESHOLD_BYTES
+                && snapshotLength <= Integer.MAX_VALUE) {
+            try (FileChannel snapshotChannel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+                ArchDukeLogger.logDebug(ProjectFileStore.class.getName(), "Mapping saved file "
+                    + snapshot.getName());
+                ByteBuffer mappedSnapshot = snapshotChannel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    snapshotChannel.size());
+                if (isChecksumVerified) {
+                    checksum.update(mappedSnapshot.duplicate());
+                }
+                projectSnapshot = snapshotCodec.decode(mappedSnapshot);
+            }
+        } else {
+            try (CheckedInputStream fileInput = new CheckedInputStream(new FileInputStream(snapshot), checksum)) {
+                projectSnapshot = snapshotCodec.decode(fileInput);
+                while (isChecksumVerified && fileInput.read() != -1) {
+                    fileInput.skip(Long.MAX_VALUE);
+                }
+            }
+        }
+        if (isChecksumVerified && checksum.getValue() != manifestRecord.getSnapshotChecksum()) {
+            throw new IOException("Saved file does not match the checksum in the manifest");
+        }
+        return projectSnapshot;
+    }
+
+    /**
+     * Moves a saved file that cannot be loaded, together with its journal, into the quarantine folder so that it
+     * is kept for inspection but no longer loaded. A file that was loaded without its damaged records is copied
+     * instead, since the records left out are dropped from it by the next save.
+     * @param projectJson Saved file of the Project.
+     * @param isCopied Whether the file is copied rather than moved.
+     */
+    void quarantine(File projectJson, boolean isCopied) {
+        quarantine(projectJson, getProjectID(projectJson), isCopied);
+    }
+
+    /**
+     * Writes the manifest, logging an error if it could not be written.
+     * @return false if the manifest could not be written.
+     */
+    boolean writeManifest() {
+        try {
+            projectManifest.write();
+            return true;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), "Manifest could not be saved: "
+                + err.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the manifest the first time it is needed, creating the data directory if it does not exist yet. When
+     * there is no manifest, or it cannot be read, it is rebuilt from the snapshots in the data directory.
+     */
+    private synchronized void openManifest() {
+        if (isManifestOpen) {
+            return;
+        }
+        isManifestOpen = true;
+        try {
+            Files.createDirectories(new File(dataDirectory).toPath());
+            if (projectManifest.read()) {
+                return;
+            }
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), "Manifest not loaded, rebuilding it: "
+                + err.getMessage());
+        }
+        rebuildManifest();
+    }
+
+    /**
+     * Lists every snapshot in the data directory in a new manifest, after moving in the snapshots saved in the
+     * working directory by older versions. Every snapshot is read on a fork-join pool to find the name of its
+     * Project, and one that cannot be read is quarantined. This scan only happens when there is no manifest.
+     */
+    private void rebuildManifest() {
+        if (legacyDirectory != null) {
+            moveLegacySnapshots();
+        }
+        File[] allProjectJson = listSnapshots(new File(dataDirectory));
+        ArrayList<ForkJoinTask<String>> namingTasks = new ArrayList<>();
+        for (File projectJson : allProjectJson) {
+            namingTasks.add(ForkJoinPool.commonPool().submit(() -> readProjectName(projectJson)));
+        }
+        for (int i = 0; i < allProjectJson.length; i++) {
+            String projectName = namingTasks.get(i).join();
+            if (projectName == null) {
+                quarantine(allProjectJson[i], false);
+            } else if (projectManifest.get(projectName) == null) {
+                projectManifest.put(new ProjectManifestRecord(getProjectID(allProjectJson[i]), projectName,
+                    allProjectJson[i].getName()));
+            }
+        }
+        for (File archiveFile : projectArchive.list()) {
+            File archivedSnapshot = new File(ProjectArchive.getSnapshotFileName(archiveFile.getName()));
+            if (getCodec(archivedSnapshot) == null) {
+                continue;
+            }
+            ProjectManifestRecord manifestRecord = new ProjectManifestRecord(getProjectID(archivedSnapshot), null,
+                archivedSnapshot.getName());
+            manifestRecord.recordArchive(archiveFile.getName(), null);
+            ProjectSummary projectSummary = summarizeArchive(manifestRecord);
+            if (projectSummary != null && projectManifest.get(projectSummary.getName()) == null) {
+                manifestRecord.setProjectName(projectSummary.getName());
+                manifestRecord.recordArchive(archiveFile.getName(), projectSummary);
+                projectManifest.put(manifestRecord);
+            }
+        }
+        ArchDukeLogger.logInfo(ProjectFileStore.class.getName(), "Manifest rebuilt with "
+            + projectManifest.getRecords().size() + " projects");
+        writeManifest();
+    }
+
+    /**
+     * Moves the snapshots that older versions saved straight in the working directory, together with their
+     * journals, into the data directory. Only files that can be read as a Project are moved, so that unrelated
+     * files in the working directory are left where they are.
+     */
+    private void moveLegacySnapshots() {
+        for (File legacySnapshot : listSnapshots(new File(legacyDirectory))) {
+            File movedSnapshot = new File(dataDirectory, legacySnapshot.getName());
+            String projectID = getProjectID(legacySnapshot);
+            if (movedSnapshot.exists() || readProjectName(legacySnapshot, false) == null) {
+                continue;
+            }
+            try {
+                Files.move(legacySnapshot.toPath(), movedSnapshot.toPath());
+                shipFile(movedSnapshot);
+                File legacyJournal = new ProjectJournal(legacyDirectory).getJournalFile(projectID);
+                if (legacyJournal.exists()) {
+                    Files.move(legacyJournal.toPath(), projectJournal.getJournalFile(projectID).toPath());
+                    shipFile(projectJournal.getJournalFile(projectID));
+                }
+                ArchDukeLogger.logInfo(ProjectFileStore.class.getName(), legacySnapshot.getName()
+                    + " moved into the data directory");
+            } catch (IOException err) {
+                ArchDukeLogger.logError(ProjectFileStore.class.getName(), legacySnapshot.getName()
+                    + " could not be moved into the data directory");
+            }
+        }
+    }
+
+    private String readProjectName(File snapshot) {
+        return readProjectName(snapshot, true);
+    }
+
+    /**
+     * Reads the name of the Project held in a snapshot.
+     * @param isLoadErrorReported Whether a snapshot that cannot be read is reported as a load error.
+     * @return The name of the Project, or null if the snapshot cannot be read.
+     */
+    private String readProjectName(File snapshot, boolean isLoadErrorReported) {
+        try {
+            ProjectSnapshot projectSnapshot = readSnapshot(snapshot, null);
+            if (projectSnapshot == null || projectSnapshot.getProject().getName() == null) {
+                throw new JsonParseException("Saved file does not contain a project name");
+            }
+            return projectSnapshot.getProject().getName();
+        } catch (IOException | RuntimeException err) {
+            if (isLoadErrorReported) {
+                reportLoadError(snapshot.getName() + " not loaded: " + err.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Lists the snapshots in a directory in the order of their file names. When a Project has snapshots in more
+     * than one storage format, only the one in the configured format is listed.
+     */
+    private File[] listSnapshots(File directory) {
+        File[] allSnapshots = directory.listFiles((file, name) -> getCodec(name) != null
+            && !name.equals(ProjectManifest.MANIFEST_FILE_NAME));
+        if (allSnapshots == null) {
+            return new File[0];
+        }
+        TreeMap<String, File> snapshotsByProjectID = new TreeMap<>();
+        for (File snapshot : allSnapshots) {
+            String projectID = getProjectID(snapshot);
+            if (!snapshotsByProjectID.containsKey(projectID)
+                    || snapshot.getName().endsWith(snapshotFileExtension)) {
+                snapshotsByProjectID.put(projectID, snapshot);
+            }
+        }
+        File[] projectSnapshots = snapshotsByProjectID.values().toArray(new File[0]);
+        Arrays.sort(projectSnapshots, Comparator.comparing(File::getName));
+        return projectSnapshots;
+    }
+
+    private IProjectCodec getCodec(String fileName) {
+        for (IProjectCodec readableCodec : readableCodecs) {
+            if (fileName.endsWith(readableCodec.getFileExtension())) {
+                return readableCodec;
+            }
+        }
+        return null;
+    }
+
+    private String getProjectID(File snapshot) {
+        String fileName = snapshot.getName();
+        return fileName.substring(0, fileName.length() - getCodec(fileName).getFileExtension().length());
+    }
+
+    private File getSnapshotFile(ProjectManifestRecord manifestRecord) {
+        return new File(dataDirectory, manifestRecord.getProjectID() + snapshotFileExtension);
+    }
+
+    /**
+     * Ships a changed or removed data file to the replica, if replication is on.
+     */
+    private void shipFile(File file) {
+        if (projectReplicator != null) {
+            projectReplicator.shipFile(file);
+        }
+    }
+
+    private void quarantine(File projectJson, String projectID, boolean isCopied) {
+        File quarantineDirectory = new File(dataDirectory, QUARANTINE_DIRECTORY_NAME);
+        String quarantineSuffix = "." + System.currentTimeMillis();
+        String fileName = projectJson.getName();
+        File projectJournalFile = projectJournal.getJournalFile(projectID);
+        try {
+            Files.createDirectories(quarantineDirectory.toPath());
+            for (File quarantinedFile : new File[] {projectJson, projectJournalFile}) {
+                if (!quarantinedFile.exists()) {
+                    continue;
+                }
+                File target = new File(quarantineDirectory, quarantinedFile.getName() + quarantineSuffix);
+                if (isCopied) {
+                    Files.copy(quarantinedFile.toPath(), target.toPath());
+                } else {
+                    Files.move(quarantinedFile.toPath(), target.toPath());
+                    shipFile(quarantinedFile);
+                }
+            }
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), fileName + " could not be quarantined");
+        }
+    }
+
+    /**
+     * Writes the archive of a Project, then records it in the manifest before the snapshot and journal of the
+     * Project are deleted, so that a crash at any point leaves the Project loadable from one or the other.
+     */
+    private boolean writeArchive(ProjectManifestRecord manifestRecord, byte[] snapshot,
+                                 ProjectSummary projectSummary) {
+        String projectID = manifestRecord.getProjectID();
+        try {
+            String archiveFileName = projectArchive.write(projectID + snapshotFileExtension, snapshot);
+            manifestRecord.recordArchive(archiveFileName, projectSummary);
+            if (!writeManifest()) {
+                manifestRecord.clearArchive();
+                return false;
+            }
+            projectJournal.delete(projectID);
+            for (IProjectCodec readableCodec : readableCodecs) {
+                File snapshotFile = new File(dataDirectory, projectID + readableCodec.getFileExtension());
+                if (Files.deleteIfExists(snapshotFile.toPath())) {
+                    shipFile(snapshotFile);
+                }
+            }
+            ArchDukeLogger.logInfo(ProjectFileStore.class.getName(), manifestRecord.getProjectName()
+                + " archived to " + archiveFileName);
+            return true;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), manifestRecord.getProjectName()
+                + " not archived: " + err.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the snapshot of a Project to a temporary file, forces it to disk and renames it over the old snapshot,
+     * so that a crash never leaves a partially written snapshot behind. The journal records the snapshot contains
+     * are discarded afterwards, and snapshots of the Project in other storage formats are deleted. The size and
+     * checksums of the new snapshot are then recorded in the manifest, unless the Project has been deleted since.
+     * A snapshot with the same content as the one on disk, such as one saved after edits that changed nothing, is
+     * not written again.
+     */
+    private boolean writeSnapshot(ProjectManifestRecord manifestRecord, byte[] snapshot, long journalOffset) {
+        try {
+            ArchDukeLogger.logDebug(ProjectFileStore.class.getName(), "Saving to file.");
+            String projectID = manifestRecord.getProjectID();
+            File snapshotFile = getSnapshotFile(manifestRecord);
+            CRC32 checksum = new CRC32();
+            checksum.update(snapshot);
+            long contentHash = RecordChecksum.compute(snapshot);
+            if (manifestRecord.isSnapshotUnchanged(snapshotFile, snapshot.length, checksum.getValue(), contentHash)) {
+                projectJournal.discardUpTo(projectID, journalOffset);
+                ArchDukeLogger.logDebug(ProjectFileStore.class.getName(), "Snapshot unchanged, not written again.");
+                return true;
+            }
+            DurableFiles.writeAtomically(snapshotFile.toPath(), snapshot);
+            if (projectReplicator != null) {
+                projectReplicator.shipWrite(snapshotFile, snapshot);
+            }
+            projectJournal.discardUpTo(projectID, journalOffset);
+            for (IProjectCodec readableCodec : readableCodecs) {
+                File otherSnapshotFile = new File(dataDirectory, projectID + readableCodec.getFileExtension());
+                if (!otherSnapshotFile.equals(snapshotFile) && Files.deleteIfExists(otherSnapshotFile.toPath())) {
+                    shipFile(otherSnapshotFile);
+                }
+            }
+            manifestRecord.recordSnapshot(snapshotFile, checksum.getValue(), contentHash);
+            if (projectManifest.get(manifestRecord.getProjectName()) == manifestRecord) {
+                writeManifest();
+            }
+            ArchDukeLogger.logDebug(ProjectFileStore.class.getName(), "File saved.");
+            return true;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), "Save file is not found or not created");
+            return false;
+        }
+    }
+
+    /**
+     * Runs a task on the snapshot writer and waits for it, so that it is ordered after every snapshot already queued.
+     */
+    private boolean runOnSnapshotWriter(Callable<Boolean> task) {
+        try {
+            return snapshotWriter.submit(task).get();
+        } catch (InterruptedException err) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException err) {
+            ArchDukeLogger.logError(ProjectFileStore.class.getName(), "Snapshot writer failed: " + err.getMessage());
+        }
+        return false;
+    }
+}
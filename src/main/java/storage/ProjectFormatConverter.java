@@ -0,0 +1,72 @@
+package storage;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+public class ProjectFormatConverter {
+    private ProjectCodecFactory projectCodecFactory = new ProjectCodecFactory();
+
+    /**
+     * Converts saved Project snapshots between the JSON and binary storage formats.
+     * Usage: ProjectFormatConverter json|binary SNAPSHOT...
+     * Each snapshot is read in the format given by its file extension, and written next to it with the extension of
+     * the target format. The original snapshot and the journal of the Project are left untouched, since the journal
+     * can be replayed over a snapshot in either format.
+     * @param args : Target storage format, followed by the snapshots to be converted.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: ProjectFormatConverter json|binary SNAPSHOT...");
+            return;
+        }
+        ProjectFormatConverter projectFormatConverter = new ProjectFormatConverter();
+        for (int i = 1; i < args.length; i++) {
+            try {
+                File convertedSnapshot = projectFormatConverter.convert(new File(args[i]), args[0]);
+                System.out.println(args[i] + " -> " + convertedSnapshot.getPath());
+            } catch (IOException err) {
+                System.out.println(args[i] + " not converted: " + err.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Converts a single snapshot to the given storage format.
+     * @param snapshot : Snapshot to be converted.
+     * @param targetFormat : Name of the storage format to convert to, either json or binary.
+     * @return : Returns the converted snapshot.
+     * @throws IOException : Exception thrown when the snapshot cannot be read or the converted snapshot written.
+     */
+    public File convert(File snapshot, String targetFormat) throws IOException {
+        IProjectCodec targetCodec = projectCodecFactory.create(targetFormat);
+        if (targetCodec == null) {
+            throw new IOException("Unknown storage format " + targetFormat);
+        }
+        IProjectCodec sourceCodec = getSourceCodec(snapshot.getName());
+        ProjectSnapshot projectSnapshot;
+        try (InputStream fileInput = new FileInputStream(snapshot)) {
+            projectSnapshot = sourceCodec.decode(fileInput);
+        }
+        if (projectSnapshot == null) {
+            throw new IOException("Snapshot does not contain a project");
+        }
+        String fileName = snapshot.getName();
+        String baseName = fileName.substring(0, fileName.length() - sourceCodec.getFileExtension().length());
+        File convertedSnapshot = new File(snapshot.getAbsoluteFile().getParentFile(),
+            baseName + targetCodec.getFileExtension());
+        Files.write(convertedSnapshot.toPath(), targetCodec.encode(projectSnapshot.getProject()));
+        return convertedSnapshot;
+    }
+
+    private IProjectCodec getSourceCodec(String fileName) throws IOException {
+        if (fileName.endsWith(JsonProjectCodec.FILE_EXTENSION)) {
+            return new JsonProjectCodec();
+        } else if (fileName.endsWith(BinaryProjectCodec.FILE_EXTENSION)) {
+            return new BinaryProjectCodec();
+        }
+        throw new IOException("Unknown snapshot extension");
+    }
+}
@@ -0,0 +1,400 @@
+package storage;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import util.log.ArchDukeLogger;
+import util.validation.ValidityHelper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static util.constant.ConstantHelper.IMPORT_BATCH_SIZE;
+
+public class ProjectImporter {
+    private Project project;
+    private HashMap<String, Task> tasksByName;
+    private HashMap<String, Member> membersByName;
+    private SimpleDateFormat dateFormat;
+    private ValidityHelper validityHelper;
+    private ImportSummary importSummary;
+
+    /**
+     * Class responsible for importing tasks, members, assignments and reminders from a CSV or NDJSON file into a
+     * project.
+     * The file is streamed one row at a time and rows are validated and added in batches, so that files with many
+     * thousands of rows can be imported without going through the command parser for every row.
+     * Saving the project is left to the caller, so that the whole import is saved once.
+     * @param project Project the rows are imported into.
+     */
+    public ProjectImporter(Project project) {
+        this.project = project;
+        this.tasksByName = new HashMap<>();
+        this.membersByName = new HashMap<>();
+        this.dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        this.dateFormat.setLenient(false);
+        this.validityHelper = new ValidityHelper();
+        for (Task task : project.getTaskList().getTaskList()) {
+            tasksByName.put(task.getTaskName(), task);
+        }
+        for (Member member : project.getMemberList().getMemberList()) {
+            membersByName.put(member.getName(), member);
+        }
+    }
+
+    /**
+     * Checks if a file can be imported, based on its extension.
+     * @param filePath Path of the file.
+     * @return true if the file is a CSV or NDJSON file, false otherwise.
+     */
+    public static boolean isSupportedFile(String filePath) {
+        return isCsvFile(filePath) || filePath.toLowerCase().endsWith(".ndjson")
+            || filePath.toLowerCase().endsWith(".jsonl");
+    }
+
+    /**
+     * Imports every row of a file into the project. Rows that cannot be imported are left out and reported in the
+     * returned summary. If the file stops being readable halfway, the rows before it are kept.
+     * @param filePath Path of a CSV file with a header row, or of an NDJSON file with one JSON object per line.
+     * @return Summary of the rows imported and the rows left out.
+     * @throws IOException If the file cannot be opened.
+     */
+    public ImportSummary importFile(String filePath) throws IOException {
+        importSummary = new ImportSummary();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            if (isCsvFile(filePath)) {
+                importCsv(new CsvReader(reader));
+            } else {
+                importNdjson(reader);
+            }
+        }
+        ArchDukeLogger.logInfo(ProjectImporter.class.getName(), "Imported " + filePath + " into "
+            + project.getName() + " with " + importSummary.getNumOfRowErrors() + " row errors");
+        return importSummary;
+    }
+
+    private static boolean isCsvFile(String filePath) {
+        return filePath.toLowerCase().endsWith(".csv");
+    }
+
+    /**
+     * Reads a CSV file, whose first row names the column of each field.
+     * @param csvReader Reader positioned at the header row.
+     */
+    private void importCsv(CsvReader csvReader) {
+        ArrayList<ImportRow> batch = new ArrayList<>();
+        try {
+            ArrayList<String> header = csvReader.readRow();
+            if (header == null) {
+                return;
+            }
+            if (!header.contains("type")) {
+                importSummary.addRowError(csvReader.getLineNumber(), "The header row has no type column");
+                return;
+            }
+            ArrayList<String> fields = csvReader.readRow();
+            while (fields != null) {
+                if (!isBlank(fields)) {
+                    batch.add(readCsvRow(csvReader.getLineNumber(), header, fields));
+                }
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importBatch(batch);
+                }
+                fields = csvReader.readRow();
+            }
+        } catch (IOException err) {
+            importSummary.addRowError(csvReader.getLineNumber(), "Import stopped, " + err.getMessage());
+        }
+        importBatch(batch);
+    }
+
+    private boolean isBlank(ArrayList<String> fields) {
+        for (String field : fields) {
+            if (!field.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ImportRow readCsvRow(int lineNumber, ArrayList<String> header, ArrayList<String> fields) {
+        ImportRow row = new ImportRow(lineNumber);
+        for (int i = 0; i < header.size() && i < fields.size(); i++) {
+            String value = fields.get(i).trim();
+            if ("requirements".equals(header.get(i))) {
+                splitRequirements(value, row.requirements);
+            } else if (!value.isEmpty()) {
+                row.fields.put(header.get(i), value);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Reads an NDJSON file, where each line is a JSON object holding the fields of one row.
+     * @param reader Reader positioned at the start of the file.
+     */
+    private void importNdjson(BufferedReader reader) {
+        ArrayList<ImportRow> batch = new ArrayList<>();
+        int lineNumber = 0;
+        try {
+            String line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                if (!line.trim().isEmpty()) {
+                    batch.add(readJsonRow(lineNumber, line));
+                }
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importBatch(batch);
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException err) {
+            importSummary.addRowError(lineNumber, "Import stopped, " + err.getMessage());
+        }
+        importBatch(batch);
+    }
+
+    /**
+     * Splits a CSV requirements field on every ';' that is not escaped with a '\\'. A '\\' before a ';' or another
+     * '\\' is removed, and left as it is before any other character. Blank requirements are skipped.
+     * @param value Requirements field of a row.
+     * @param requirements List the requirements are added to.
+     */
+    private static void splitRequirements(String value, ArrayList<String> requirements) {
+        StringBuilder requirement = new StringBuilder();
+        for (int i = 0; i <= value.length(); i++) {
+            char c = (i < value.length()) ? value.charAt(i) : ';';
+            if (c == '\\' && i + 1 < value.length() && (value.charAt(i + 1) == ';' || value.charAt(i + 1) == '\\')) {
+                requirement.append(value.charAt(++i));
+            } else if (c == ';') {
+                if (!requirement.toString().trim().isEmpty()) {
+                    requirements.add(requirement.toString().trim());
+                }
+                requirement.setLength(0);
+            } else {
+                requirement.append(c);
+            }
+        }
+    }
+
+    private ImportRow readJsonRow(int lineNumber, String line) {
+        ImportRow row = new ImportRow(lineNumber);
+        JsonElement element;
+        try {
+            element = JsonParser.parseString(line);
+        } catch (JsonParseException err) {
+            row.errorMessage = "The line is not valid JSON";
+            return row;
+        }
+        if (!element.isJsonObject()) {
+            row.errorMessage = "The line is not a JSON object";
+            return row;
+        }
+        for (Map.Entry<String, JsonElement> field : element.getAsJsonObject().entrySet()) {
+            JsonElement value = field.getValue();
+            if ("requirements".equals(field.getKey()) && value.isJsonArray()) {
+                for (JsonElement requirement : value.getAsJsonArray()) {
+                    if (!requirement.isJsonPrimitive()) {
+                        row.errorMessage = "Every requirement must be a string, number or boolean";
+                        return row;
+                    }
+                    row.requirements.add(requirement.getAsString().trim());
+                }
+            } else if (value.isJsonPrimitive()) {
+                row.fields.put(field.getKey(), value.getAsString().trim());
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Validates a batch of rows and adds the valid ones to the project. Tasks and members are added before the
+     * assignments of the batch are made, so that a row may assign a task or member added earlier in the same batch.
+     * @param batch Rows to be imported, which is emptied afterwards.
+     */
+    private void importBatch(ArrayList<ImportRow> batch) {
+        ArrayList<Task> newTasks = new ArrayList<>();
+        ArrayList<Member> newMembers = new ArrayList<>();
+        ArrayList<Reminder> newReminders = new ArrayList<>();
+        ArrayList<ImportRow> assignmentRows = new ArrayList<>();
+        for (ImportRow row : batch) {
+            String type = row.fields.getOrDefault("type", "").toLowerCase();
+            if (row.errorMessage != null) {
+                importSummary.addRowError(row.lineNumber, row.errorMessage);
+            } else if ("task".equals(type)) {
+                Task newTask = createTask(row);
+                if (newTask != null) {
+                    newTasks.add(newTask);
+                    tasksByName.put(newTask.getTaskName(), newTask);
+                }
+            } else if ("member".equals(type)) {
+                Member newMember = createMember(row);
+                if (newMember != null) {
+                    newMembers.add(newMember);
+                    membersByName.put(newMember.getName(), newMember);
+                }
+            } else if ("assignment".equals(type)) {
+                assignmentRows.add(row);
+            } else if ("reminder".equals(type)) {
+                Reminder newReminder = createReminder(row);
+                if (newReminder != null) {
+                    newReminders.add(newReminder);
+                }
+            } else {
+                importSummary.addRowError(row.lineNumber, "The type must be task, member, assignment or reminder");
+            }
+        }
+        for (Task newTask : newTasks) {
+            project.addTask(newTask);
+            importSummary.addTaskImported();
+        }
+        for (Member newMember : newMembers) {
+            project.addMember(newMember);
+            importSummary.addMemberImported();
+        }
+        for (Reminder newReminder : newReminders) {
+            project.addReminderToList(newReminder);
+            importSummary.addReminderImported();
+        }
+        for (ImportRow row : assignmentRows) {
+            createAssignment(row);
+        }
+        batch.clear();
+    }
+
+    private Task createTask(ImportRow row) {
+        String name = row.fields.get("name");
+        if (name == null) {
+            importSummary.addRowError(row.lineNumber, "A task must have a name");
+            return null;
+        } else if (tasksByName.containsKey(name)) {
+            importSummary.addRowError(row.lineNumber, "A task named " + name + " already exists");
+            return null;
+        }
+        int priority = parseNumber(row.fields.get("priority"));
+        if (priority < 1 || priority > 5) {
+            importSummary.addRowError(row.lineNumber, "The priority of " + name + " must be a number from 1 to 5");
+            return null;
+        }
+        int credit = parseNumber(row.fields.get("credit"));
+        if (credit < 0 || credit > 100) {
+            importSummary.addRowError(row.lineNumber, "The credit of " + name + " must be a number from 0 to 100");
+            return null;
+        }
+        Date dueDate = null;
+        if (row.fields.containsKey("due")) {
+            try {
+                dueDate = dateFormat.parse(row.fields.get("due"));
+            } catch (ParseException err) {
+                importSummary.addRowError(row.lineNumber, "The due date of " + name + " must be in dd/mm/yyyy");
+                return null;
+            }
+        }
+        TaskState state = TaskState.OPEN;
+        if (row.fields.containsKey("state")) {
+            try {
+                state = TaskState.valueOf(row.fields.get("state").toUpperCase());
+            } catch (IllegalArgumentException err) {
+                importSummary.addRowError(row.lineNumber, "The state of " + name
+                    + " must be open, todo, doing or done");
+                return null;
+            }
+        }
+        return new Task(name, priority, dueDate, credit, state, row.requirements);
+    }
+
+    private int parseNumber(String number) {
+        if (number == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException err) {
+            return -1;
+        }
+    }
+
+    private Member createMember(ImportRow row) {
+        String name = row.fields.get("name");
+        if (name == null) {
+            importSummary.addRowError(row.lineNumber, "A member must have a name");
+            return null;
+        } else if (membersByName.containsKey(name)) {
+            importSummary.addRowError(row.lineNumber, "A member named " + name + " already exists");
+            return null;
+        }
+        String phone = row.fields.getOrDefault("phone", "--");
+        String email = row.fields.getOrDefault("email", "--");
+        String errorMessage = validityHelper.emailPhoneErrorMessage(email, phone);
+        if (!errorMessage.isEmpty()) {
+            importSummary.addRowError(row.lineNumber, errorMessage);
+            return null;
+        }
+        return new Member(name, phone, email, 0, row.fields.getOrDefault("role", "member"));
+    }
+
+    private Reminder createReminder(ImportRow row) {
+        String name = row.fields.get("name");
+        if (name == null) {
+            importSummary.addRowError(row.lineNumber, "A reminder must have a name");
+            return null;
+        }
+        Date reminderDate = null;
+        if (row.fields.containsKey("due")) {
+            try {
+                reminderDate = dateFormat.parse(row.fields.get("due"));
+            } catch (ParseException err) {
+                importSummary.addRowError(row.lineNumber, "The due date of " + name + " must be in dd/mm/yyyy");
+                return null;
+            }
+        }
+        Reminder reminder = new Reminder(name, row.fields.getOrDefault("remarks", "--"), reminderDate,
+            row.fields.getOrDefault("category", "DEFAULT").toUpperCase());
+        reminder.setIsDone(Boolean.parseBoolean(row.fields.get("done")));
+        return reminder;
+    }
+
+    private void createAssignment(ImportRow row) {
+        Task task = tasksByName.get(row.fields.getOrDefault("task", ""));
+        Member member = membersByName.get(row.fields.getOrDefault("member", ""));
+        if (task == null) {
+            importSummary.addRowError(row.lineNumber, "No task is named " + row.fields.get("task"));
+        } else if (member == null) {
+            importSummary.addRowError(row.lineNumber, "No member is named " + row.fields.get("member"));
+        } else if (project.containsAssignment(task, member)) {
+            importSummary.addRowError(row.lineNumber, task.getTaskName() + " is already assigned to "
+                + member.getName());
+        } else {
+            project.createAssignment(task, member);
+            importSummary.addAssignmentImported();
+        }
+    }
+
+    private static class ImportRow {
+        private int lineNumber;
+        private HashMap<String, String> fields;
+        private ArrayList<String> requirements;
+        private String errorMessage;
+
+        ImportRow(int lineNumber) {
+            this.lineNumber = lineNumber;
+            this.fields = new HashMap<>();
+            this.requirements = new ArrayList<>();
+        }
+    }
+}
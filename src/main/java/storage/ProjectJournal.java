@@ -0,0 +1,254 @@
+package storage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import models.project.Project;
+import util.log.ArchDukeLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ProjectJournal {
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+    private String directory;
+    private Gson gson;
+    private Set<String> unsyncedJournals;
+    private ConcurrentHashMap<String, Object> journalLocks;
+    private volatile ProjectReplicator projectReplicator;
+
+    /**
+     * Class responsible for the append-only journals of Projects. Each journal holds one JSON record per line,
+     * describing a mutation made to the Project since its last snapshot was written. Every line starts with the
+     * CRC32C checksum of its record in hexadecimal. Each journal has its own lock, so that the journals of different
+     * Projects are written at the same time.
+     * @param directory Directory where the journals are kept, alongside the Project snapshots.
+     */
+    public ProjectJournal(String directory) {
+        this.directory = directory;
+        this.gson = StorageGson.getGson();
+        this.unsyncedJournals = ConcurrentHashMap.newKeySet();
+        this.journalLocks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Appends records to the end of the journal of a Project. The records are not forced to disk until syncAll is
+     * called, so that a single sync can cover the records appended for a whole batch of saves. The records are
+     * encoded before the lock of the journal is taken, so only the write itself is done under the lock.
+     * @param projectID ID of the Project the records belong to.
+     * @param records Records to be appended.
+     * @return The size of the journal in bytes after appending.
+     * @throws IOException If the journal cannot be written to.
+     */
+    public long append(String projectID, ArrayList<JournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JournalRecord record : records) {
+            String recordJson = gson.toJson(record);
+            lines.append(Long.toHexString(RecordChecksum.compute(recordJson))).append(' ')
+                .append(recordJson).append('\n');
+        }
+        byte[] tail = lines.toString().getBytes(StandardCharsets.UTF_8);
+        File journalFile = getJournalFile(projectID);
+        synchronized (getJournalLock(projectID)) {
+            long journalOffset = journalFile.length();
+            try (OutputStream outputStream = new FileOutputStream(journalFile, true)) {
+                outputStream.write(tail);
+            }
+            unsyncedJournals.add(projectID);
+            if (projectReplicator != null) {
+                projectReplicator.shipAppend(journalFile, journalOffset, tail);
+            }
+            return journalFile.length();
+        }
+    }
+
+    /**
+     * Forces every journal appended to since the last sync to disk.
+     * @return Number of journals that were forced to disk.
+     * @throws IOException If a journal cannot be forced to disk. The journals that were not synced are kept, so
+     *         that the next sync tries them again.
+     */
+    public int syncAll() throws IOException {
+        int numOfSyncedJournals = 0;
+        for (String projectID : new ArrayList<>(unsyncedJournals)) {
+            synchronized (getJournalLock(projectID)) {
+                if (!unsyncedJournals.remove(projectID)) {
+                    continue;
+                }
+                try {
+                    DurableFiles.sync(getJournalFile(projectID).toPath());
+                } catch (IOException err) {
+                    unsyncedJournals.add(projectID);
+                    throw err;
+                }
+            }
+            numOfSyncedJournals++;
+        }
+        return numOfSyncedJournals;
+    }
+
+    /**
+     * Returns the size of the journal of a Project.
+     * @param projectID ID of the Project.
+     * @return Size of the journal in bytes, or 0 if the Project has no journal.
+     */
+    public long getSize(String projectID) {
+        synchronized (getJournalLock(projectID)) {
+            return getJournalFile(projectID).length();
+        }
+    }
+
+    /**
+     * Reads all records in the journal of a Project. A line that does not match its checksum, or cannot be parsed,
+     * is skipped and reported as damaged, and the records after it are still read. Lines written before records
+     * carried a checksum are read without the check.
+     * @param projectID ID of the Project.
+     * @param damagedRecords Descriptions of the records that were skipped are added to this list.
+     * @return ArrayList of records in the order they were appended.
+     */
+    public ArrayList<JournalRecord> readRecords(String projectID, ArrayList<String> damagedRecords) {
+        synchronized (getJournalLock(projectID)) {
+            ArrayList<JournalRecord> records = new ArrayList<>();
+            File journalFile = getJournalFile(projectID);
+            if (!journalFile.exists()) {
+                return records;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        records.add(readRecord(line));
+                    } catch (RuntimeException err) {
+                        damagedRecords.add("journal record " + lineNumber + " skipped, " + err.getMessage());
+                    }
+                }
+            } catch (IOException err) {
+                ArchDukeLogger.logError(ProjectJournal.class.getName(), "Journal of project " + projectID
+                    + " is incomplete, replaying " + records.size() + " records");
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Replays the journal of a Project over the Project loaded from its last snapshot. A record that cannot be
+     * applied is skipped and reported as damaged.
+     * @param projectID ID of the Project.
+     * @param project Project loaded from its snapshot.
+     * @param damagedRecords Descriptions of the records that were skipped are added to this list.
+     * @return Number of records replayed.
+     */
+    public int replay(String projectID, Project project, ArrayList<String> damagedRecords) {
+        ArrayList<JournalRecord> records = readRecords(projectID, damagedRecords);
+        int numOfReplayedRecords = 0;
+        for (JournalRecord record : records) {
+            try {
+                record.applyTo(project);
+                numOfReplayedRecords++;
+            } catch (RuntimeException err) {
+                damagedRecords.add("journal record " + record.getOperation() + " not replayed, " + err.getMessage());
+            }
+        }
+        return numOfReplayedRecords;
+    }
+
+    /**
+     * Discards the start of the journal of a Project once a snapshot containing those records has been written.
+     * Records appended after the snapshot was taken are kept.
+     * @param projectID ID of the Project.
+     * @param offset Size of the journal when the snapshot was taken.
+     * @throws IOException If the journal cannot be rewritten.
+     */
+    public void discardUpTo(String projectID, long offset) throws IOException {
+        synchronized (getJournalLock(projectID)) {
+            File journalFile = getJournalFile(projectID);
+            if (!journalFile.exists()) {
+                return;
+            }
+            byte[] journalBytes = Files.readAllBytes(journalFile.toPath());
+            unsyncedJournals.remove(projectID);
+            if (journalBytes.length <= offset) {
+                Files.delete(journalFile.toPath());
+                DurableFiles.syncDirectory(journalFile.getAbsoluteFile().getParentFile().toPath());
+                if (projectReplicator != null) {
+                    projectReplicator.shipFile(journalFile);
+                }
+                return;
+            }
+            byte[] remainingBytes = Arrays.copyOfRange(journalBytes, (int) offset, journalBytes.length);
+            DurableFiles.writeAtomically(journalFile.toPath(), remainingBytes);
+            if (projectReplicator != null) {
+                projectReplicator.shipWrite(journalFile, remainingBytes);
+            }
+        }
+    }
+
+    /**
+     * Deletes the journal of a Project.
+     * @param projectID ID of the Project.
+     * @return true if the Project no longer has a journal.
+     */
+    public boolean delete(String projectID) {
+        synchronized (getJournalLock(projectID)) {
+            File journalFile = getJournalFile(projectID);
+            unsyncedJournals.remove(projectID);
+            if (journalFile.exists() && !journalFile.delete()) {
+                ArchDukeLogger.logError(ProjectJournal.class.getName(), "Journal of project " + projectID
+                    + " not deleted");
+                return false;
+            }
+            if (projectReplicator != null) {
+                projectReplicator.shipFile(journalFile);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Ships every journal write to a replica from now on.
+     * @param projectReplicator Replicator the writes are shipped to.
+     */
+    void setReplicator(ProjectReplicator projectReplicator) {
+        this.projectReplicator = projectReplicator;
+    }
+
+    private JournalRecord readRecord(String line) {
+        String recordJson = line;
+        if (!line.startsWith("{")) {
+            int separatorIndex = line.indexOf(' ');
+            if (separatorIndex < 0) {
+                throw new JsonParseException("record is incomplete");
+            }
+            recordJson = line.substring(separatorIndex + 1);
+            if (Long.parseLong(line.substring(0, separatorIndex), 16) != RecordChecksum.compute(recordJson)) {
+                throw new JsonParseException("checksum does not match");
+            }
+        }
+        JournalRecord record = gson.fromJson(recordJson, JournalRecord.class);
+        if (record == null || record.getOperation() == null) {
+            throw new JsonParseException("record has no operation");
+        }
+        return record;
+    }
+
+    private Object getJournalLock(String projectID) {
+        return journalLocks.computeIfAbsent(projectID, key -> new Object());
+    }
+
+    File getJournalFile(String projectID) {
+        return new File(directory, projectID + JOURNAL_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,125 @@
+package storage;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.UUID;
+
+class ProjectManifest {
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+    private File manifestFile;
+    private HashMap<String, ProjectManifestRecord> recordsByName;
+    private ProjectReplicator projectReplicator;
+
+    /**
+     * Class responsible for the manifest of the data directory, which lists every saved Project together with the
+     * files it is saved in. Projects are only ever loaded from the files listed, so other files in the directory
+     * are never read.
+     * @param directory : Data directory the manifest is kept in.
+     */
+    ProjectManifest(String directory) {
+        this.manifestFile = new File(directory, MANIFEST_FILE_NAME);
+        this.recordsByName = new HashMap<>();
+    }
+
+    /**
+     * Reads the manifest written by the last run.
+     * @return : Returns false if there is no manifest, or it cannot be read.
+     * @throws IOException : Exception thrown when the manifest exists but cannot be read.
+     */
+    synchronized boolean read() throws IOException {
+        recordsByName.clear();
+        if (!manifestFile.exists()) {
+            return false;
+        }
+        try (Reader fileReader = new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8)) {
+            ProjectManifestRecord[] savedRecords = StorageGson.getGson().fromJson(fileReader,
+                ProjectManifestRecord[].class);
+            for (ProjectManifestRecord manifestRecord : savedRecords) {
+                recordsByName.put(manifestRecord.getProjectName(), manifestRecord);
+            }
+        } catch (RuntimeException err) {
+            recordsByName.clear();
+            throw new IOException(err.getMessage(), err);
+        }
+        return true;
+    }
+
+    /**
+     * Atomically replaces the manifest with the records held.
+     * @throws IOException : Exception thrown when the manifest cannot be written.
+     */
+    synchronized void write() throws IOException {
+        byte[] manifest = StorageGson.getGson().toJson(getRecords()).getBytes(StandardCharsets.UTF_8);
+        DurableFiles.writeAtomically(manifestFile.toPath(), manifest);
+        if (projectReplicator != null) {
+            projectReplicator.shipWrite(manifestFile, manifest);
+        }
+    }
+
+    /**
+     * Ships every write of the manifest to a replica from now on.
+     * @param projectReplicator : Replicator the writes are shipped to.
+     */
+    synchronized void setReplicator(ProjectReplicator projectReplicator) {
+        this.projectReplicator = projectReplicator;
+    }
+
+    synchronized ProjectManifestRecord get(String projectName) {
+        return recordsByName.get(projectName);
+    }
+
+    synchronized void put(ProjectManifestRecord manifestRecord) {
+        recordsByName.put(manifestRecord.getProjectName(), manifestRecord);
+    }
+
+    /**
+     * Returns the record of a Project, adding one with a new ID to name its files after if the Project has not been
+     * saved yet.
+     * @param projectName : Name of the Project.
+     * @param fileExtension : Extension of the snapshot file of the Project.
+     * @return : Returns the record of the Project.
+     */
+    synchronized ProjectManifestRecord getOrAdd(String projectName, String fileExtension) {
+        ProjectManifestRecord manifestRecord = recordsByName.get(projectName);
+        if (manifestRecord == null) {
+            String projectID = UUID.randomUUID().toString();
+            manifestRecord = new ProjectManifestRecord(projectID, projectName, projectID + fileExtension);
+            recordsByName.put(projectName, manifestRecord);
+        }
+        return manifestRecord;
+    }
+
+    synchronized ProjectManifestRecord remove(String projectName) {
+        return recordsByName.remove(projectName);
+    }
+
+    /**
+     * Renames a Project without touching its files, which are named after its ID.
+     * @return : Returns false if the Project is not listed.
+     */
+    synchronized boolean rename(String oldName, String newName) {
+        ProjectManifestRecord manifestRecord = recordsByName.remove(oldName);
+        if (manifestRecord == null) {
+            return false;
+        }
+        manifestRecord.setProjectName(newName);
+        recordsByName.put(newName, manifestRecord);
+        return true;
+    }
+
+    /**
+     * Returns every record in the order of the names of their Projects.
+     */
+    synchronized ArrayList<ProjectManifestRecord> getRecords() {
+        ArrayList<ProjectManifestRecord> manifestRecords = new ArrayList<>(recordsByName.values());
+        manifestRecords.sort(Comparator.comparing(ProjectManifestRecord::getProjectName));
+        return manifestRecords;
+    }
+}
@@ -0,0 +1,156 @@
+package storage;
+
+import models.project.ProjectSummary;
+
+import java.io.File;
+
+class ProjectManifestRecord {
+    private String projectID;
+    private String projectName;
+    private String snapshotFileName;
+    private long snapshotLength;
+    private long snapshotLastModified;
+    private long snapshotChecksum;
+    private long snapshotContentHash;
+    private ProjectSummary projectSummary;
+    private long journalLength;
+    private long journalLastModified;
+    private String archiveFileName;
+
+    /**
+     * Class representing the entry of a single Project in the manifest of the data directory. It records the ID
+     * the files of the Project are named after, the size, modification time and checksums of the snapshot
+     * last written, and a summary of the Project together with the journal it was taken from, so that a summary
+     * that no longer matches the saved files can be recognised.
+     * @param projectID : ID of the Project, which its snapshot and journal are named after.
+     * @param projectName : Name of the Project.
+     * @param snapshotFileName : Name of the snapshot file of the Project.
+     */
+    ProjectManifestRecord(String projectID, String projectName, String snapshotFileName) {
+        this.projectID = projectID;
+        this.projectName = projectName;
+        this.snapshotFileName = snapshotFileName;
+    }
+
+    synchronized String getProjectID() {
+        return this.projectID;
+    }
+
+    synchronized String getProjectName() {
+        return this.projectName;
+    }
+
+    synchronized String getSnapshotFileName() {
+        return this.snapshotFileName;
+    }
+
+    synchronized long getSnapshotChecksum() {
+        return this.snapshotChecksum;
+    }
+
+    synchronized ProjectSummary getProjectSummary() {
+        return this.projectSummary;
+    }
+
+    synchronized String getArchiveFileName() {
+        return this.archiveFileName;
+    }
+
+    synchronized boolean isArchived() {
+        return this.archiveFileName != null;
+    }
+
+    /**
+     * Records that the Project has been archived. Its summary is kept, since the archive file is not read until the
+     * Project is unarchived, and the snapshot it no longer has is forgotten.
+     * @param archiveFileName : Name of the archive file holding the Project.
+     * @param projectSummary : Summary of the Project as it was archived.
+     */
+    synchronized void recordArchive(String archiveFileName, ProjectSummary projectSummary) {
+        this.archiveFileName = archiveFileName;
+        this.projectSummary = projectSummary;
+        this.snapshotLength = 0;
+        this.snapshotLastModified = 0;
+        this.snapshotChecksum = 0;
+        this.snapshotContentHash = 0;
+    }
+
+    /**
+     * Records that the Project has been unarchived, once a snapshot has been written for it again.
+     */
+    synchronized void clearArchive() {
+        this.archiveFileName = null;
+    }
+
+    /**
+     * Renames the Project. The summary held no longer has the right name, so it is dropped.
+     */
+    synchronized void setProjectName(String projectName) {
+        this.projectName = projectName;
+        this.projectSummary = null;
+    }
+
+    /**
+     * Records a snapshot that has just been written. The summary held was taken from the previous snapshot, so it
+     * is dropped until a new one is recorded.
+     * @param snapshotFile : Snapshot that was written.
+     * @param snapshotChecksum : CRC32 checksum of the content of the snapshot.
+     * @param snapshotContentHash : CRC32C checksum of the content of the snapshot.
+     */
+    synchronized void recordSnapshot(File snapshotFile, long snapshotChecksum, long snapshotContentHash) {
+        this.snapshotFileName = snapshotFile.getName();
+        this.snapshotLength = snapshotFile.length();
+        this.snapshotLastModified = snapshotFile.lastModified();
+        this.snapshotChecksum = snapshotChecksum;
+        this.snapshotContentHash = snapshotContentHash;
+        this.projectSummary = null;
+    }
+
+    /**
+     * Checks if a snapshot about to be written has the same content as the one already on disk, judging by its
+     * size and two independent checksums, and by the file on disk not having been written since it was recorded.
+     * @param snapshotFile : Snapshot of the Project on disk.
+     * @param snapshotLength : Size of the snapshot about to be written.
+     * @param snapshotChecksum : CRC32 checksum of the snapshot about to be written.
+     * @param snapshotContentHash : CRC32C checksum of the snapshot about to be written.
+     * @return : Returns true if writing the snapshot would leave the file on disk as it is.
+     */
+    synchronized boolean isSnapshotUnchanged(File snapshotFile, long snapshotLength, long snapshotChecksum,
+                                             long snapshotContentHash) {
+        return this.snapshotContentHash != 0 && isSnapshotRecorded(snapshotFile)
+            && this.snapshotLength == snapshotLength && this.snapshotChecksum == snapshotChecksum
+            && this.snapshotContentHash == snapshotContentHash;
+    }
+
+    /**
+     * Records the summary of the Project as it is once its snapshot and journal have been written.
+     * @param journalFile : Journal of the Project.
+     * @param projectSummary : Summary of the Project.
+     */
+    synchronized void recordSummary(File journalFile, ProjectSummary projectSummary) {
+        this.journalLength = journalFile.length();
+        this.journalLastModified = journalFile.lastModified();
+        this.projectSummary = projectSummary;
+    }
+
+    /**
+     * Checks if a snapshot is still the one this record was taken from, judging by its size and modification time.
+     * @param snapshotFile : Snapshot of the Project.
+     * @return : Returns true if the snapshot has not been written since it was recorded.
+     */
+    synchronized boolean isSnapshotRecorded(File snapshotFile) {
+        return this.snapshotFileName.equals(snapshotFile.getName()) && this.snapshotLength == snapshotFile.length()
+            && this.snapshotLastModified == snapshotFile.lastModified();
+    }
+
+    /**
+     * Checks if the saved files of the Project are still the ones the summary was taken from.
+     * @param snapshotFile : Snapshot of the Project.
+     * @param journalFile : Journal of the Project.
+     * @return : Returns true if neither file has been written since the summary was recorded.
+     */
+    synchronized boolean isUpToDate(File snapshotFile, File journalFile) {
+        return this.projectSummary != null && isSnapshotRecorded(snapshotFile)
+            && this.journalLength == journalFile.length() && this.journalLastModified == journalFile.lastModified();
+    }
+}
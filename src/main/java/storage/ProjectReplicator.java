@@ -0,0 +1,317 @@
+package storage;
+
+import util.log.ArchDukeLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.TreeSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+import static util.constant.ConstantHelper.ARCHIVE_DIRECTORY_NAME;
+
+class ProjectReplicator {
+    static final String SEQUENCE_FILE_NAME = "replica.seq";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+    private Path primaryDirectory;
+    private Path replicaDirectory;
+    private LinkedBlockingQueue<ReplicationEvent> replicationEvents;
+    private long shippedSequence;
+    private long appliedSequence;
+
+    /**
+     * Class responsible for shipping every file written to the data directory to a replica directory on a
+     * background thread, so that a warm standby copy of the saved Projects is kept without slowing down saves.
+     * Each write is numbered and queued with the bytes written, and is applied to the replica in the same order it
+     * was made to the data directory. Journal appends are shipped as the tail appended, and everything else as the
+     * whole file, keeping the modification time of the original so that the manifest still matches the replica.
+     * @param primaryDirectory Data directory that is replicated.
+     * @param replicaDirectory Directory the replica is kept in.
+     */
+    ProjectReplicator(String primaryDirectory, String replicaDirectory) {
+        this.primaryDirectory = new File(primaryDirectory).toPath().toAbsolutePath();
+        this.replicaDirectory = new File(replicaDirectory).toPath().toAbsolutePath();
+        this.replicationEvents = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Starts the replicator thread, which brings the replica up to date with the data directory before applying
+     * the writes shipped since.
+     */
+    void start() {
+        Thread replicatorThread = new Thread(this::applyReplicationEvents, "ArchDuke-replicator");
+        replicatorThread.setDaemon(true);
+        replicatorThread.start();
+    }
+
+    /**
+     * Ships a file that has just been written in full.
+     * @param file File in the data directory.
+     * @param content Bytes written to the file.
+     */
+    void shipWrite(File file, byte[] content) {
+        ship(new ReplicationEvent(getRelativePath(file), -1, content, file.lastModified()));
+    }
+
+    /**
+     * Ships the tail that has just been appended to a file.
+     * @param file File in the data directory.
+     * @param offset Size of the file before the tail was appended.
+     * @param tail Bytes appended to the file.
+     */
+    void shipAppend(File file, long offset, byte[] tail) {
+        ship(new ReplicationEvent(getRelativePath(file), offset, tail, file.lastModified()));
+    }
+
+    /**
+     * Ships a file that has been deleted or moved, or written without its bytes at hand. The replica is given the
+     * file as it is when the shipment is applied, or loses it if it no longer exists.
+     * @param file File in the data directory.
+     */
+    void shipFile(File file) {
+        ship(new ReplicationEvent(getRelativePath(file), -1, null, 0));
+    }
+
+    synchronized long getShippedSequence() {
+        return shippedSequence;
+    }
+
+    synchronized long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    String getReplicaDirectory() {
+        return replicaDirectory.toString();
+    }
+
+    /**
+     * Blocks until every write shipped so far has been applied to the replica.
+     * @param timeoutMillis Longest time to wait, in milliseconds.
+     * @return True if the replica caught up in time.
+     */
+    synchronized boolean awaitReplica(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remainingMillis = timeoutMillis;
+        while (appliedSequence < shippedSequence && remainingMillis > 0) {
+            try {
+                wait(remainingMillis);
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            remainingMillis = deadline - System.currentTimeMillis();
+        }
+        return appliedSequence >= shippedSequence;
+    }
+
+    /**
+     * Compares every replicated file in the replica with the data directory, by size and CRC32C checksum.
+     * @return Descriptions of the files that do not match, empty if the replica matches the data directory.
+     * @throws IOException If either directory cannot be read.
+     */
+    ArrayList<String> compareWithPrimary() throws IOException {
+        TreeSet<String> relativePaths = new TreeSet<>(listReplicatedFiles(primaryDirectory));
+        relativePaths.addAll(listReplicatedFiles(replicaDirectory));
+        ArrayList<String> mismatches = new ArrayList<>();
+        for (String relativePath : relativePaths) {
+            Path primaryFile = primaryDirectory.resolve(relativePath);
+            Path replicaFile = replicaDirectory.resolve(relativePath);
+            if (!Files.exists(replicaFile)) {
+                mismatches.add(relativePath + " is missing from the replica.");
+            } else if (!Files.exists(primaryFile)) {
+                mismatches.add(relativePath + " is in the replica but not in the data directory.");
+            } else if (!isSameContent(primaryFile, replicaFile)) {
+                mismatches.add(relativePath + " differs from the data directory.");
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Reads the sequence number of the last write applied, as recorded in the replica itself.
+     * @return The sequence number, or 0 if the replica has not recorded one.
+     */
+    long readReplicaSequence() {
+        try {
+            return Long.parseLong(Files.readString(replicaDirectory.resolve(SEQUENCE_FILE_NAME)).trim());
+        } catch (IOException | NumberFormatException err) {
+            return 0;
+        }
+    }
+
+    /**
+     * Numbers a write and queues it. The queue is not bounded, so shipping never blocks the thread saving.
+     */
+    private synchronized void ship(ReplicationEvent replicationEvent) {
+        replicationEvent.sequence = ++shippedSequence;
+        replicationEvents.add(replicationEvent);
+    }
+
+    /**
+     * Loop of the replicator thread. Every write waiting in the queue is applied in order, after which the
+     * appended journals are forced to disk together and the sequence number reached is recorded in the replica.
+     */
+    private void applyReplicationEvents() {
+        try {
+            resynchronize();
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectReplicator.class.getName(), "Replica not resynchronized: "
+                + err.getMessage());
+        }
+        ArrayList<ReplicationEvent> replicationEventBatch = new ArrayList<>();
+        LinkedHashSet<Path> appendedFiles = new LinkedHashSet<>();
+        while (true) {
+            try {
+                replicationEventBatch.add(replicationEvents.take());
+            } catch (InterruptedException err) {
+                return;
+            }
+            replicationEvents.drainTo(replicationEventBatch);
+            for (ReplicationEvent replicationEvent : replicationEventBatch) {
+                try {
+                    apply(replicationEvent, appendedFiles);
+                } catch (IOException err) {
+                    ArchDukeLogger.logError(ProjectReplicator.class.getName(), replicationEvent.relativePath
+                        + " not replicated: " + err.getMessage());
+                }
+            }
+            long batchSequence = replicationEventBatch.get(replicationEventBatch.size() - 1).sequence;
+            try {
+                for (Path appendedFile : appendedFiles) {
+                    DurableFiles.sync(appendedFile);
+                }
+                DurableFiles.writeAtomically(replicaDirectory.resolve(SEQUENCE_FILE_NAME),
+                    (batchSequence + "\n").getBytes(StandardCharsets.UTF_8));
+            } catch (IOException err) {
+                ArchDukeLogger.logError(ProjectReplicator.class.getName(), "Replica not synced: " + err.getMessage());
+            }
+            synchronized (this) {
+                appliedSequence = batchSequence;
+                notifyAll();
+            }
+            replicationEventBatch.clear();
+            appendedFiles.clear();
+        }
+    }
+
+    /**
+     * Applies a single write to the replica. A tail that does not start where the replica of the file ends, such
+     * as one already copied by a resynchronization, is replaced by a copy of the whole file.
+     */
+    private void apply(ReplicationEvent replicationEvent, LinkedHashSet<Path> appendedFiles) throws IOException {
+        Path replicaFile = replicaDirectory.resolve(replicationEvent.relativePath);
+        if (replicationEvent.content == null) {
+            copyFromPrimary(replicationEvent.relativePath);
+            return;
+        }
+        Files.createDirectories(replicaFile.getParent());
+        if (replicationEvent.offset < 0) {
+            DurableFiles.writeAtomically(replicaFile, replicationEvent.content);
+        } else {
+            long replicaLength = Files.exists(replicaFile) ? Files.size(replicaFile) : 0;
+            if (replicaLength >= replicationEvent.offset + replicationEvent.content.length) {
+                return;
+            } else if (replicaLength != replicationEvent.offset) {
+                copyFromPrimary(replicationEvent.relativePath);
+                return;
+            }
+            Files.write(replicaFile, replicationEvent.content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            appendedFiles.add(replicaFile);
+        }
+        replicaFile.toFile().setLastModified(replicationEvent.lastModified);
+    }
+
+    /**
+     * Brings the replica up to date with the data directory, copying only the files that differ. The manifest is
+     * copied last, so that the replica never lists a snapshot it does not have yet.
+     */
+    private void resynchronize() throws IOException {
+        Files.createDirectories(replicaDirectory);
+        ArrayList<String> relativePaths = listReplicatedFiles(primaryDirectory);
+        relativePaths.sort((first, second) -> Boolean.compare(first.equals(ProjectManifest.MANIFEST_FILE_NAME),
+            second.equals(ProjectManifest.MANIFEST_FILE_NAME)));
+        for (String relativePath : relativePaths) {
+            Path replicaFile = replicaDirectory.resolve(relativePath);
+            if (!Files.exists(replicaFile) || !isSameContent(primaryDirectory.resolve(relativePath), replicaFile)) {
+                copyFromPrimary(relativePath);
+            }
+        }
+        for (String relativePath : listReplicatedFiles(replicaDirectory)) {
+            if (!Files.exists(primaryDirectory.resolve(relativePath))) {
+                Files.deleteIfExists(replicaDirectory.resolve(relativePath));
+            }
+        }
+        ArchDukeLogger.logInfo(ProjectReplicator.class.getName(), "Replica resynchronized with "
+            + relativePaths.size() + " files");
+    }
+
+    private void copyFromPrimary(String relativePath) throws IOException {
+        Path primaryFile = primaryDirectory.resolve(relativePath);
+        Path replicaFile = replicaDirectory.resolve(relativePath);
+        if (!Files.exists(primaryFile)) {
+            Files.deleteIfExists(replicaFile);
+            return;
+        }
+        long lastModified = primaryFile.toFile().lastModified();
+        Files.createDirectories(replicaFile.getParent());
+        DurableFiles.writeAtomically(replicaFile, Files.readAllBytes(primaryFile));
+        replicaFile.toFile().setLastModified(lastModified);
+    }
+
+    private boolean isSameContent(Path primaryFile, Path replicaFile) throws IOException {
+        return Files.size(primaryFile) == Files.size(replicaFile)
+            && RecordChecksum.compute(Files.readAllBytes(primaryFile))
+            == RecordChecksum.compute(Files.readAllBytes(replicaFile));
+    }
+
+    /**
+     * Lists the files of a data directory that are replicated, which are the manifest, snapshots, journals and
+     * archives. Temporary files, the quarantine folder and the sequence number of the replica are left out.
+     * @return Paths of the files relative to the directory.
+     */
+    private ArrayList<String> listReplicatedFiles(Path directory) throws IOException {
+        ArrayList<String> relativePaths = new ArrayList<>();
+        addReplicatedFiles(directory, directory, relativePaths);
+        addReplicatedFiles(directory, directory.resolve(ARCHIVE_DIRECTORY_NAME), relativePaths);
+        return relativePaths;
+    }
+
+    private void addReplicatedFiles(Path directory, Path folder, ArrayList<String> relativePaths) throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            files.filter(Files::isRegularFile)
+                .map(file -> directory.relativize(file).toString())
+                .filter(relativePath -> !relativePath.endsWith(TEMPORARY_FILE_EXTENSION)
+                    && !relativePath.equals(SEQUENCE_FILE_NAME))
+                .sorted()
+                .forEach(relativePaths::add);
+        }
+    }
+
+    private String getRelativePath(File file) {
+        return primaryDirectory.relativize(file.toPath().toAbsolutePath()).toString();
+    }
+
+    private static class ReplicationEvent {
+        private long sequence;
+        private final String relativePath;
+        private final long offset;
+        private final byte[] content;
+        private final long lastModified;
+
+        ReplicationEvent(String relativePath, long offset, byte[] content, long lastModified) {
+            this.relativePath = relativePath;
+            this.offset = offset;
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+    }
+}
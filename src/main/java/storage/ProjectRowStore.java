@@ -0,0 +1,333 @@
+package storage;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import models.member.IMember;
+import models.member.Member;
+import models.project.Project;
+import models.project.ProjectChanges;
+import models.reminder.Reminder;
+import models.task.ITask;
+import models.task.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static util.constant.ConstantHelper.ROW_STORE_COMPACTION_THRESHOLD_BYTES;
+
+public class ProjectRowStore implements IProjectStore {
+    public static final String FILE_EXTENSION = ".rows";
+    private static final String NAME_KEY = "name";
+    private static final String TASK_KEY_PREFIX = "task/";
+    private static final String MEMBER_KEY_PREFIX = "member/";
+    private static final String REMINDER_KEY_PREFIX = "reminder/";
+    private static final String ASSIGNMENT_KEY_PREFIX = "assignment/";
+    private RowStore rowStore;
+    private TaskTypeAdapter taskTypeAdapter;
+    private MemberTypeAdapter memberTypeAdapter;
+    private ReminderTypeAdapter reminderTypeAdapter;
+    private HashMap<String, Long> rowPositions;
+    private long nextRowPosition;
+    private long nextAssignmentSequence;
+    private int numOfReminderRows;
+    private HashMap<String, LinkedHashSet<String>> assignmentKeysByID;
+
+    /**
+     * Class responsible for persisting a single Project as rows of an embedded RowStore, with one row for each
+     * task, member, reminder and assignment of the Project. Only the rows named in the ProjectChanges of the
+     * Project are written when it is saved, so editing one task writes one row however large the Project is.
+     * @param file File holding the rows of the Project.
+     */
+    public ProjectRowStore(File file) {
+        this.rowStore = new RowStore(file.toPath(), ROW_STORE_COMPACTION_THRESHOLD_BYTES);
+        this.taskTypeAdapter = new TaskTypeAdapter();
+        this.memberTypeAdapter = new MemberTypeAdapter();
+        this.reminderTypeAdapter = new ReminderTypeAdapter();
+        this.rowPositions = new HashMap<>();
+        this.assignmentKeysByID = new HashMap<>();
+    }
+
+    /**
+     * Loads the Project held in the rows. Assignments whose task or member no longer has a row are skipped.
+     * @return The Project, or null if the rows hold no Project.
+     * @throws IOException If the rows cannot be read, or a row cannot be parsed.
+     */
+    @Override
+    public Project load() throws IOException {
+        Map<String, byte[]> rows = rowStore.open();
+        if (!rows.containsKey(NAME_KEY)) {
+            return null;
+        }
+        HashMap<String, String> stringPool = new HashMap<>();
+        TreeMap<Long, Task> tasksByPosition = new TreeMap<>();
+        TreeMap<Long, Member> membersByPosition = new TreeMap<>();
+        TreeMap<Integer, Reminder> remindersByIndex = new TreeMap<>();
+        TreeMap<Long, String[]> assignmentsBySequence = new TreeMap<>();
+        try {
+            for (Map.Entry<String, byte[]> row : rows.entrySet()) {
+                String key = row.getKey();
+                ByteBuffer value = ByteBuffer.wrap(row.getValue());
+                if (key.startsWith(TASK_KEY_PREFIX)) {
+                    long position = value.getLong();
+                    tasksByPosition.put(position, taskTypeAdapter.read(toJsonReader(value), stringPool));
+                } else if (key.startsWith(MEMBER_KEY_PREFIX)) {
+                    long position = value.getLong();
+                    membersByPosition.put(position, memberTypeAdapter.read(toJsonReader(value), stringPool));
+                } else if (key.startsWith(REMINDER_KEY_PREFIX)) {
+                    remindersByIndex.put(Integer.parseInt(key.substring(REMINDER_KEY_PREFIX.length())),
+                        reminderTypeAdapter.read(toJsonReader(value), stringPool));
+                } else if (key.startsWith(ASSIGNMENT_KEY_PREFIX)) {
+                    assignmentsBySequence.put(value.getLong(),
+                        key.substring(ASSIGNMENT_KEY_PREFIX.length()).split("/"));
+                }
+            }
+        } catch (RuntimeException err) {
+            throw new IOException("Row could not be parsed: " + err.getMessage(), err);
+        }
+        HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned = new HashMap<>();
+        HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks = new HashMap<>();
+        for (Task task : tasksByPosition.values()) {
+            taskAndListOfMembersAssigned.put(task.getTaskID(), new ArrayList<>());
+        }
+        for (Member member : membersByPosition.values()) {
+            memberAndIndividualListOfTasks.put(member.getMemberID(), new ArrayList<>());
+        }
+        for (Map.Entry<Long, String[]> assignment : assignmentsBySequence.entrySet()) {
+            String[] taskAndMemberIDs = assignment.getValue();
+            if (taskAndListOfMembersAssigned.containsKey(taskAndMemberIDs[0])
+                    && memberAndIndividualListOfTasks.containsKey(taskAndMemberIDs[1])) {
+                taskAndListOfMembersAssigned.get(taskAndMemberIDs[0]).add(taskAndMemberIDs[1]);
+                memberAndIndividualListOfTasks.get(taskAndMemberIDs[1]).add(taskAndMemberIDs[0]);
+                indexAssignmentKey(taskAndMemberIDs[0], taskAndMemberIDs[1]);
+            }
+            nextAssignmentSequence = assignment.getKey() + 1;
+        }
+        for (Map.Entry<Long, Task> task : tasksByPosition.entrySet()) {
+            rowPositions.put(task.getValue().getTaskID(), task.getKey());
+            nextRowPosition = Math.max(nextRowPosition, task.getKey() + 1);
+        }
+        for (Map.Entry<Long, Member> member : membersByPosition.entrySet()) {
+            rowPositions.put(member.getValue().getMemberID(), member.getKey());
+            nextRowPosition = Math.max(nextRowPosition, member.getKey() + 1);
+        }
+        numOfReminderRows = remindersByIndex.isEmpty() ? 0 : remindersByIndex.lastKey() + 1;
+        String name = new String(rows.get(NAME_KEY), StandardCharsets.UTF_8);
+        return ProjectTypeAdapter.createProject(name, new ArrayList<>(membersByPosition.values()),
+            new ArrayList<>(tasksByPosition.values()), new ArrayList<>(remindersByIndex.values()),
+            taskAndListOfMembersAssigned, memberAndIndividualListOfTasks);
+    }
+
+    /**
+     * Writes every row of a Project, atomically replacing anything the rows held before. Used the first time a
+     * Project is saved, after which only its changes need to be written.
+     * @param project Project to be saved.
+     * @throws IOException If the rows cannot be written.
+     */
+    @Override
+    public void saveProject(Project project) throws IOException {
+        rowStore.clear();
+        rowPositions.clear();
+        assignmentKeysByID.clear();
+        nextRowPosition = 0;
+        nextAssignmentSequence = 0;
+        numOfReminderRows = 0;
+        rowStore.put(NAME_KEY, project.getName().getBytes(StandardCharsets.UTF_8));
+        for (Task task : project.getTaskList().getTaskList()) {
+            putTask(task);
+        }
+        for (Member member : project.getMemberList().getMemberList()) {
+            putMember(member);
+        }
+        for (Map.Entry<String, ArrayList<String>> assignment : project.getTasksAndAssignedMembers().entrySet()) {
+            for (String memberID : assignment.getValue()) {
+                putAssignment(assignment.getKey(), memberID);
+            }
+        }
+        putReminders(project.getReminderList());
+        rowStore.commitReplacingFile();
+        project.getProjectChanges().clear();
+    }
+
+    /**
+     * Writes the rows of the tasks, members, reminders and assignments recorded in the ProjectChanges of a
+     * Project, and forces them to disk with a single sync. The changes are only cleared once they are on disk.
+     * @param project Project whose changes are to be saved.
+     * @throws IOException If the rows cannot be written.
+     */
+    @Override
+    public void saveChanges(Project project) throws IOException {
+        ProjectChanges projectChanges = project.getProjectChanges();
+        if (projectChanges.isEmpty()) {
+            return;
+        }
+        for (String removedTaskID : projectChanges.getRemovedTaskIDs()) {
+            rowStore.delete(TASK_KEY_PREFIX + removedTaskID);
+            rowPositions.remove(removedTaskID);
+            deleteAssignments(removedTaskID);
+        }
+        for (String removedMemberID : projectChanges.getRemovedMemberIDs()) {
+            rowStore.delete(MEMBER_KEY_PREFIX + removedMemberID);
+            rowPositions.remove(removedMemberID);
+            deleteAssignments(removedMemberID);
+        }
+        if (projectChanges.isTaskOrderChanged()) {
+            for (Task task : project.getTaskList().getTaskList()) {
+                rowPositions.remove(task.getTaskID());
+                putTask(task);
+            }
+        } else {
+            for (String changedTaskID : projectChanges.getChangedTaskIDs()) {
+                ITask changedTask = project.getTaskFromID(changedTaskID);
+                if (changedTask instanceof Task) {
+                    putTask((Task) changedTask);
+                }
+            }
+        }
+        for (String changedMemberID : projectChanges.getChangedMemberIDs()) {
+            IMember changedMember = project.getMemberFromID(changedMemberID);
+            if (changedMember instanceof Member) {
+                putMember((Member) changedMember);
+            }
+        }
+        for (String[] assignmentChange : projectChanges.getAssignmentChanges()) {
+            if (Boolean.parseBoolean(assignmentChange[2])) {
+                putAssignment(assignmentChange[0], assignmentChange[1]);
+            } else {
+                deleteAssignment(assignmentChange[0], assignmentChange[1]);
+            }
+        }
+        if (projectChanges.isReminderListChanged()) {
+            putReminders(project.getReminderList());
+        }
+        rowStore.commit();
+        projectChanges.clear();
+    }
+
+    /**
+     * Renames the file holding the rows of a Project, and writes the new name of the Project into them.
+     * @param project Project that has been renamed.
+     * @param file New file of the rows.
+     * @throws IOException If the file cannot be renamed or the name cannot be written.
+     */
+    @Override
+    public void rename(Project project, File file) throws IOException {
+        rowStore.moveTo(file.toPath());
+        rowStore.put(NAME_KEY, project.getName().getBytes(StandardCharsets.UTF_8));
+        rowStore.commit();
+    }
+
+    @Override
+    public void delete() throws IOException {
+        rowStore.deleteFile();
+    }
+
+    public long getFileSize() {
+        return rowStore.getFileSize();
+    }
+
+    private void putTask(Task task) throws IOException {
+        StringWriter taskJson = new StringWriter();
+        taskTypeAdapter.write(new JsonWriter(taskJson), task);
+        rowStore.put(TASK_KEY_PREFIX + task.getTaskID(), toRowValue(getRowPosition(task.getTaskID()),
+            taskJson.toString()));
+    }
+
+    private void putMember(Member member) throws IOException {
+        StringWriter memberJson = new StringWriter();
+        memberTypeAdapter.write(new JsonWriter(memberJson), member);
+        rowStore.put(MEMBER_KEY_PREFIX + member.getMemberID(), toRowValue(getRowPosition(member.getMemberID()),
+            memberJson.toString()));
+    }
+
+    /**
+     * Returns the position a task or member is kept at. Rows are loaded back in the order of their positions,
+     * and a task or member that has no position yet is placed after all the others.
+     */
+    private long getRowPosition(String taskOrMemberID) {
+        Long position = rowPositions.get(taskOrMemberID);
+        if (position == null) {
+            position = nextRowPosition++;
+            rowPositions.put(taskOrMemberID, position);
+        }
+        return position;
+    }
+
+    /**
+     * Writes one row for each reminder, keyed by its position in the list, and deletes the rows of reminders past
+     * the end of the list.
+     */
+    private void putReminders(ArrayList<Reminder> reminders) throws IOException {
+        for (int i = 0; i < reminders.size(); i++) {
+            StringWriter reminderJson = new StringWriter();
+            reminderTypeAdapter.write(new JsonWriter(reminderJson), reminders.get(i));
+            rowStore.put(REMINDER_KEY_PREFIX + i, reminderJson.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        for (int i = reminders.size(); i < numOfReminderRows; i++) {
+            rowStore.delete(REMINDER_KEY_PREFIX + i);
+        }
+        numOfReminderRows = reminders.size();
+    }
+
+    /**
+     * Writes the row of an assignment. The row holds the order the assignment was made in, so that the members of
+     * a task and the tasks of a member are loaded back in the order they were assigned.
+     */
+    private void putAssignment(String taskID, String memberID) {
+        ByteBuffer sequence = ByteBuffer.allocate(Long.BYTES).putLong(nextAssignmentSequence++);
+        rowStore.put(ASSIGNMENT_KEY_PREFIX + taskID + "/" + memberID, sequence.array());
+        indexAssignmentKey(taskID, memberID);
+    }
+
+    private void deleteAssignment(String taskID, String memberID) {
+        String assignmentKey = ASSIGNMENT_KEY_PREFIX + taskID + "/" + memberID;
+        rowStore.delete(assignmentKey);
+        unindexAssignmentKey(taskID, assignmentKey);
+        unindexAssignmentKey(memberID, assignmentKey);
+    }
+
+    /**
+     * Deletes the rows of every assignment of a removed task or member, which the Project forgets without
+     * recording them as unassigned.
+     */
+    private void deleteAssignments(String taskOrMemberID) {
+        LinkedHashSet<String> assignmentKeys = assignmentKeysByID.remove(taskOrMemberID);
+        if (assignmentKeys == null) {
+            return;
+        }
+        for (String assignmentKey : assignmentKeys) {
+            rowStore.delete(assignmentKey);
+        }
+    }
+
+    private void indexAssignmentKey(String taskID, String memberID) {
+        String assignmentKey = ASSIGNMENT_KEY_PREFIX + taskID + "/" + memberID;
+        assignmentKeysByID.computeIfAbsent(taskID, id -> new LinkedHashSet<>()).add(assignmentKey);
+        assignmentKeysByID.computeIfAbsent(memberID, id -> new LinkedHashSet<>()).add(assignmentKey);
+    }
+
+    private void unindexAssignmentKey(String taskOrMemberID, String assignmentKey) {
+        LinkedHashSet<String> assignmentKeys = assignmentKeysByID.get(taskOrMemberID);
+        if (assignmentKeys != null) {
+            assignmentKeys.remove(assignmentKey);
+        }
+    }
+
+    private byte[] toRowValue(long position, String json) {
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Long.BYTES + jsonBytes.length).putLong(position).put(jsonBytes).array();
+    }
+
+    private JsonReader toJsonReader(ByteBuffer value) {
+        return new JsonReader(new StringReader(new String(value.array(), value.position(), value.remaining(),
+            StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,394 @@
+package storage;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+import models.project.Project;
+import models.project.ProjectChanges;
+import models.reminder.Reminder;
+import models.task.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import static util.constant.ConstantHelper.TASKS_PER_SHARD;
+
+public class ProjectShardStore implements IProjectStore {
+    public static final String FILE_EXTENSION = ".shards";
+    private static final String MANIFEST_FILE_NAME = "project.json";
+    private static final String MEMBERS_SHARD_NAME = "members";
+    private static final String REMINDERS_SHARD_NAME = "reminders";
+    private static final String ASSIGNMENTS_SHARD_NAME = "assignments";
+    private static final String TASKS_SHARD_NAME = "tasks-";
+    private static final String SHARD_FILE_EXTENSION = ".json";
+    private File directory;
+    private TaskTypeAdapter taskTypeAdapter;
+    private MemberTypeAdapter memberTypeAdapter;
+    private ReminderTypeAdapter reminderTypeAdapter;
+    private long generation;
+    private String membersShard;
+    private String remindersShard;
+    private String assignmentsShard;
+    private ArrayList<String> taskShards;
+    private ArrayList<List<String>> savedTaskIDsByShard;
+
+    /**
+     * Class responsible for persisting a single Project as a folder of JSON shards, with one shard for the members,
+     * one for the reminders, one for the assignments and one for every TASKS_PER_SHARD tasks. Only the shards
+     * holding what is named in the ProjectChanges of the Project are written when it is saved.
+     * @param directory Folder holding the shards of the Project.
+     */
+    public ProjectShardStore(File directory) {
+        this.directory = directory;
+        this.taskTypeAdapter = new TaskTypeAdapter();
+        this.memberTypeAdapter = new MemberTypeAdapter();
+        this.reminderTypeAdapter = new ReminderTypeAdapter();
+        this.taskShards = new ArrayList<>();
+        this.savedTaskIDsByShard = new ArrayList<>();
+    }
+
+    /**
+     * Loads the Project named in the manifest of the folder from the shards the manifest lists. Shard files that
+     * the manifest does not list were left behind by a save that did not finish, and are deleted.
+     * @return The Project, or null if the folder holds no manifest.
+     * @throws IOException If the manifest or a shard cannot be read or parsed.
+     */
+    @Override
+    public Project load() throws IOException {
+        File manifestFile = new File(directory, MANIFEST_FILE_NAME);
+        if (!manifestFile.exists()) {
+            return null;
+        }
+        HashMap<String, String> stringPool = new HashMap<>();
+        try {
+            String name = readManifest(manifestFile);
+            ArrayList<Member> members = new ArrayList<>();
+            try (JsonReader in = openShard(membersShard)) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    members.add(memberTypeAdapter.read(in, stringPool));
+                }
+                in.endArray();
+            }
+            ArrayList<Reminder> reminders = new ArrayList<>();
+            try (JsonReader in = openShard(remindersShard)) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    reminders.add(reminderTypeAdapter.read(in, stringPool));
+                }
+                in.endArray();
+            }
+            ArrayList<Task> tasks = new ArrayList<>();
+            savedTaskIDsByShard.clear();
+            for (String taskShard : taskShards) {
+                ArrayList<String> shardTaskIDs = new ArrayList<>();
+                try (JsonReader in = openShard(taskShard)) {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        Task task = taskTypeAdapter.read(in, stringPool);
+                        tasks.add(task);
+                        shardTaskIDs.add(task.getTaskID());
+                    }
+                    in.endArray();
+                }
+                savedTaskIDsByShard.add(shardTaskIDs);
+            }
+            HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned = new HashMap<>();
+            HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks = new HashMap<>();
+            try (JsonReader in = openShard(assignmentsShard)) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    if ("taskAndListOfMembersAssigned".equals(in.nextName())) {
+                        taskAndListOfMembersAssigned = StorageGson.readIDListMap(in, stringPool);
+                    } else {
+                        memberAndIndividualListOfTasks = StorageGson.readIDListMap(in, stringPool);
+                    }
+                }
+                in.endObject();
+            }
+            deleteUnlistedShards();
+            return ProjectTypeAdapter.createProject(name, members, tasks, reminders, taskAndListOfMembersAssigned,
+                memberAndIndividualListOfTasks);
+        } catch (RuntimeException err) {
+            throw new IOException("Shard could not be parsed: " + err.getMessage(), err);
+        }
+    }
+
+    /**
+     * Writes every shard of a Project, replacing anything the folder held before. Used the first time a Project
+     * is saved, after which only the shards holding its changes need to be written.
+     * @param project Project to be saved.
+     * @throws IOException If a shard or the manifest cannot be written.
+     */
+    @Override
+    public void saveProject(Project project) throws IOException {
+        Files.createDirectories(directory.toPath());
+        generation++;
+        membersShard = writeMembers(project);
+        remindersShard = writeReminders(project);
+        assignmentsShard = writeAssignments(project);
+        taskShards.clear();
+        savedTaskIDsByShard.clear();
+        ArrayList<Task> tasks = project.getTaskList().getTaskList();
+        for (int shardIndex = 0; shardIndex * TASKS_PER_SHARD < tasks.size(); shardIndex++) {
+            taskShards.add(writeTasks(tasks, shardIndex));
+        }
+        commit(project.getName());
+        project.getProjectChanges().clear();
+    }
+
+    /**
+     * Writes the shards holding the tasks, members, reminders and assignments recorded in the ProjectChanges of a
+     * Project. A task shard is written when one of its tasks changed, or when the tasks it holds are no longer the
+     * ones it was saved with because tasks were added, removed or reordered. The new shards only replace the old
+     * ones once the manifest listing them has been written.
+     * @param project Project whose changes are to be saved.
+     * @throws IOException If a shard or the manifest cannot be written.
+     */
+    @Override
+    public void saveChanges(Project project) throws IOException {
+        ProjectChanges projectChanges = project.getProjectChanges();
+        if (projectChanges.isEmpty()) {
+            return;
+        }
+        generation++;
+        boolean isMemberRemoved = !projectChanges.getRemovedMemberIDs().isEmpty();
+        if (isMemberRemoved || !projectChanges.getChangedMemberIDs().isEmpty()) {
+            membersShard = writeMembers(project);
+        }
+        if (projectChanges.isReminderListChanged()) {
+            remindersShard = writeReminders(project);
+        }
+        if (isMemberRemoved || !projectChanges.getRemovedTaskIDs().isEmpty()
+                || !projectChanges.getAssignmentChanges().isEmpty()) {
+            assignmentsShard = writeAssignments(project);
+        }
+        HashSet<String> changedTaskIDs = new HashSet<>(projectChanges.getChangedTaskIDs());
+        ArrayList<Task> tasks = project.getTaskList().getTaskList();
+        int numOfTaskShards = (tasks.size() + TASKS_PER_SHARD - 1) / TASKS_PER_SHARD;
+        for (int shardIndex = 0; shardIndex < numOfTaskShards; shardIndex++) {
+            if (isTaskShardChanged(tasks, shardIndex, changedTaskIDs)) {
+                String taskShard = writeTasks(tasks, shardIndex);
+                if (shardIndex < taskShards.size()) {
+                    taskShards.set(shardIndex, taskShard);
+                } else {
+                    taskShards.add(taskShard);
+                }
+            }
+        }
+        while (taskShards.size() > numOfTaskShards) {
+            taskShards.remove(taskShards.size() - 1);
+            savedTaskIDsByShard.remove(savedTaskIDsByShard.size() - 1);
+        }
+        commit(project.getName());
+        projectChanges.clear();
+    }
+
+    /**
+     * Renames the folder holding the shards of a Project, and writes the new name of the Project into its manifest.
+     * @param project Project that has been renamed.
+     * @param file New folder of the shards.
+     * @throws IOException If the folder cannot be renamed or the manifest cannot be written.
+     */
+    @Override
+    public void rename(Project project, File file) throws IOException {
+        DurableFiles.moveAtomically(directory.toPath(), file.toPath());
+        directory = file;
+        commit(project.getName());
+    }
+
+    @Override
+    public void delete() throws IOException {
+        File[] shardFiles = directory.listFiles();
+        if (shardFiles != null) {
+            for (File shardFile : shardFiles) {
+                Files.deleteIfExists(shardFile.toPath());
+            }
+        }
+        Files.deleteIfExists(directory.toPath());
+    }
+
+    private boolean isTaskShardChanged(ArrayList<Task> tasks, int shardIndex, HashSet<String> changedTaskIDs) {
+        if (shardIndex >= savedTaskIDsByShard.size()) {
+            return true;
+        }
+        List<String> savedTaskIDs = savedTaskIDsByShard.get(shardIndex);
+        int firstTask = shardIndex * TASKS_PER_SHARD;
+        int lastTask = Math.min(firstTask + TASKS_PER_SHARD, tasks.size());
+        if (savedTaskIDs.size() != lastTask - firstTask) {
+            return true;
+        }
+        for (int i = firstTask; i < lastTask; i++) {
+            String taskID = tasks.get(i).getTaskID();
+            if (!taskID.equals(savedTaskIDs.get(i - firstTask)) || changedTaskIDs.contains(taskID)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String writeMembers(Project project) throws IOException {
+        StringWriter membersJson = new StringWriter();
+        JsonWriter out = new JsonWriter(membersJson);
+        out.beginArray();
+        for (Member member : project.getMemberList().getMemberList()) {
+            memberTypeAdapter.write(out, member);
+        }
+        out.endArray();
+        return writeShard(MEMBERS_SHARD_NAME, membersJson.toString());
+    }
+
+    private String writeReminders(Project project) throws IOException {
+        StringWriter remindersJson = new StringWriter();
+        JsonWriter out = new JsonWriter(remindersJson);
+        out.beginArray();
+        for (Reminder reminder : project.getReminderList()) {
+            reminderTypeAdapter.write(out, reminder);
+        }
+        out.endArray();
+        return writeShard(REMINDERS_SHARD_NAME, remindersJson.toString());
+    }
+
+    private String writeAssignments(Project project) throws IOException {
+        StringWriter assignmentsJson = new StringWriter();
+        JsonWriter out = new JsonWriter(assignmentsJson);
+        out.beginObject();
+        out.name("taskAndListOfMembersAssigned");
+        StorageGson.writeIDListMap(out, project.getTasksAndAssignedMembers());
+        out.name("memberAndIndividualListOfTasks");
+        StorageGson.writeIDListMap(out, project.getMembersIndividualTaskList());
+        out.endObject();
+        return writeShard(ASSIGNMENTS_SHARD_NAME, assignmentsJson.toString());
+    }
+
+    /**
+     * Writes the tasks of one task shard, and remembers which tasks the shard holds.
+     */
+    private String writeTasks(ArrayList<Task> tasks, int shardIndex) throws IOException {
+        int firstTask = shardIndex * TASKS_PER_SHARD;
+        int lastTask = Math.min(firstTask + TASKS_PER_SHARD, tasks.size());
+        ArrayList<String> shardTaskIDs = new ArrayList<>();
+        StringWriter tasksJson = new StringWriter();
+        JsonWriter out = new JsonWriter(tasksJson);
+        out.beginArray();
+        for (int i = firstTask; i < lastTask; i++) {
+            taskTypeAdapter.write(out, tasks.get(i));
+            shardTaskIDs.add(tasks.get(i).getTaskID());
+        }
+        out.endArray();
+        if (shardIndex < savedTaskIDsByShard.size()) {
+            savedTaskIDsByShard.set(shardIndex, shardTaskIDs);
+        } else {
+            savedTaskIDsByShard.add(shardTaskIDs);
+        }
+        return writeShard(TASKS_SHARD_NAME + shardIndex, tasksJson.toString());
+    }
+
+    /**
+     * Writes a shard to a new file named after the current generation, so that the shard it replaces is kept
+     * until the manifest no longer lists it.
+     * @return The name of the file the shard was written to.
+     */
+    private String writeShard(String shardName, String json) throws IOException {
+        String shardFileName = shardName + "." + generation + SHARD_FILE_EXTENSION;
+        DurableFiles.writeAtomically(new File(directory, shardFileName).toPath(),
+            json.getBytes(StandardCharsets.UTF_8));
+        return shardFileName;
+    }
+
+    /**
+     * Atomically replaces the manifest with one listing the current shards, which makes them the saved state of
+     * the Project, and deletes the shards it no longer lists.
+     */
+    private void commit(String projectName) throws IOException {
+        StringWriter manifestJson = new StringWriter();
+        JsonWriter out = new JsonWriter(manifestJson);
+        out.beginObject();
+        out.name("schemaVersion").value(ProjectTypeAdapter.CURRENT_SCHEMA_VERSION);
+        out.name("name").value(projectName);
+        out.name("generation").value(generation);
+        out.name(MEMBERS_SHARD_NAME).value(membersShard);
+        out.name(REMINDERS_SHARD_NAME).value(remindersShard);
+        out.name(ASSIGNMENTS_SHARD_NAME).value(assignmentsShard);
+        out.name("tasks");
+        StorageGson.writeStringList(out, taskShards);
+        out.endObject();
+        DurableFiles.writeAtomically(new File(directory, MANIFEST_FILE_NAME).toPath(),
+            manifestJson.toString().getBytes(StandardCharsets.UTF_8));
+        deleteUnlistedShards();
+    }
+
+    /**
+     * Reads the manifest, setting the current shards and generation from it.
+     * @return The name of the Project.
+     */
+    private String readManifest(File manifestFile) throws IOException {
+        String name = null;
+        try (JsonReader in = new JsonReader(new InputStreamReader(Files.newInputStream(manifestFile.toPath()),
+                StandardCharsets.UTF_8))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                case "name":
+                    name = in.nextString();
+                    break;
+                case "generation":
+                    generation = in.nextLong();
+                    break;
+                case MEMBERS_SHARD_NAME:
+                    membersShard = in.nextString();
+                    break;
+                case REMINDERS_SHARD_NAME:
+                    remindersShard = in.nextString();
+                    break;
+                case ASSIGNMENTS_SHARD_NAME:
+                    assignmentsShard = in.nextString();
+                    break;
+                case "tasks":
+                    taskShards = StorageGson.readStringList(in, new HashMap<>());
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+                }
+            }
+            in.endObject();
+        }
+        if (name == null || membersShard == null || remindersShard == null || assignmentsShard == null
+                || taskShards == null) {
+            throw new IOException("Manifest does not list every shard of the project");
+        }
+        return name;
+    }
+
+    private JsonReader openShard(String shardFileName) throws IOException {
+        Path shardFile = new File(directory, shardFileName).toPath();
+        Reader shardReader = new InputStreamReader(Files.newInputStream(shardFile), StandardCharsets.UTF_8);
+        return new JsonReader(shardReader);
+    }
+
+    private void deleteUnlistedShards() throws IOException {
+        HashSet<String> listedFileNames = new HashSet<>(taskShards);
+        listedFileNames.addAll(Arrays.asList(MANIFEST_FILE_NAME, membersShard, remindersShard, assignmentsShard));
+        File[] shardFiles = directory.listFiles();
+        if (shardFiles == null) {
+            return;
+        }
+        for (File shardFile : shardFiles) {
+            if (!listedFileNames.contains(shardFile.getName())) {
+                Files.deleteIfExists(shardFile.toPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package storage;
+
+import models.project.Project;
+
+import java.util.ArrayList;
+
+public class ProjectSnapshot {
+    private Project project;
+    private int schemaVersion;
+    private ArrayList<String> damagedRecords;
+
+    /**
+     * Class representing a Project read back from its snapshot, together with the storage schema version the
+     * snapshot was written with.
+     * @param project The Project that was read.
+     * @param schemaVersion The storage schema version of the snapshot.
+     */
+    public ProjectSnapshot(Project project, int schemaVersion) {
+        this(project, schemaVersion, new ArrayList<>());
+    }
+
+    /**
+     * Class representing a Project read back from its snapshot, together with the records of the snapshot that
+     * were damaged and left out of the Project.
+     * @param project The Project that was read, without the damaged records.
+     * @param schemaVersion The storage schema version of the snapshot.
+     * @param damagedRecords Descriptions of the records that were left out.
+     */
+    public ProjectSnapshot(Project project, int schemaVersion, ArrayList<String> damagedRecords) {
+        this.project = project;
+        this.schemaVersion = schemaVersion;
+        this.damagedRecords = damagedRecords;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public ArrayList<String> getDamagedRecords() {
+        return damagedRecords;
+    }
+
+    public boolean isLegacyLayout() {
+        return schemaVersion < ProjectTypeAdapter.CURRENT_SCHEMA_VERSION;
+    }
+}
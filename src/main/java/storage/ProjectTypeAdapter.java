@@ -0,0 +1,285 @@
+package storage;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class ProjectTypeAdapter extends TypeAdapter<Project> {
+    public static final int CURRENT_SCHEMA_VERSION = 4;
+    public static final int LEGACY_SCHEMA_VERSION = 1;
+    private static final String CHECKSUM_FIELD = "checksum";
+    private TaskTypeAdapter taskTypeAdapter;
+    private MemberTypeAdapter memberTypeAdapter;
+    private ReminderTypeAdapter reminderTypeAdapter;
+
+    /**
+     * Class responsible for reading and writing a Project as a stream of JSON tokens. Only the domain fields of the
+     * Project are written, in the current storage schema, and every member, task and reminder is written as a string
+     * holding the CRC32C checksum of its compact JSON followed by the JSON itself, as in the journal, so that the
+     * checksum is computed over the record exactly as it is stored. Snapshots in the layout written by reflection
+     * before the storage schema was versioned, and snapshots whose records are objects carrying their checksum, can
+     * still be read.
+     * @param taskTypeAdapter TypeAdapter for the tasks of the Project.
+     * @param memberTypeAdapter TypeAdapter for the members of the Project.
+     * @param reminderTypeAdapter TypeAdapter for the reminders of the Project.
+     */
+    public ProjectTypeAdapter(TaskTypeAdapter taskTypeAdapter, MemberTypeAdapter memberTypeAdapter,
+                              ReminderTypeAdapter reminderTypeAdapter) {
+        this.taskTypeAdapter = taskTypeAdapter;
+        this.memberTypeAdapter = memberTypeAdapter;
+        this.reminderTypeAdapter = reminderTypeAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, Project project) throws IOException {
+        if (project == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("schemaVersion").value(CURRENT_SCHEMA_VERSION);
+        out.name("name").value(project.getName());
+        out.name("members").beginArray();
+        for (Member member : project.getMemberList().getMemberList()) {
+            writeRecord(out, memberTypeAdapter, member);
+        }
+        out.endArray();
+        out.name("tasks").beginArray();
+        for (Task task : project.getTaskList().getTaskList()) {
+            writeRecord(out, taskTypeAdapter, task);
+        }
+        out.endArray();
+        out.name("reminders").beginArray();
+        for (Reminder reminder : project.getReminderList()) {
+            writeRecord(out, reminderTypeAdapter, reminder);
+        }
+        out.endArray();
+        out.name("taskAndListOfMembersAssigned");
+        StorageGson.writeIDListMap(out, project.getTasksAndAssignedMembers());
+        out.name("memberAndIndividualListOfTasks");
+        StorageGson.writeIDListMap(out, project.getMembersIndividualTaskList());
+        out.endObject();
+    }
+
+    @Override
+    public Project read(JsonReader in) throws IOException {
+        ProjectSnapshot projectSnapshot = readSnapshot(in);
+        return projectSnapshot == null ? null : projectSnapshot.getProject();
+    }
+
+    /**
+     * Reads a Project in either the current storage schema or the old layout, in which the lists of the Project
+     * were wrapped in their MemberList, TaskList and ReminderList together with their helper objects. A member, task
+     * or reminder that does not match its checksum, or cannot be read, is left out of the Project and reported as a
+     * damaged record, so that the rest of the Project is still loaded.
+     * @param in JsonReader positioned at the Project.
+     * @return The Project that was read, together with the schema version it was written with and the records that
+     *         were left out.
+     * @throws IOException If the Project cannot be read.
+     */
+    public ProjectSnapshot readSnapshot(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, String> stringPool = new HashMap<>();
+        int schemaVersion = LEGACY_SCHEMA_VERSION;
+        String name = null;
+        ArrayList<Member> members = new ArrayList<>();
+        ArrayList<Task> tasks = new ArrayList<>();
+        ArrayList<Reminder> reminders = new ArrayList<>();
+        HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned = new HashMap<>();
+        HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks = new HashMap<>();
+        ArrayList<String> damagedRecords = new ArrayList<>();
+        RecordReader<Member> memberReader = recordIn -> memberTypeAdapter.read(recordIn, stringPool);
+        RecordReader<Task> taskReader = recordIn -> taskTypeAdapter.read(recordIn, stringPool);
+        RecordReader<Reminder> reminderReader = recordIn -> reminderTypeAdapter.read(recordIn, stringPool);
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "schemaVersion":
+                schemaVersion = in.nextInt();
+                break;
+            case "name":
+                name = in.nextString();
+                break;
+            case "members":
+                readRecords(in, "member", memberReader, members, damagedRecords);
+                break;
+            case "memberList":
+                readLegacyList(in, "memberList",
+                    () -> readRecords(in, "member", memberReader, members, damagedRecords));
+                break;
+            case "tasks":
+                readRecords(in, "task", taskReader, tasks, damagedRecords);
+                break;
+            case "taskList":
+                readLegacyList(in, "taskList", () -> readRecords(in, "task", taskReader, tasks, damagedRecords));
+                break;
+            case "reminders":
+                readRecords(in, "reminder", reminderReader, reminders, damagedRecords);
+                break;
+            case "reminderList":
+                readLegacyList(in, "reminderList",
+                    () -> readRecords(in, "reminder", reminderReader, reminders, damagedRecords));
+                break;
+            case "taskAndListOfMembersAssigned":
+                taskAndListOfMembersAssigned = StorageGson.readIDListMap(in, stringPool);
+                break;
+            case "memberAndIndividualListOfTasks":
+                memberAndIndividualListOfTasks = StorageGson.readIDListMap(in, stringPool);
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        return new ProjectSnapshot(createProject(name, members, tasks, reminders, taskAndListOfMembersAssigned,
+            memberAndIndividualListOfTasks), schemaVersion, damagedRecords);
+    }
+
+    /**
+     * Creates a Project from the records read from a snapshot. Assignments that refer to a member or task which is
+     * not in the snapshot, such as one left out as a damaged record, are dropped.
+     */
+
+    static Project createProject(String name, ArrayList<Member> members, ArrayList<Task> tasks,
+                                 ArrayList<Reminder> reminders,
+                                 HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned,
+                                 HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks) {
+        Project project = new Project(name);
+        HashSet<String> memberIDs = new HashSet<>();
+        for (Member member : members) {
+            memberIDs.add(member.getMemberID());
+        }
+        HashSet<String> taskIDs = new HashSet<>();
+        for (Task task : tasks) {
+            taskIDs.add(task.getTaskID());
+        }
+        retainAssignments(taskAndListOfMembersAssigned, taskIDs, memberIDs);
+        retainAssignments(memberAndIndividualListOfTasks, memberIDs, taskIDs);
+        for (Member member : members) {
+            project.getMemberList().addMember(member);
+            memberAndIndividualListOfTasks.putIfAbsent(member.getMemberID(), new ArrayList<>());
+        }
+        for (Task task : tasks) {
+            project.getTaskList().addTask(task);
+            taskAndListOfMembersAssigned.putIfAbsent(task.getTaskID(), new ArrayList<>());
+        }
+        for (Reminder reminder : reminders) {
+            project.addReminderToList(reminder);
+        }
+        project.restoreAssignments(taskAndListOfMembersAssigned, memberAndIndividualListOfTasks);
+        project.getProjectChanges().clear();
+        return project;
+    }
+
+    private static void retainAssignments(HashMap<String, ArrayList<String>> idListMap, Set<String> keyIDs,
+                                          Set<String> assignedIDs) {
+        idListMap.keySet().retainAll(keyIDs);
+        for (ArrayList<String> ids : idListMap.values()) {
+            ids.retainAll(assignedIDs);
+        }
+    }
+
+    /**
+     * Writes a record as a string holding the CRC32C checksum of its compact JSON in hexadecimal, a space, and the
+     * JSON itself. The record is serialized once, and the checksum is computed over the same characters.
+     */
+    private <T> void writeRecord(JsonWriter out, TypeAdapter<T> typeAdapter, T record) throws IOException {
+        StringWriter recordJson = new StringWriter();
+        typeAdapter.write(StorageGson.getGson().newJsonWriter(recordJson), record);
+        String recordString = recordJson.toString();
+        out.value(Long.toHexString(RecordChecksum.compute(recordString)) + " " + recordString);
+    }
+
+    /**
+     * Reads an array of records, leaving out the records that are damaged. A record written as a checksummed string
+     * is checked against its checksum and then parsed once, so that a damaged record cannot affect the records after
+     * it. Records written as objects by older schema versions are read through a parse tree, with the check if they
+     * carry a checksum. Such snapshots are rewritten in the current schema once they are loaded.
+     * @param recordType Type of the records, used to describe a damaged record.
+     */
+    private <T> void readRecords(JsonReader in, String recordType, RecordReader<T> recordReader, ArrayList<T> records,
+                                 ArrayList<String> damagedRecords) throws IOException {
+        in.beginArray();
+        int recordNumber = 0;
+        while (in.hasNext()) {
+            recordNumber++;
+            try {
+                String recordJson = (in.peek() == JsonToken.STRING) ? readRecordString(in.nextString())
+                    : readRecordElement(JsonParser.parseReader(in));
+                T record = recordReader.read(new JsonReader(new StringReader(recordJson)));
+                if (record != null) {
+                    records.add(record);
+                }
+            } catch (IOException | RuntimeException err) {
+                damagedRecords.add(recordType + " " + recordNumber + " skipped, " + err.getMessage());
+            }
+        }
+        in.endArray();
+    }
+
+    private static String readRecordString(String recordString) throws IOException {
+        int separatorIndex = recordString.indexOf(' ');
+        if (separatorIndex < 0) {
+            throw new IOException("record is incomplete");
+        }
+        String recordJson = recordString.substring(separatorIndex + 1);
+        if (Long.parseLong(recordString.substring(0, separatorIndex), 16) != RecordChecksum.compute(recordJson)) {
+            throw new IOException("checksum does not match");
+        }
+        return recordJson;
+    }
+
+    private static String readRecordElement(JsonElement recordElement) throws IOException {
+        JsonElement checksum = recordElement.isJsonObject()
+            ? recordElement.getAsJsonObject().remove(CHECKSUM_FIELD) : null;
+        String recordJson = StorageGson.getGson().toJson(recordElement);
+        if (checksum != null && checksum.getAsLong() != RecordChecksum.compute(recordJson)) {
+            throw new IOException("checksum does not match");
+        }
+        return recordJson;
+    }
+
+    /**
+     * Reads a list in the old layout, where the array is held under the same name as the list object, next to the
+     * helper objects of the list which are skipped.
+     */
+    private void readLegacyList(JsonReader in, String arrayName, ArrayReader arrayReader) throws IOException {
+        in.beginObject();
+        while (in.hasNext()) {
+            if (arrayName.equals(in.nextName())) {
+                arrayReader.read();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+    }
+
+    private interface ArrayReader {
+        void read() throws IOException;
+    }
+
+    private interface RecordReader<T> {
+        T read(JsonReader in) throws IOException;
+    }
+}
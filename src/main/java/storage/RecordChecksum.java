@@ -0,0 +1,37 @@
+package storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+class RecordChecksum {
+    private RecordChecksum() {
+    }
+
+    /**
+     * Computes the CRC32C checksum of a record. CRC32C is computed with a single CPU instruction on most processors,
+     * so every record can be verified each time it is loaded.
+     * @param record Bytes of the record.
+     * @return The checksum of the record.
+     */
+    static long compute(byte[] record) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(record);
+        return checksum.getValue();
+    }
+
+    /**
+     * Computes the CRC32C checksum of the bytes remaining in a buffer, without moving its position.
+     * @param record Buffer holding the record.
+     * @return The checksum of the record.
+     */
+    static long compute(ByteBuffer record) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.duplicate());
+        return checksum.getValue();
+    }
+
+    static long compute(String record) {
+        return compute(record.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package storage;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.reminder.Reminder;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReminderTypeAdapter extends TypeAdapter<Reminder> {
+    @Override
+    public void write(JsonWriter out, Reminder reminder) throws IOException {
+        if (reminder == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("reminderName").value(reminder.getReminderName());
+        out.name("reminderRemarks").value(reminder.getReminderRemarks());
+        out.name("reminderDate");
+        StorageGson.writeDate(out, reminder.getReminderDate());
+        out.name("isDone").value(reminder.getIsDone());
+        out.name("category").value(reminder.getCategory());
+        out.endObject();
+    }
+
+    @Override
+    public Reminder read(JsonReader in) throws IOException {
+        return read(in, new HashMap<>());
+    }
+
+    /**
+     * Reads a reminder, reusing strings already read into the string pool of the Project it belongs to.
+     * @param in JsonReader positioned at the reminder.
+     * @param stringPool Strings already read from the same Project.
+     * @return The reminder that was read.
+     * @throws IOException If the reminder cannot be read.
+     */
+    public Reminder read(JsonReader in, Map<String, String> stringPool) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String reminderName = null;
+        String reminderRemarks = null;
+        Date reminderDate = null;
+        Boolean isDone = null;
+        String category = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "reminderName":
+                reminderName = StorageGson.readString(in, stringPool);
+                break;
+            case "reminderRemarks":
+                reminderRemarks = StorageGson.readString(in, stringPool);
+                break;
+            case "reminderDate":
+                reminderDate = StorageGson.readDate(in);
+                break;
+            case "isDone":
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                } else {
+                    isDone = in.nextBoolean();
+                }
+                break;
+            case "category":
+                category = StorageGson.readString(in, stringPool);
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        Reminder reminder = new Reminder(reminderName, reminderRemarks, reminderDate, category);
+        if (isDone != null) {
+            reminder.setIsDone(isDone);
+        }
+        return reminder;
+    }
+}
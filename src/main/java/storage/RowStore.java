@@ -0,0 +1,251 @@
+package storage;
+
+import util.log.ArchDukeLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+class RowStore {
+    private static final byte PUT_ROW = 1;
+    private static final byte DELETE_ROW = 2;
+    private static final int RECORD_HEADER_BYTES = 4;
+    private static final int RECORD_CHECKSUM_BYTES = 4;
+    private static final int RECORD_FIELDS_BYTES = 9;
+    private Path file;
+    private long compactionThreshold;
+    private HashMap<String, Integer> liveRecordSizes;
+    private long liveSize;
+    private long fileSize;
+    private ByteArrayOutputStream pendingRecords;
+
+    /**
+     * Class representing an embedded key-value store kept in a single file. Every put or delete is appended to the
+     * end of the file as one record, so that writing a row costs the same however many rows the store holds. The
+     * latest record of a key wins, and the file is rewritten with only the live rows once most of it is outdated.
+     * @param file File holding the rows.
+     * @param compactionThreshold Size in bytes the file can grow to before outdated records are compacted away.
+     */
+    RowStore(Path file, long compactionThreshold) {
+        this.file = file;
+        this.compactionThreshold = compactionThreshold;
+        this.liveRecordSizes = new HashMap<>();
+        this.pendingRecords = new ByteArrayOutputStream();
+    }
+
+    /**
+     * Reads every live row in the store. A record that is cut short or fails its checksum can only be left behind
+     * by a commit that was interrupted, so it and anything after it are truncated away.
+     * @return LinkedHashMap of the live rows by key.
+     * @throws IOException If the file cannot be read.
+     */
+    LinkedHashMap<String, byte[]> open() throws IOException {
+        LinkedHashMap<String, byte[]> rows = new LinkedHashMap<>();
+        liveRecordSizes.clear();
+        liveSize = 0;
+        fileSize = 0;
+        if (!Files.exists(file)) {
+            return rows;
+        }
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+        while (content.hasRemaining() && readRecord(content, rows)) {
+            fileSize = content.position();
+        }
+        if (fileSize < content.capacity()) {
+            ArchDukeLogger.logError(RowStore.class.getName(), "Incomplete rows truncated from " + file.getFileName());
+            try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                fileChannel.truncate(fileSize);
+                fileChannel.force(true);
+            }
+        }
+        return rows;
+    }
+
+    void put(String key, byte[] value) {
+        appendRecord(PUT_ROW, key, value);
+    }
+
+    /**
+     * Deletes a row. Nothing is written if the store holds no row with the key.
+     * @param key Key of the row.
+     */
+    void delete(String key) {
+        if (liveRecordSizes.containsKey(key)) {
+            appendRecord(DELETE_ROW, key, new byte[0]);
+        }
+    }
+
+    boolean contains(String key) {
+        return liveRecordSizes.containsKey(key);
+    }
+
+    /**
+     * Appends the rows put or deleted since the last commit to the file and forces them to disk. The file is
+     * compacted afterwards if it has grown past the threshold and less than half of it is still live.
+     * @throws IOException If the rows cannot be written. The rows are then discarded, so that they can be put
+     *         again and committed by the next save.
+     */
+    void commit() throws IOException {
+        if (pendingRecords.size() == 0) {
+            return;
+        }
+        byte[] records = pendingRecords.toByteArray();
+        pendingRecords.reset();
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer remainingRecords = ByteBuffer.wrap(records);
+            while (remainingRecords.hasRemaining()) {
+                fileChannel.write(remainingRecords);
+            }
+            fileChannel.force(false);
+        } catch (IOException err) {
+            open();
+            throw err;
+        }
+        fileSize += records.length;
+        if (fileSize > compactionThreshold && fileSize > 2 * liveSize) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the file with only the live rows, replacing it atomically.
+     * @throws IOException If the file cannot be rewritten.
+     */
+    void compact() throws IOException {
+        LinkedHashMap<String, byte[]> rows = open();
+        clear();
+        for (Map.Entry<String, byte[]> row : rows.entrySet()) {
+            put(row.getKey(), row.getValue());
+        }
+        commitReplacingFile();
+        ArchDukeLogger.logDebug(RowStore.class.getName(), "Compacted " + file.getFileName() + " to "
+            + rows.size() + " rows");
+    }
+
+    /**
+     * Forgets every row without touching the file, so that the rows put afterwards can replace the file through
+     * commitReplacingFile.
+     */
+    void clear() {
+        liveRecordSizes.clear();
+        pendingRecords.reset();
+        liveSize = 0;
+    }
+
+    /**
+     * Replaces the file atomically with the rows put since the last clear, so that a crash leaves either all of the
+     * old rows or all of the new rows behind.
+     * @throws IOException If the file cannot be replaced.
+     */
+    void commitReplacingFile() throws IOException {
+        byte[] liveRecords = pendingRecords.toByteArray();
+        pendingRecords.reset();
+        DurableFiles.writeAtomically(file, liveRecords);
+        fileSize = liveRecords.length;
+    }
+
+    /**
+     * Renames the file of the store. Rows that have not been committed are kept.
+     * @param target New file of the store.
+     * @throws IOException If the file cannot be renamed.
+     */
+    void moveTo(Path target) throws IOException {
+        if (Files.exists(file)) {
+            DurableFiles.moveAtomically(file, target);
+        }
+        this.file = target;
+    }
+
+    /**
+     * Deletes the file of the store together with every row in it.
+     * @throws IOException If the file cannot be deleted.
+     */
+    void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+        clear();
+        fileSize = 0;
+    }
+
+    long getFileSize() {
+        return fileSize;
+    }
+
+    private void appendRecord(byte operation, String key, byte[] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int bodyLength = RECORD_FIELDS_BYTES + keyBytes.length + value.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + bodyLength + RECORD_CHECKSUM_BYTES);
+        record.putInt(bodyLength).put(operation).putInt(keyBytes.length).put(keyBytes).putInt(value.length).put(value);
+        CRC32 checksum = new CRC32();
+        checksum.update(record.array(), RECORD_HEADER_BYTES, bodyLength);
+        record.putInt((int) checksum.getValue());
+        pendingRecords.write(record.array(), 0, record.capacity());
+        updateLiveSize(operation, key, record.capacity());
+    }
+
+    /**
+     * Reads the record at the position of the buffer into the rows.
+     * @return true if a complete record was read, or false if the rest of the buffer holds no complete record.
+     */
+    private boolean readRecord(ByteBuffer content, LinkedHashMap<String, byte[]> rows) {
+        try {
+            int recordStart = content.position();
+            int bodyLength = content.getInt();
+            if (bodyLength < RECORD_FIELDS_BYTES || bodyLength > content.remaining() - RECORD_CHECKSUM_BYTES) {
+                return false;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(content.array(), content.position(), bodyLength);
+            byte operation = content.get();
+            byte[] keyBytes = readBytes(content, bodyLength);
+            byte[] value = readBytes(content, bodyLength);
+            if (content.position() != recordStart + RECORD_HEADER_BYTES + bodyLength
+                    || content.getInt() != (int) checksum.getValue()) {
+                return false;
+            }
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            if (operation == PUT_ROW) {
+                rows.put(key, value);
+            } else if (operation == DELETE_ROW) {
+                rows.remove(key);
+            } else {
+                return false;
+            }
+            updateLiveSize(operation, key, content.position() - recordStart);
+            return true;
+        } catch (BufferUnderflowException | IllegalArgumentException err) {
+            return false;
+        }
+    }
+
+    private byte[] readBytes(ByteBuffer content, int bodyLength) {
+        int length = content.getInt();
+        if (length < 0 || length > bodyLength) {
+            throw new IllegalArgumentException("Field longer than its record");
+        }
+        byte[] bytes = new byte[length];
+        content.get(bytes);
+        return bytes;
+    }
+
+    private void updateLiveSize(byte operation, String key, int recordSize) {
+        Integer outdatedRecordSize = operation == PUT_ROW ? liveRecordSizes.put(key, recordSize)
+            : liveRecordSizes.remove(key);
+        if (outdatedRecordSize != null) {
+            liveSize -= outdatedRecordSize;
+        }
+        if (operation == PUT_ROW) {
+            liveSize += recordSize;
+        }
+    }
+}
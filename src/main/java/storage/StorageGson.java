@@ -0,0 +1,145 @@
+package storage;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class StorageGson {
+    private static final TaskTypeAdapter TASK_TYPE_ADAPTER = new TaskTypeAdapter();
+    private static final MemberTypeAdapter MEMBER_TYPE_ADAPTER = new MemberTypeAdapter();
+    private static final ReminderTypeAdapter REMINDER_TYPE_ADAPTER = new ReminderTypeAdapter();
+    private static final ProjectTypeAdapter PROJECT_TYPE_ADAPTER = new ProjectTypeAdapter(TASK_TYPE_ADAPTER,
+        MEMBER_TYPE_ADAPTER, REMINDER_TYPE_ADAPTER);
+    private static final Gson GSON = new GsonBuilder()
+        .registerTypeAdapter(Project.class, PROJECT_TYPE_ADAPTER)
+        .registerTypeAdapter(Task.class, TASK_TYPE_ADAPTER)
+        .registerTypeAdapter(Member.class, MEMBER_TYPE_ADAPTER)
+        .registerTypeAdapter(Reminder.class, REMINDER_TYPE_ADAPTER)
+        .create();
+    private static final TypeAdapter<Date> LEGACY_DATE_TYPE_ADAPTER = new Gson().getAdapter(Date.class);
+
+    /**
+     * Returns the Gson shared by the Storage layer, which reads and writes Projects, tasks, members and reminders
+     * with hand-written streaming TypeAdapters instead of reflection. Gson instances are thread-safe.
+     * @return The shared Gson.
+     */
+    public static Gson getGson() {
+        return GSON;
+    }
+
+    public static ProjectTypeAdapter getProjectTypeAdapter() {
+        return PROJECT_TYPE_ADAPTER;
+    }
+
+    /**
+     * Writes a date as milliseconds since the epoch.
+     */
+    static void writeDate(JsonWriter out, Date date) throws IOException {
+        if (date == null) {
+            out.nullValue();
+        } else {
+            out.value(date.getTime());
+        }
+    }
+
+    /**
+     * Reads a date written as milliseconds since the epoch, or as text in the layout used before the storage
+     * schema was versioned.
+     */
+    static Date readDate(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        } else if (token == JsonToken.NUMBER) {
+            return new Date(in.nextLong());
+        }
+        return LEGACY_DATE_TYPE_ADAPTER.read(in);
+    }
+
+    /**
+     * Reads a string, reusing an equal string that has already been read into the same pool. IDs and categories
+     * are repeated many times within a Project, so this keeps a single copy of each in memory.
+     */
+    static String readString(JsonReader in, Map<String, String> stringPool) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String value = in.nextString();
+        String pooledValue = stringPool.putIfAbsent(value, value);
+        return pooledValue == null ? value : pooledValue;
+    }
+
+    /**
+     * Reads an array of strings, reusing equal strings that have already been read into the same pool.
+     */
+    static ArrayList<String> readStringList(JsonReader in, Map<String, String> stringPool) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        ArrayList<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in, stringPool));
+        }
+        in.endArray();
+        return values;
+    }
+
+    static void writeStringList(JsonWriter out, ArrayList<String> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    /**
+     * Reads a JSON object mapping IDs to arrays of IDs, such as the assignments of a Project.
+     */
+    static HashMap<String, ArrayList<String>> readIDListMap(JsonReader in, Map<String, String> stringPool)
+            throws IOException {
+        HashMap<String, ArrayList<String>> idListMap = new HashMap<>();
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return idListMap;
+        }
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            String pooledKey = stringPool.putIfAbsent(key, key);
+            ArrayList<String> values = readStringList(in, stringPool);
+            idListMap.put(pooledKey == null ? key : pooledKey, values == null ? new ArrayList<>() : values);
+        }
+        in.endObject();
+        return idListMap;
+    }
+
+    static void writeIDListMap(JsonWriter out, HashMap<String, ArrayList<String>> idListMap) throws IOException {
+        out.beginObject();
+        for (Map.Entry<String, ArrayList<String>> entry : idListMap.entrySet()) {
+            out.name(entry.getKey());
+            writeStringList(out, entry.getValue());
+        }
+        out.endObject();
+    }
+}
@@ -0,0 +1,94 @@
+package storage;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.task.Task;
+import models.task.TaskState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TaskTypeAdapter extends TypeAdapter<Task> {
+    @Override
+    public void write(JsonWriter out, Task task) throws IOException {
+        if (task == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("taskID").value(task.getTaskID());
+        out.name("taskName").value(task.getTaskName());
+        out.name("taskPriority").value(task.getTaskPriority());
+        out.name("dueDate");
+        StorageGson.writeDate(out, task.getDueDate());
+        out.name("taskCredit").value(task.getTaskCredit());
+        out.name("taskState").value(task.getTaskState() == null ? null : task.getTaskState().name());
+        out.name("taskRequirements");
+        StorageGson.writeStringList(out, task.getRawTaskRequirements());
+        out.endObject();
+    }
+
+    @Override
+    public Task read(JsonReader in) throws IOException {
+        return read(in, new HashMap<>());
+    }
+
+    /**
+     * Reads a task, reusing strings already read into the string pool of the Project it belongs to.
+     * Fields of the layout used before the storage schema was versioned, such as dateTimeHelper, are skipped.
+     * @param in JsonReader positioned at the task.
+     * @param stringPool Strings already read from the same Project.
+     * @return The task that was read.
+     * @throws IOException If the task cannot be read.
+     */
+    public Task read(JsonReader in, Map<String, String> stringPool) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String taskID = null;
+        String taskName = null;
+        int taskPriority = 0;
+        Date dueDate = null;
+        int taskCredit = 0;
+        TaskState taskState = null;
+        ArrayList<String> taskRequirements = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case "taskID":
+                taskID = StorageGson.readString(in, stringPool);
+                break;
+            case "taskName":
+                taskName = StorageGson.readString(in, stringPool);
+                break;
+            case "taskPriority":
+                taskPriority = in.nextInt();
+                break;
+            case "dueDate":
+                dueDate = StorageGson.readDate(in);
+                break;
+            case "taskCredit":
+                taskCredit = in.nextInt();
+                break;
+            case "taskState":
+                String taskStateName = StorageGson.readString(in, stringPool);
+                taskState = taskStateName == null ? null : TaskState.valueOf(taskStateName);
+                break;
+            case "taskRequirements":
+                taskRequirements = StorageGson.readStringList(in, stringPool);
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+        return new Task(taskID, taskName, taskPriority, dueDate, taskCredit, taskState, taskRequirements);
+    }
+}
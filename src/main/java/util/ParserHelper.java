@@ -2,13 +2,13 @@ package util;
 
 
 import models.project.Project;
-import models.task.Task;
+import models.task.TaskList;
 import util.log.ArchDukeLogger;
 import util.validation.ValidityHelper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
 
 import static util.constant.ConstantHelper.BLANK;
 import static util.constant.ConstantHelper.ASSIGNEE_MARKER;
@@ -304,20 +304,18 @@ public class ParserHelper {
     //@@author iamabhishek98
     /**
      * Parses the criteria specified by the user to sort the list of tasks.
-     * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
      * @param taskList A list of all tasks in the project.
      * @param sortCriteria Criteria to sort the list of tasks
      * @return An ArrayList with String descriptions of task details sorted by the criteria specified by the user.
      */
     public ArrayList<String> parseSortTaskDetails(
-            HashMap<String, ArrayList<String>> tasksAndAssignedMembers, ArrayList<Task> taskList,
-            String sortCriteria, Project project) {
+            TaskList taskList, String sortCriteria, Project project) {
         ArrayList<String> taskDetails = new ArrayList<>();
         if (sortCriteria.length() >= 4) {
             String[] detailedCriteria = sortCriteria.split(" ",2);
             switch (detailedCriteria[0]) {
             case "-name":
-                taskDetails = this.sortHelper.sortTaskName(taskList);
+                taskDetails = this.sortHelper.sortTaskName(taskList.getTaskList());
                 break;
             case "-date":
                 taskDetails = this.sortHelper.sortTaskDueDate(taskList);
@@ -326,10 +324,10 @@ public class ParserHelper {
                 taskDetails = this.sortHelper.sortTaskPriority(taskList);
                 break;
             case "-credits":
-                taskDetails = this.sortHelper.sortTaskCredit(taskList);
+                taskDetails = this.sortHelper.sortTaskCredit(taskList.getTaskList());
                 break;
             case "-who":
-                taskDetails = this.sortHelper.sortTaskMember(tasksAndAssignedMembers, taskList,
+                taskDetails = this.sortHelper.sortTaskMember(taskList.getTaskList(),
                         detailedCriteria[1], project);
                 break;
             case "-state":
@@ -471,8 +469,9 @@ public class ParserHelper {
     private void checkForSameMemberIndexes(ArrayList<Integer> assignees, ArrayList<Integer> unassignees,
                                            Project project) {
         ArrayList<Integer> repeated = new ArrayList<>();
+        HashSet<Integer> unassigneeIndexes = new HashSet<>(unassignees);
         for (Integer index: assignees) {
-            if (unassignees.contains(index)) {
+            if (unassigneeIndexes.contains(index)) {
                 repeated.add(index);
                 ArchDukeLogger.logError(ParserHelper.class.getName(), "[checkForSameMemberIndexes] "
                         + " Same index in assign and unassign: " + index);
@@ -481,9 +480,10 @@ public class ParserHelper {
 
             }
         }
-        for (Integer index: repeated) {
-            assignees.remove(index);
-            unassignees.remove(index);
+        if (!repeated.isEmpty()) {
+            HashSet<Integer> repeatedIndexes = new HashSet<>(repeated);
+            assignees.removeIf(repeatedIndexes::contains);
+            unassignees.removeIf(repeatedIndexes::contains);
         }
     }
 
@@ -3,11 +3,11 @@ package util;
 import models.member.IMember;
 import models.project.Project;
 import models.task.Task;
+import models.task.TaskList;
+import models.task.TaskState;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 
 public class SortHelper {
     //@@author iamabhishek98
@@ -29,22 +29,15 @@ public class SortHelper {
 
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the task due date in descending order.
+     * Lists the tasks with a due date from the earliest due date to the latest, read off the due date index of the
+     * task list.
      * @param taskList The list of tasks.
      * @return The list of tasks sorted by the task due date.
      */
-    public ArrayList<String> sortTaskDueDate(ArrayList<Task> taskList) {
+    public ArrayList<String> sortTaskDueDate(TaskList taskList) {
         ArrayList<String> taskDetails = new ArrayList<>();
-        ArrayList<Task> sortedTaskList = new ArrayList<>();
-        for (Task task : taskList) {
-            if (task.getDueDate() != null) {
-                sortedTaskList.add(task);
-            }
-        }
-        sortedTaskList.sort((task1, task2) -> task2.getDueDate().compareTo(task1.getDueDate()));
-        Collections.reverse(sortedTaskList);
         int taskIndex = 1;
-        for (Task task : sortedTaskList) {
+        for (Task task : taskList.getTasksByDueDate()) {
             taskDetails.add(taskIndex + ". " + task.getDetails());
             taskIndex++;
         }
@@ -53,15 +46,19 @@ public class SortHelper {
 
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the task priority in descending order.
+     * Sorts the list of tasks by the task priority in descending order, by joining the priority buckets of the
+     * task list.
      * @param taskList The list of tasks.
      * @return The list of tasks sorted by the task priority.
      */
-    public ArrayList<String> sortTaskPriority(ArrayList<Task> taskList) {
+    public ArrayList<String> sortTaskPriority(TaskList taskList) {
         ArrayList<String> taskDetails = new ArrayList<>();
-        taskList.sort((task1, task2) -> task1.getTaskPriority() - task2.getTaskPriority());
+        ArrayList<Task> tasksByPriority = taskList.getTasksByPriority();
+        for (int i = 0; i < tasksByPriority.size(); i++) {
+            taskList.getTaskList().set(i, tasksByPriority.get(i));
+        }
         int taskIndex = 1;
-        for (Task task : taskList) {
+        for (Task task : tasksByPriority) {
             taskDetails.add(taskIndex + ". " + task.getDetails());
             taskIndex++;
         }
@@ -88,16 +85,14 @@ public class SortHelper {
     //@@author iamabhishek98
     /**
      * Sorts the list of tasks by the name of the members assigned to the tasks in alphabetical order.
-     * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
      * @param taskList The list of tasks.
      * @return The list of tasks sorted by the name of the members assigned to the tasks in alphabetical order.
      */
-    public ArrayList<String> sortTaskMember(HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
-                                            ArrayList<Task> taskList, String memberName, Project project) {
+    public ArrayList<String> sortTaskMember(ArrayList<Task> taskList, String memberName, Project project) {
         ArrayList<Task> allAssignedTasks = new ArrayList<>();
         // to be made more efficient
         for (Task task: taskList) {
-            for (String memberID : tasksAndAssignedMembers.get(task.getTaskID())) {
+            for (String memberID : project.getAssignmentGraph().getAssignedMemberIDs(task.getTaskID())) {
                 IMember member = project.getMemberFromID(memberID);
                 if (member.getName().equals(memberName)) {
                     allAssignedTasks.add(task);
@@ -110,19 +105,19 @@ public class SortHelper {
 
     //@@author iamabhishek98
     /**
-     * Filters the list of tasks by the task state.
+     * Filters the list of tasks by the task state, using the state index of the task list.
      * @param taskList The List of tasks.
      * @param state The task state required to filter the task list.
      * @return The list of tasks filtered by the task state.
      */
-    public ArrayList<String> sortTaskState(ArrayList<Task> taskList, String state) {
+    public ArrayList<String> sortTaskState(TaskList taskList, String state) {
         ArrayList<String> taskDetails = new ArrayList<>();
-        int taskIndex = 1;
-        for (Task task : taskList) {
-            if (state.equals(task.getTaskState().toString())) {
-                taskDetails.add(taskIndex + ". " + task.getDetails());
+        for (TaskState taskState : TaskState.values()) {
+            if (taskState.toString().equals(state)) {
+                for (Task task : taskList.getTasksInState(taskState)) {
+                    taskDetails.add(taskList.getIndexNumber(task) + ". " + task.getDetails());
+                }
             }
-            taskIndex++;
         }
         return taskDetails;
     }
@@ -145,6 +145,12 @@ public class ConstantHelper {
 
     public static final String PROJECT_COMMAND_HELP = "help";
 
+    public static final String PROJECT_COMMAND_ARCHIVE = "archive";
+
+    public static final String PROJECT_COMMAND_UNARCHIVE = "unarchive";
+
+    public static final String PROJECT_COMMAND_VERIFY_REPLICA = "verify-replica";
+
     public static final String COMMAND_ADD_MEMBER = "add member ";
 
     public static final String COMMAND_EDIT_MEMBER = "edit member ";
@@ -156,6 +162,8 @@ public class ConstantHelper {
     public static final String COMMAND_DELETE_TASK = "delete task ";
 
     public static final String COMMAND_EDIT_TASK_REQ = "edit task requirements ";
+    public static final String COMMAND_IMPORT = "import ";
+    public static final String COMMAND_EXPORT = "export ";
 
     public static final String COMMAND_VIEW_TASK_REQ = "view task requirements ";
 
@@ -174,4 +182,51 @@ public class ConstantHelper {
     public static final int NUM_OF_TABLE_COLUMNS_FOR_ASSIGNMENT_RESULTS = 1;
 
     public static final int NUM_OF_TABLE_COLUMNS_FOR_COMMAND_VIEW_REMINDER_CATEGORY = 2;
+
+    public static final String DATA_DIRECTORY_NAME = "data";
+
+    public static final String ARCHIVE_DIRECTORY_NAME = "archive";
+
+    public static final long JOURNAL_COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+
+    public static final int SAVE_QUEUE_CAPACITY = 64;
+
+    public static final long LOADED_PROJECTS_ENTITY_BUDGET = 20000;
+
+    public static final long SHUTDOWN_FLUSH_DEADLINE_MILLIS = 10000;
+
+    public static final String STORAGE_FORMAT_PROPERTY = "archduke.storage.format";
+
+    public static final String STORAGE_FORMAT_JSON = "json";
+
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+
+    public static final long MAPPED_READ_THRESHOLD_BYTES = 1024 * 1024;
+
+    public static final String STORAGE_BACKEND_PROPERTY = "archduke.storage.backend";
+
+    public static final String STORAGE_REPLICA_PROPERTY = "archduke.storage.replica";
+
+    public static final long REPLICA_VERIFY_TIMEOUT_MILLIS = 5000;
+
+    public static final String STORAGE_BACKEND_SNAPSHOT = "snapshot";
+
+    public static final String STORAGE_BACKEND_ROWS = "rows";
+
+    public static final String ROW_STORE_DIRECTORY_NAME = "rows";
+
+    public static final long ROW_STORE_COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+
+    public static final String STORAGE_BACKEND_SHARDS = "shards";
+
+    public static final String SHARD_STORE_DIRECTORY_NAME = "shards";
+
+    public static final int TASKS_PER_SHARD = 256;
+
+    public static final int IMPORT_BATCH_SIZE = 1000;
+
+    public static final String[] READ_ONLY_PROJECT_COMMANDS = new String[] {
+        "view", "view members.*", "view credits.*", "view assignments.*", "view task requirements.*",
+        "view reminders", "view reminders by list", "agenda", "help", "export .*"
+    };
 }
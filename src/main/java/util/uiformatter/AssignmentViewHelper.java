@@ -12,7 +12,7 @@ import static util.constant.ConstantHelper.VIEW_ASSIGNMENTS_NO_MEMBERS_MESSAGE;
 import static util.constant.ConstantHelper.VIEW_ASSIGNMENTS_NO_TASKS_MESSAGE;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 import models.member.IMember;
 import models.project.Project;
 import models.task.ITask;
@@ -69,8 +69,7 @@ public class AssignmentViewHelper {
         if (!parserHelper.getErrorMessages().isEmpty()) {
             return parserHelper.getErrorMessages().toArray(new String[0]);
         }
-        HashMap<String, ArrayList<String>> memberAndIndividualTasks = projectToManage.getMembersIndividualTaskList();
-        if (memberAndIndividualTasks.keySet().isEmpty()) {
+        if (projectToManage.getNumOfMembers() == 0) {
             return VIEW_ASSIGNMENTS_NO_MEMBERS_MESSAGE;
         }
         ArrayList<ArrayList<String>> memberAssignmentInfo = getMemberOutput(validMembers, projectToManage);
@@ -85,17 +84,17 @@ public class AssignmentViewHelper {
      */
     private static ArrayList<ArrayList<String>> getMemberOutput(ArrayList<Integer> membersToView,
                                                                 Project project) {
-        HashMap<String, ArrayList<String>> memberAndIndividualTasks = project.getMembersIndividualTaskList();
         ArrayList<ArrayList<String>> totalMemberOutputToPrint = new ArrayList<>();
         for (Integer index : membersToView) {
             ArrayList<String> outputToPrint = new ArrayList<>();
             IMember member = project.getMember(index);
             outputToPrint.add(member.getName());
-            if (memberAndIndividualTasks.get(member.getMemberID()).size() == 0) {
+            List<String> assignedTaskIDs = project.getAssignmentGraph().getAssignedTaskIDs(member.getMemberID());
+            if (assignedTaskIDs.size() == 0) {
                 outputToPrint.add("No tasks assigned yet.");
             } else {
                 int currentNumber = 1;
-                for (String taskID : memberAndIndividualTasks.get(member.getMemberID())) {
+                for (String taskID : assignedTaskIDs) {
                     ITask task = project.getTaskFromID(taskID);
                     outputToPrint.add(currentNumber + ". " + task.getDetailsForAssignmentTable());
                     outputToPrint.add("");
@@ -127,8 +126,7 @@ public class AssignmentViewHelper {
         if (!parserHelper.getErrorMessages().isEmpty()) {
             return parserHelper.getErrorMessages().toArray(new String[0]);
         }
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers = projectToManage.getTasksAndAssignedMembers();
-        if (tasksAndAssignedMembers.keySet().isEmpty()) {
+        if (projectToManage.getNumOfTasks() == 0) {
             return VIEW_ASSIGNMENTS_NO_TASKS_MESSAGE;
         }
         ArrayList<ArrayList<String>> taskAssignmentInfo = getTaskOutput(validTasks, projectToManage);
@@ -142,17 +140,17 @@ public class AssignmentViewHelper {
      * @return An Array containing information requested by the user.
      */
     private static ArrayList<ArrayList<String>> getTaskOutput(ArrayList<Integer> tasksToView, Project project) {
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers = project.getTasksAndAssignedMembers();
         ArrayList<ArrayList<String>> totalTaskOutputToPrint = new ArrayList<>();
         for (Integer index : tasksToView) {
             Task task = project.getTask(index);
             ArrayList<String> outputToPrint = new ArrayList<>();
             outputToPrint.add(task.getDetailsForAssignmentTable());
-            if (tasksAndAssignedMembers.get(task.getTaskID()).size() == 0) {
+            List<String> assignedMemberIDs = project.getAssignmentGraph().getAssignedMemberIDs(task.getTaskID());
+            if (assignedMemberIDs.size() == 0) {
                 outputToPrint.add("No members assigned yet.");
             } else {
                 int currentNumber = 1;
-                for (String memberID : tasksAndAssignedMembers.get(task.getTaskID())) {
+                for (String memberID : assignedMemberIDs) {
                     IMember member = project.getMemberFromID(memberID);
                     outputToPrint.add(currentNumber + ". " + member.getName());
                     currentNumber++;
@@ -24,6 +24,15 @@ public class CommandHelper {
         helpList.add(" - manage PROJECT_INDEX");
         helpList.add("Selects the specified project to manage.");
         helpList.add("");
+        helpList.add(" - archive project PROJECT_INDEX");
+        helpList.add("Moves a finished project into compressed storage. It stays listed but is not loaded.");
+        helpList.add("");
+        helpList.add(" - unarchive project PROJECT_INDEX");
+        helpList.add("Restores an archived project so that it can be managed again.");
+        helpList.add("");
+        helpList.add(" - verify-replica");
+        helpList.add("Checks that the replica of your saved projects matches them and can be loaded.");
+        helpList.add("");
         helpList.add(" - bye");
         helpList.add("Saves your data and exits ArchDuke.");
         helpList.add("");
@@ -81,6 +90,13 @@ public class CommandHelper {
         helpList.add(" - assign task -i TASK_INDEX -to [MEMBER1_INDEX] [MEMBER2_INDEX] -rm [MEMBER3_INDEX]");
         helpList.add("Assigns or unassigns specified tasks to specified members.");
         helpList.add("");
+        helpList.add(" - import FILE_PATH");
+        helpList.add("Adds the tasks, members, assignments and reminders listed in a CSV or NDJSON file to the "
+                + "project.");
+        helpList.add("");
+        helpList.add(" - export FILE_PATH");
+        helpList.add("Writes the tasks, members, assignments and reminders of the project to a CSV or NDJSON file.");
+        helpList.add("");
         helpList.add(" - view reminders");
         helpList.add("Displays all the reminders.");
         helpList.add("");
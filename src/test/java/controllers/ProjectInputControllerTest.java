@@ -254,8 +254,7 @@ class ProjectInputControllerTest {
             projectInputController.projectAddTask(project, simulatedUserInput);
 
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. Documentation for product | Priority: 2 | Due: 21 Sep 2019"
@@ -287,8 +286,7 @@ class ProjectInputControllerTest {
                         + "-r do nothing -r do another thing";
             projectInputController.projectEditTask(project,simulatedUserInput);
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. No documentation | Priority: 5 | Due: 22 Sep 2019"
@@ -299,8 +297,7 @@ class ProjectInputControllerTest {
             simulatedUserInput = "edit task 1 -p 5 -n Infinity War -d 22/09/2019 -c 40 -s todo";
             projectInputController.projectEditTask(project,simulatedUserInput);
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
 
@@ -312,8 +309,7 @@ class ProjectInputControllerTest {
             simulatedUserInput = "edit task 1 -n Infinity War -p 1 -c 30";
             projectInputController.projectEditTask(project,simulatedUserInput);
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. Infinity War | Priority: 1 | Due: 22 Sep 2019"
@@ -324,8 +320,7 @@ class ProjectInputControllerTest {
             simulatedUserInput = "edit task 1 -c 20 -p 2";
             projectInputController.projectEditTask(project,simulatedUserInput);
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. Infinity War | Priority: 2 | Due: 22 Sep 2019"
@@ -338,8 +333,7 @@ class ProjectInputControllerTest {
             dueDate = dateTimeHelper.formatDate("12/12/2020");
             projectInputController.projectEditTask(project,simulatedUserInput);
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. End Game | Priority: 2 | Due: 12 Dec 2020"
@@ -374,8 +368,7 @@ class ProjectInputControllerTest {
             Date dueDate1 = dateTimeHelper.formatDate("12/12/2021");
             Date dueDate2 = dateTimeHelper.formatDate("1/1/2020");
             actualOutput = "";
-            for (String message : project.getTaskList().getAllTaskDetails(
-                    project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. task3 | Priority: 1 | Due: 01 Jan 2020"
@@ -388,8 +381,7 @@ class ProjectInputControllerTest {
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
-            for (String message : project.getTaskList().getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(), "-priority", project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllSortedTaskDetails("-priority", project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. task3 | Priority: 1 | Due: 01 Jan 2020"
@@ -402,8 +394,7 @@ class ProjectInputControllerTest {
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
-            for (String message : project.getTaskList().getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(), "-name", project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllSortedTaskDetails("-name", project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. task1 | Priority: 5 | Due: 12 Dec 2021"
@@ -416,8 +407,7 @@ class ProjectInputControllerTest {
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
-            for (String message : project.getTaskList().getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(), "-date", project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllSortedTaskDetails("-date", project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. task3 | Priority: 1 | Due: 01 Jan 2020"
@@ -429,8 +419,7 @@ class ProjectInputControllerTest {
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
-            for (String message : project.getTaskList().getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(), "-credits", project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllSortedTaskDetails("-credits", project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING"
@@ -443,8 +432,7 @@ class ProjectInputControllerTest {
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
-            for (String message : project.getTaskList().getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(), "-who Dillen", project).toArray(new String[0])) {
+            for (String message : project.getTaskList().getAllSortedTaskDetails("-who Dillen", project).toArray(new String[0])) {
                 actualOutput += message;
             }
             expectedOutput = "1. task1 | Priority: 5 | Due: 12 Dec 2021"
@@ -466,8 +454,7 @@ class ProjectInputControllerTest {
         simulatedUserInput = "delete task 1";
         projectInputController.projectDeleteTask(project, simulatedUserInput);
         actualOutput = "";
-        for (String message : project.getTaskList().getAllTaskDetails(
-                project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
+        for (String message : project.getTaskList().getAllTaskDetails(project).toArray(new String[0])) {
             actualOutput += message;
         }
         expectedOutput = "";
@@ -35,6 +35,15 @@ class CommandHelperTest {
             " - manage PROJECT_INDEX",
             "Selects the specified project to manage.",
             "",
+            " - archive project PROJECT_INDEX",
+            "Moves a finished project into compressed storage. It stays listed but is not loaded.",
+            "",
+            " - unarchive project PROJECT_INDEX",
+            "Restores an archived project so that it can be managed again.",
+            "",
+            " - verify-replica",
+            "Checks that the replica of your saved projects matches them and can be loaded.",
+            "",
             " - bye",
             "Saves your data and exits ArchDuke.",
             "",
@@ -90,6 +99,13 @@ class CommandHelperTest {
             " - assign task -i TASK_INDEX -to [MEMBER1_INDEX] [MEMBER2_INDEX] -rm [MEMBER3_INDEX]",
             "Assigns or unassigns specified tasks to specified members.",
             "",
+            " - import FILE_PATH",
+            "Adds the tasks, members, assignments and reminders listed in a CSV or NDJSON file to the "
+                + "project.",
+            "",
+            " - export FILE_PATH",
+            "Writes the tasks, members, assignments and reminders of the project to a CSV or NDJSON file.",
+            "",
             " - view reminders",
             "Displays all the reminders.",
             "",
@@ -11,6 +11,7 @@ import util.date.DateTimeHelper;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,6 +50,94 @@ class TaskListTest {
         assertEquals(0,taskList.getSize());
     }
 
+    @Test
+    void getTasksInState_taskEdited_indexesUpdated() {
+        TaskList taskList = new TaskList();
+        Date earlierDate = new Date(0);
+        Date laterDate = new Date();
+        Task firstTask = new Task("first", 1, laterDate, 10, TaskState.OPEN, new ArrayList<>());
+        Task secondTask = new Task("second", 2, earlierDate, 10, TaskState.OPEN, new ArrayList<>());
+        Task thirdTask = new Task("third", 1, null, 10, TaskState.DONE, new ArrayList<>());
+        taskList.addTask(firstTask);
+        taskList.addTask(secondTask);
+        taskList.addTask(thirdTask);
+        assertEquals(Arrays.asList(firstTask, secondTask), taskList.getTasksInState(TaskState.OPEN));
+        assertEquals(Arrays.asList(secondTask, firstTask), taskList.getTasksByDueDate());
+        assertEquals("second", taskList.getClosestDeadlineTask()[0]);
+
+        secondTask.setTaskState("done");
+        secondTask.setTaskPriority(1);
+        thirdTask.setDueDate(laterDate);
+        assertEquals(Arrays.asList(firstTask), taskList.getTasksInState(TaskState.OPEN));
+        assertEquals(Arrays.asList(secondTask, thirdTask), taskList.getTasksInState(TaskState.DONE));
+        assertEquals(Arrays.asList(firstTask, secondTask, thirdTask), taskList.getTasksWithPriority(1));
+        assertEquals("first", taskList.getClosestDeadlineTask()[0]);
+        assertEquals(Integer.valueOf(2), taskList.getTasksWithinCurrentMonth()
+            .get(dateTimeHelper.getDayFromDateObject(laterDate)));
+
+        taskList.removeTask(1);
+        assertEquals(Arrays.asList(secondTask, thirdTask), taskList.getTasksByDueDate());
+        assertEquals(2, taskList.getIndexNumber(thirdTask));
+        assertEquals("[2. third | Priority: 1 | Due: " + dateTimeHelper.formatDateForDisplay(laterDate)
+            + dateTimeHelper.getDifferenceDays(laterDate) + " | Credit: 10 | State: DONE]",
+            taskList.getAllSortedTaskDetails("-state done", project)
+                .subList(1, 2).toString());
+    }
+
+    @Test
+    void getIndexNumber_tasksRemovedReplacedAndReordered_listOrderKept() {
+        TaskList taskList = new TaskList();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Task task = new Task("task " + i, 1, null, 10, TaskState.OPEN, new ArrayList<>());
+            tasks.add(task);
+            taskList.addTask(task);
+        }
+        assertEquals(Arrays.asList(tasks.get(0), tasks.get(1), tasks.get(2), tasks.get(3), tasks.get(4)),
+            taskList.getTasksWithPriority(1));
+
+        taskList.removeTask(2);
+        tasks.get(0).setTaskPriority(2);
+        tasks.get(0).setTaskPriority(1);
+        Task updatedTask = new Task(tasks.get(3).getTaskID(), "task 4", 1, null, 10, TaskState.DONE,
+            new ArrayList<>());
+        taskList.replaceTask(updatedTask);
+        assertEquals(0, taskList.getIndexNumber(tasks.get(1)));
+        assertEquals(0, taskList.getIndexNumber(tasks.get(3)));
+        assertEquals(3, taskList.getIndexNumber(updatedTask));
+        assertEquals(4, taskList.getIndexNumber(tasks.get(4)));
+        assertEquals(Arrays.asList(tasks.get(0), tasks.get(2), tasks.get(4)), taskList.getTasksInState(TaskState.OPEN));
+        assertEquals(Arrays.asList(tasks.get(0), tasks.get(2), updatedTask, tasks.get(4)),
+            taskList.getTasksWithPriority(1));
+
+        taskList.reorderTasks(new ArrayList<>(Arrays.asList(tasks.get(4).getTaskID(), tasks.get(2).getTaskID())));
+        assertEquals(1, taskList.getIndexNumber(tasks.get(4)));
+        assertEquals(4, taskList.getIndexNumber(updatedTask));
+        assertEquals(Arrays.asList(tasks.get(4), tasks.get(2), tasks.get(0), updatedTask),
+            taskList.getTasksWithPriority(1));
+    }
+
+    @Test
+    void getOverallProgress_creditsAndStatesEdited_totalsUpdated() {
+        TaskList taskList = new TaskList();
+        Task firstTask = new Task("first", 1, null, 50, TaskState.DONE, new ArrayList<>());
+        Task secondTask = new Task("second", 1, null, 30, TaskState.DOING, new ArrayList<>());
+        taskList.addTask(firstTask);
+        taskList.addTask(secondTask);
+        taskList.addTask(new Task("third", 1, null, 20, TaskState.OPEN, new ArrayList<>()));
+        assertEquals(Arrays.asList("Completed: 50%", "In Progress: 30%", "Not Done: 20%"),
+            Arrays.asList(taskList.getOverallProgress()));
+
+        secondTask.setTaskState("done");
+        firstTask.setTaskCredit(10);
+        taskList.removeTask(3);
+        assertEquals(Arrays.asList("Completed: 100%", "In Progress: 0%", "Not Done: 0%"),
+            Arrays.asList(taskList.getOverallProgress()));
+        secondTask.setTaskState("todo");
+        assertEquals(Arrays.asList("Completed: 25%", "In Progress: 0%", "Not Done: 75%"),
+            Arrays.asList(taskList.getOverallProgress()));
+    }
+
     @Test
     void testGetAllTaskDetails() {
         TaskList taskList = new TaskList();
@@ -67,15 +156,13 @@ class TaskListTest {
                 + "2. task2 | Priority: 2 | Due: -- | Credit: 100 | State: OPEN, "
                 + "3. task3 | Priority: 3 | Due: -- | Credit: 100 | State: OPEN, "
                 + "4. task4 | Priority: 4 | Due: -- | Credit: 100 | State: OPEN]";
-        assertEquals(testTaskListString,taskList.getAllTaskDetails(project.getTasksAndAssignedMembers(),
-            project).toString());
+        assertEquals(testTaskListString,taskList.getAllTaskDetails(project).toString());
 
         String testRemoveTaskListString = "[1. task1 | Priority: 1 | Due: -- | Credit: 100 | State: OPEN, "
                 + "2. task3 | Priority: 3 | Due: -- | Credit: 100 | State: OPEN, "
                 + "3. task4 | Priority: 4 | Due: -- | Credit: 100 | State: OPEN]";
         taskList.removeTask(2);
-        assertEquals(testRemoveTaskListString,taskList.getAllTaskDetails(
-                project.getTasksAndAssignedMembers(), project).toString());
+        assertEquals(testRemoveTaskListString,taskList.getAllTaskDetails(project).toString());
     }
 
     @Test
@@ -115,8 +202,7 @@ class TaskListTest {
                     + " | Credit: 70 | State: DONE, "
                     + "5. taskFive | Priority: 5 | Due: -- | Credit: 60 | State: OPEN"
                     + "]";
-            assertEquals(testPriorityTaskListString,taskList.getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(),"-priority", project).toString());
+            assertEquals(testPriorityTaskListString,taskList.getAllSortedTaskDetails("-priority", project).toString());
 
             String testNameTaskListString = "["
                     + "1. taskEight | Priority: 3 | Due: 21 Jan 2020" + dateTimeHelper.getDifferenceDays(dueDate3)
@@ -129,8 +215,7 @@ class TaskListTest {
                     + "5. taskTwo | Priority: 2 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 90 | State: DONE"
                     + "]";
-            assertEquals(testNameTaskListString,taskList.getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(),"-name", project).toString());
+            assertEquals(testNameTaskListString,taskList.getAllSortedTaskDetails("-name", project).toString());
 
             String testDueDateTaskListString = "["
                     + "1. taskSix | Priority: 4 | Due: 21 Dec 1920" + dateTimeHelper.getDifferenceDays(dueDate4)
@@ -142,8 +227,7 @@ class TaskListTest {
                     + "4. taskEight | Priority: 3 | Due: 21 Jan 2020" + dateTimeHelper.getDifferenceDays(dueDate3)
                     + " | Credit: 80 | State: OPEN"
                     + "]";
-            assertEquals(testDueDateTaskListString,taskList.getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(),"-date", project).toString());
+            assertEquals(testDueDateTaskListString,taskList.getAllSortedTaskDetails("-date", project).toString());
 
             String testCreditTaskListString = "["
                     + "1. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
@@ -156,8 +240,7 @@ class TaskListTest {
                     + " | Credit: 70 | State: DONE, "
                     + "5. taskFive | Priority: 5 | Due: -- | Credit: 60 | State: OPEN"
                     + "]";
-            assertEquals(testCreditTaskListString,taskList.getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(),"-credits", project).toString());
+            assertEquals(testCreditTaskListString,taskList.getAllSortedTaskDetails("-credits", project).toString());
 
             String testKanbanTaskListString = "["
                     + "2. taskTwo | Priority: 2 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
@@ -165,8 +248,7 @@ class TaskListTest {
                     + "4. taskSix | Priority: 4 | Due: 21 Dec 1920" + dateTimeHelper.getDifferenceDays(dueDate4)
                     + " | Credit: 70 | State: DONE"
                     + "]";
-            assertEquals(testKanbanTaskListString,taskList.getAllSortedTaskDetails(
-                    project.getTasksAndAssignedMembers(),"-state done", project).toString());
+            assertEquals(testKanbanTaskListString,taskList.getAllSortedTaskDetails("-state done", project).toString());
 
             project.addTask(new Task("task2",5, null,10,
                     TaskState.TODO, taskRequirements));
@@ -183,11 +265,9 @@ class TaskListTest {
                     + "State: TODO, 2. task2 | Priority: 5 | Due: -- | Credit: 10 | State: TODO]";
 
             /*assertEquals(testMemberTaskListString,
-                    taskList.getAllSortedTaskDetails(
-                            project.getTasksAndAssignedMembers(),"-who Jerry", project).toString());
+                    taskList.getAllSortedTaskDetails("-who Jerry", project).toString());
             assertEquals(testMemberTaskListString2,
-                    taskList.getAllSortedTaskDetails(
-                            project.getTasksAndAssignedMembers(),"-who Dillen", project).toString());*/
+                    taskList.getAllSortedTaskDetails("-who Dillen", project).toString());*/
 
 
         } catch (ParseException e) {
@@ -9,6 +9,7 @@ import models.task.TaskState;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +45,72 @@ public class ProjectTest {
         assertTrue(testProject.memberExists(testMember));
     }
 
+    @Test
+    void getTaskFromID_tasksAddedAndRemoved_indexKeptInStep() {
+        Project testProject = new Project("Test Project");
+        Task firstTask = new Task("First Task", 1, null, 1, TaskState.OPEN, null);
+        Task secondTask = new Task("Second Task", 1, null, 1, TaskState.OPEN, null);
+        testProject.addTask(firstTask);
+        testProject.addTask(secondTask);
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addMember(testMember);
+        assertSame(secondTask, testProject.getTaskFromID(secondTask.getTaskID()));
+        assertSame(testMember, testProject.getMemberFromID(testMember.getMemberID()));
+
+        testProject.getTaskList().removeTask(1);
+        assertNull(testProject.getTaskFromID(firstTask.getTaskID()).getTaskName());
+        assertFalse(testProject.taskExists(firstTask));
+        testProject.removeMember(testMember);
+        assertEquals("Unable to find this member.", testProject.getMemberFromID(testMember.getMemberID()).getDetails());
+    }
+
+    @Test
+    void removeMember_assignedTasks_onlyAssignmentsOfMemberRemoved() {
+        Project testProject = new Project("Test Project");
+        Task firstTask = new Task("First Task", 1, null, 1, TaskState.OPEN, null);
+        Task secondTask = new Task("Second Task", 1, null, 1, TaskState.OPEN, null);
+        Member firstMember = new Member("First Member", "--", "--", 1, "member");
+        Member secondMember = new Member("Second Member", "--", "--", 2, "member");
+        testProject.addTask(firstTask);
+        testProject.addTask(secondTask);
+        testProject.addMember(firstMember);
+        testProject.addMember(secondMember);
+        testProject.createAssignment(firstTask, firstMember);
+        testProject.createAssignment(firstTask, secondMember);
+        testProject.createAssignment(secondTask, secondMember);
+        assertEquals(Arrays.asList(firstMember.getMemberID(), secondMember.getMemberID()),
+            testProject.getTasksAndAssignedMembers().get(firstTask.getTaskID()));
+
+        testProject.removeMember(secondMember);
+        assertTrue(testProject.containsAssignment(firstTask, firstMember));
+        assertFalse(testProject.containsAssignment(firstTask, secondMember));
+        assertEquals(Arrays.asList(firstMember.getMemberID()),
+            testProject.getTasksAndAssignedMembers().get(firstTask.getTaskID()));
+        assertTrue(testProject.getTasksAndAssignedMembers().get(secondTask.getTaskID()).isEmpty());
+        testProject.removeTask(1);
+        assertTrue(testProject.getMembersIndividualTaskList().get(firstMember.getMemberID()).isEmpty());
+    }
+
+    @Test
+    void addTask_handleOfRemovedTaskReused_noAssignmentsCarriedOver() {
+        Project testProject = new Project("Test Project");
+        Task removedTask = new Task("Removed Task", 1, null, 1, TaskState.OPEN, null);
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addTask(removedTask);
+        testProject.addMember(testMember);
+        testProject.createAssignment(removedTask, testMember);
+        testProject.removeTask(1);
+
+        Task newTask = new Task("New Task", 1, null, 1, TaskState.OPEN, null);
+        testProject.addTask(newTask);
+        assertFalse(testProject.containsAssignment(newTask, testMember));
+        assertTrue(testProject.getMembersIndividualTaskList().get(testMember.getMemberID()).isEmpty());
+        testProject.createAssignment(newTask, testMember);
+        assertEquals(Arrays.asList(newTask.getTaskID()),
+            testProject.getMembersIndividualTaskList().get(testMember.getMemberID()));
+        assertEquals(1, testProject.getTasksAndAssignedMembers().size());
+    }
+
     @Test
     void getTaskIndexNameTest() {
         Project testProject = new Project("Test Project");
@@ -157,4 +224,40 @@ public class ProjectTest {
         ITask outputTask = testProject.getTaskFromID(taskID);
         assertNotEquals(testTask, outputTask);
     }
+
+    @Test
+    void getVersionTest_versionMovesOnlyOnMutation() {
+        Project testProject = new Project("Test Project");
+        Task testTask = new Task("Test Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addTask(testTask);
+        testProject.addMember(testMember);
+        long versionAfterAdding = testProject.getVersion();
+        testProject.getTaskList().getAllTaskDetails(testProject);
+        testProject.getMemberList().getAllMemberDetailsForTable();
+        assertEquals(versionAfterAdding, testProject.getVersion());
+        testProject.createAssignment(testTask, testMember);
+        assertNotEquals(versionAfterAdding, testProject.getVersion());
+        long versionAfterAssigning = testProject.getVersion();
+        testTask.setTaskCredit(20);
+        assertNotEquals(versionAfterAssigning, testProject.getVersion());
+    }
+
+    @Test
+    void getVersionTest_repeatedAssignmentChangesNothing() {
+        Project testProject = new Project("Test Project");
+        Task testTask = new Task("Test Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addTask(testTask);
+        testProject.addMember(testMember);
+        testProject.createAssignment(testTask, testMember);
+        long versionAfterAssigning = testProject.getVersion();
+        testProject.createAssignment(testTask, testMember);
+        assertEquals(versionAfterAssigning, testProject.getVersion());
+        testProject.removeAssignment(testMember, testTask);
+        long versionAfterUnassigning = testProject.getVersion();
+        assertNotEquals(versionAfterAssigning, versionAfterUnassigning);
+        testProject.removeAssignment(testMember, testTask);
+        assertEquals(versionAfterUnassigning, testProject.getVersion());
+    }
 }
@@ -1,12 +1,26 @@
 package repositorytests;
 
 import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import repositories.ProjectRepository;
+import storage.JsonConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author Lucria
 class ProjectRepositoryTest {
@@ -42,10 +56,8 @@ class ProjectRepositoryTest {
         assertEquals(expectedProject.getNumOfTasks(), simulatedProject.getNumOfTasks());
         assertEquals(expectedProject.getMemberList().getAllMemberDetails(),
                 simulatedProject.getMemberList().getAllMemberDetails());
-        assertEquals(expectedProject.getTaskList().getAllTaskDetails(expectedProject.getTasksAndAssignedMembers(),
-            projectRepository.getItem(1)),
-                simulatedProject.getTaskList().getAllTaskDetails(simulatedProject.getTasksAndAssignedMembers(),
-                    projectRepository.getItem(1)));
+        assertEquals(expectedProject.getTaskList().getAllTaskDetails(projectRepository.getItem(1)),
+                simulatedProject.getTaskList().getAllTaskDetails(projectRepository.getItem(1)));
     }
 
     @Test
@@ -71,10 +83,8 @@ class ProjectRepositoryTest {
         assertEquals(expectedProject.getNumOfTasks(), simulatedProject.getNumOfTasks());
         assertEquals(expectedProject.getMemberList().getAllMemberDetails(),
                 simulatedProject.getMemberList().getAllMemberDetails());
-        assertEquals(expectedProject.getTaskList().getAllTaskDetails(expectedProject.getTasksAndAssignedMembers(),
-            projectRepository.getItem(1)),
-                simulatedProject.getTaskList().getAllTaskDetails(simulatedProject.getTasksAndAssignedMembers(),
-                    projectRepository.getItem(1)));
+        assertEquals(expectedProject.getTaskList().getAllTaskDetails(projectRepository.getItem(1)),
+                simulatedProject.getTaskList().getAllTaskDetails(projectRepository.getItem(1)));
     }
 
     @Test
@@ -106,4 +116,136 @@ class ProjectRepositoryTest {
         };
         assertArrayEquals(expectedOutput, simulatedOutput);
     }
+
+    @Test
+    void getItem_loadedProjectsOverBudget_leastRecentlyUsedDropped(@TempDir Path tempDirectory) {
+        ProjectRepository lazyRepository = new ProjectRepository(
+            new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false), 2);
+        lazyRepository.addToRepo("create Alpha");
+        Project alphaProject = lazyRepository.getItem(1);
+        alphaProject.addTask(new Task("Assemble", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        lazyRepository.saveToRepo(alphaProject);
+        lazyRepository.addToRepo("create Beta");
+        assertEquals(1, lazyRepository.getNumOfLoadedProjects());
+
+        Project reloadedProject = lazyRepository.getItem(1);
+        assertNotSame(alphaProject, reloadedProject);
+        assertEquals(1, reloadedProject.getNumOfTasks());
+        assertEquals(1, lazyRepository.getNumOfLoadedProjects());
+        assertEquals("Project 2: Beta", lazyRepository.getAllProjectsDetailsForTable().get(1).get(0));
+        assertEquals(2, lazyRepository.getNumOfProjects());
+    }
+
+    @Test
+    void getItem_loadedProjectsOverBudgetAndSaveFailed_unsavedProjectKept(@TempDir Path tempDirectory)
+            throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false);
+        ProjectRepository lazyRepository = new ProjectRepository(jsonConverter, 2);
+        lazyRepository.addToRepo("create Alpha");
+        Project alphaProject = lazyRepository.getItem(1);
+        Path journalPath = jsonConverter.getJournalFile("Alpha").toPath();
+        File snapshotFile = jsonConverter.getSnapshotFile("Alpha");
+        Path temporarySnapshotPath = snapshotFile.toPath().resolveSibling(snapshotFile.getName() + ".tmp");
+        Files.createDirectories(journalPath);
+        Files.createDirectories(temporarySnapshotPath);
+        alphaProject.addTask(new Task("Assemble", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        lazyRepository.addToRepo("create Beta");
+        assertEquals(2, lazyRepository.getNumOfLoadedProjects());
+        assertSame(alphaProject, lazyRepository.getItem(1));
+
+        Files.delete(journalPath);
+        Files.delete(temporarySnapshotPath);
+        lazyRepository.addToRepo("create Gamma");
+        assertEquals(1, lazyRepository.getNumOfLoadedProjects());
+        assertEquals("Assemble", lazyRepository.getItem(1).getTask(1).getTaskName());
+    }
+
+    @Test
+    void getItem_savedFileDamaged_otherProjectsKeepIndex(@TempDir Path tempDirectory) throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false);
+        ProjectRepository lazyRepository = new ProjectRepository(jsonConverter, 1);
+        lazyRepository.addToRepo("create Alpha");
+        lazyRepository.addToRepo("create Beta");
+        assertEquals(1, lazyRepository.getNumOfLoadedProjects());
+        Files.writeString(jsonConverter.getSnapshotFile("Alpha").toPath(), "not a project");
+
+        assertNull(lazyRepository.getItem(1));
+        assertFalse(lazyRepository.takeLoadErrors().isEmpty());
+        assertEquals(2, lazyRepository.getNumOfProjects());
+        assertEquals("Beta", lazyRepository.getItem(2).getName());
+    }
+
+    @Test
+    void archiveItem_savedProject_listedButNotLoaded(@TempDir Path tempDirectory) {
+        ProjectRepository archivingRepository = new ProjectRepository(
+            new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false), Long.MAX_VALUE);
+        archivingRepository.addToRepo("create Finished");
+        Project finishedProject = archivingRepository.getItem(1);
+        finishedProject.addTask(new Task("Wrap up", 1, null, 10, TaskState.DONE, new ArrayList<>()));
+        archivingRepository.saveToRepo(finishedProject);
+
+        assertArrayEquals(new String[] {"Project 1 has been archived."}, archivingRepository.archiveItem(1));
+        assertEquals(0, archivingRepository.getNumOfLoadedProjects());
+        assertNull(archivingRepository.getItem(1));
+        assertEquals(0, archivingRepository.getAll().size());
+        archivingRepository.waitForPendingWrites();
+
+        ProjectRepository reopenedRepository = new ProjectRepository(
+            new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false), Long.MAX_VALUE);
+        assertTrue(reopenedRepository.isArchived(1));
+        assertEquals("Project 1: Finished (archived)", reopenedRepository.getAllProjectsDetailsForTable().get(0)
+            .get(0));
+        assertArrayEquals(new String[] {"Project 1 has been unarchived."}, reopenedRepository.unarchiveItem(1));
+        assertEquals("Wrap up", reopenedRepository.getItem(1).getTask(1).getTaskName());
+        assertFalse(reopenedRepository.isArchived(1));
+    }
+
+    @Test
+    void flushDirtyProjects_unsavedChanges_eachProjectSavedAndReported(@TempDir Path tempDirectory) {
+        ProjectRepository flushingRepository = new ProjectRepository(
+            new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false), Long.MAX_VALUE);
+        flushingRepository.addToRepo("create Alpha");
+        flushingRepository.addToRepo("create Beta");
+        flushingRepository.addToRepo("create Gamma");
+        flushingRepository.getItem(1).addTask(new Task("Assemble", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        flushingRepository.getItem(3).addTask(new Task("Disband", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+
+        ArrayList<String> flushResults = flushingRepository.flushDirtyProjects();
+        assertEquals(2, flushResults.size());
+        assertTrue(flushResults.get(0).startsWith("Saved Alpha in "));
+        assertTrue(flushResults.get(1).startsWith("Saved Gamma in "));
+        assertTrue(flushingRepository.flushDirtyProjects().isEmpty());
+
+        ProjectRepository reopenedRepository = new ProjectRepository(
+            new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false), Long.MAX_VALUE);
+        assertEquals("Assemble", reopenedRepository.getItem(1).getTask(1).getTaskName());
+        assertEquals(0, reopenedRepository.getItem(2).getNumOfTasks());
+        assertEquals("Disband", reopenedRepository.getItem(3).getTask(1).getTaskName());
+    }
+
+    @Test
+    void saveToRepo_saveFailed_submittedAgain(@TempDir Path tempDirectory) throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false);
+        ProjectRepository savingRepository = new ProjectRepository(jsonConverter, Long.MAX_VALUE);
+        savingRepository.addToRepo("create Alpha");
+        Project alphaProject = savingRepository.getItem(1);
+        Path journalPath = jsonConverter.getJournalFile("Alpha").toPath();
+        File snapshotFile = jsonConverter.getSnapshotFile("Alpha");
+        Path temporarySnapshotPath = snapshotFile.toPath().resolveSibling(snapshotFile.getName() + ".tmp");
+        Files.createDirectories(journalPath);
+        Files.createDirectories(temporarySnapshotPath);
+        alphaProject.addTask(new Task("Assemble", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        savingRepository.saveToRepo(alphaProject);
+        savingRepository.waitForPendingWrites();
+        assertEquals(1, savingRepository.getAsyncProjectWriter().getNumOfFailedSaves());
+
+        Files.delete(journalPath);
+        Files.delete(temporarySnapshotPath);
+        savingRepository.saveToRepo(alphaProject);
+        savingRepository.waitForPendingWrites();
+
+        ProjectRepository reopenedRepository = new ProjectRepository(
+            new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false), Long.MAX_VALUE);
+        assertEquals("Assemble", reopenedRepository.getItem(1).getTask(1).getTaskName());
+    }
 }
@@ -0,0 +1,70 @@
+package repositorytests;
+
+import models.project.Project;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repositories.RowProjectRepository;
+import repositories.StoreBackedProjectRepository;
+import storage.ProjectRowStore;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowProjectRepositoryTest extends StoreBackedProjectRepositoryTest {
+    @Override
+    StoreBackedProjectRepository openRepository(Path directory) {
+        return new RowProjectRepository(directory.toString(), false);
+    }
+
+    @Override
+    String getStoreFileExtension() {
+        return ProjectRowStore.FILE_EXTENSION;
+    }
+
+    @Test
+    void saveToRepo_oneTaskEdited_writeSizeIndependentOfTaskCount(@TempDir Path tempDirectory) {
+        StoreBackedProjectRepository rowRepository = openRepository(tempDirectory);
+        rowRepository.addToRepo("create Small");
+        rowRepository.addToRepo("create Large");
+        Project smallProject = rowRepository.getItem(1);
+        Project largeProject = rowRepository.getItem(2);
+        fillProject(smallProject, 10);
+        fillProject(largeProject, 1000);
+        rowRepository.saveToRepo(smallProject);
+        rowRepository.saveToRepo(largeProject);
+        File smallRows = tempDirectory.resolve("Small.rows").toFile();
+        File largeRows = tempDirectory.resolve("Large.rows").toFile();
+        final long smallSizeBeforeEdit = smallRows.length();
+        final long largeSizeBeforeEdit = largeRows.length();
+
+        smallProject.getTask(1).setTaskName("Edited task");
+        largeProject.getTask(1).setTaskName("Edited task");
+        rowRepository.saveToRepo(smallProject);
+        rowRepository.saveToRepo(largeProject);
+
+        assertTrue(smallRows.length() > smallSizeBeforeEdit);
+        assertEquals(smallRows.length() - smallSizeBeforeEdit, largeRows.length() - largeSizeBeforeEdit);
+    }
+
+    @Test
+    void loadProjects_interruptedWrite_completeRowsLoaded(@TempDir Path tempDirectory) throws IOException {
+        StoreBackedProjectRepository rowRepository = openRepository(tempDirectory);
+        rowRepository.addToRepo("create Hulk Fanclub");
+        Project project = rowRepository.getItem(1);
+        fillProject(project, 3);
+        rowRepository.saveToRepo(project);
+        try (FileOutputStream rowsOutput = new FileOutputStream(
+                tempDirectory.resolve("Hulk Fanclub.rows").toFile(), true)) {
+            rowsOutput.write(new byte[] {0, 0, 1, 0, 1, 2, 3});
+        }
+
+        Project reloadedProject = openRepository(tempDirectory).getItem(1);
+        assertEquals(3, reloadedProject.getNumOfTasks());
+        assertEquals(project.getTasksAndAssignedMembers(), reloadedProject.getTasksAndAssignedMembers());
+    }
+}
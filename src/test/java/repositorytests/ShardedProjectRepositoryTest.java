@@ -0,0 +1,51 @@
+package repositorytests;
+
+import models.project.Project;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repositories.ShardedProjectRepository;
+import repositories.StoreBackedProjectRepository;
+import storage.ProjectShardStore;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedProjectRepositoryTest extends StoreBackedProjectRepositoryTest {
+    @Override
+    StoreBackedProjectRepository openRepository(Path directory) {
+        return new ShardedProjectRepository(directory.toString(), false);
+    }
+
+    @Override
+    String getStoreFileExtension() {
+        return ProjectShardStore.FILE_EXTENSION;
+    }
+
+    @Test
+    void saveToRepo_oneTaskEdited_onlyItsShardRewritten(@TempDir Path tempDirectory) {
+        StoreBackedProjectRepository shardedRepository = openRepository(tempDirectory);
+        shardedRepository.addToRepo("create Large");
+        Project project = shardedRepository.getItem(1);
+        fillProject(project, 600);
+        shardedRepository.saveToRepo(project);
+        File shardsFolder = tempDirectory.resolve("Large.shards").toFile();
+        List<String> shardsBeforeEdit = Arrays.asList(shardsFolder.list());
+
+        project.getTask(1).setTaskName("Edited task");
+        shardedRepository.saveToRepo(project);
+
+        List<String> shardsAfterEdit = Arrays.asList(shardsFolder.list());
+        assertEquals(shardsBeforeEdit.size(), shardsAfterEdit.size());
+        ArrayList<String> rewrittenShards = new ArrayList<>(shardsAfterEdit);
+        rewrittenShards.removeAll(shardsBeforeEdit);
+        assertEquals(1, rewrittenShards.size());
+        assertTrue(rewrittenShards.get(0).startsWith("tasks-0."));
+        assertEquals("Edited task", openRepository(tempDirectory).getItem(1).getTask(1).getTaskName());
+    }
+}
@@ -0,0 +1,78 @@
+package repositorytests;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repositories.StoreBackedProjectRepository;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests shared by every storage backend that keeps each Project in its own store. Repositories are opened without
+ * the Projects packaged in the jar, so that each test starts from an empty directory.
+ */
+abstract class StoreBackedProjectRepositoryTest {
+    abstract StoreBackedProjectRepository openRepository(Path directory);
+
+    abstract String getStoreFileExtension();
+
+    @Test
+    void saveToRepo_changesMade_changesReloaded(@TempDir Path tempDirectory) {
+        StoreBackedProjectRepository repository = openRepository(tempDirectory);
+        repository.addToRepo("create Thor Fanclub");
+        Project project = repository.getItem(1);
+        fillProject(project, 600);
+        repository.saveToRepo(project);
+        project.removeTask(2);
+        project.removeMember(project.getMember(1));
+        project.getTask(300).setTaskName("Renamed task");
+        project.addReminderToList(new Reminder("Book venue", "Remarks", new Date(1570000000000L), "default"));
+        repository.saveToRepo(project);
+
+        Project reloadedProject = openRepository(tempDirectory).getItem(1);
+        assertNotSame(project, reloadedProject);
+        assertEquals(project.getName(), reloadedProject.getName());
+        assertEquals(project.getMemberList().getAllMemberDetails(),
+            reloadedProject.getMemberList().getAllMemberDetails());
+        assertEquals(project.getTaskList().getAllTaskDetails(project),
+            reloadedProject.getTaskList().getAllTaskDetails(reloadedProject));
+        assertEquals(project.getTasksAndAssignedMembers(), reloadedProject.getTasksAndAssignedMembers());
+        assertEquals(project.getMembersIndividualTaskList(), reloadedProject.getMembersIndividualTaskList());
+        assertEquals(1, reloadedProject.getReminderListSize());
+    }
+
+    @Test
+    void updateItem_projectRenamed_storeRenamed(@TempDir Path tempDirectory) {
+        StoreBackedProjectRepository repository = openRepository(tempDirectory);
+        repository.addToRepo("create Ironman Fanclub");
+        assertTrue(repository.updateItem(repository.getItem(1), "Avengers Fanclub"));
+
+        assertFalse(tempDirectory.resolve("Ironman Fanclub" + getStoreFileExtension()).toFile().exists());
+        assertEquals("Avengers Fanclub", openRepository(tempDirectory).getItem(1).getName());
+        repository.deleteItem(1);
+        assertFalse(tempDirectory.resolve("Avengers Fanclub" + getStoreFileExtension()).toFile().exists());
+    }
+
+    static void fillProject(Project project, int numOfTasks) {
+        for (int i = 1; i <= 3; i++) {
+            project.addMember(new Member("Member " + i, "9123456" + i, "member" + i + "@gmail.com", i, "member"));
+        }
+        for (int i = 1; i <= numOfTasks; i++) {
+            Task task = new Task("Task " + i, i % 10, new Date(1570000000000L + i * 86400000L), i % 50,
+                TaskState.OPEN, new ArrayList<>());
+            project.addTask(task);
+            project.createAssignment(task, project.getMember(i % 3 + 1));
+        }
+    }
+}
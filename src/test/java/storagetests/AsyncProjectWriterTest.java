@@ -0,0 +1,70 @@
+package storagetests;
+
+import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.AsyncProjectWriter;
+import storage.JsonConverter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncProjectWriterTest {
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void submit_requestsQueuedWhileWriterBusy_coalescedIntoOneGroupCommit() throws InterruptedException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false);
+        Project pausingProject = new Project("Pausing Project");
+        CountDownLatch writerPaused = new CountDownLatch(1);
+        CountDownLatch writerResumed = new CountDownLatch(1);
+        AsyncProjectWriter asyncProjectWriter = new AsyncProjectWriter(jsonConverter, 16, (project, version) -> {
+            if (project == pausingProject) {
+                writerPaused.countDown();
+                try {
+                    writerResumed.await();
+                } catch (InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Project firstProject = new Project("First Project");
+        Project secondProject = new Project("Second Project");
+        jsonConverter.saveProject(firstProject);
+        jsonConverter.saveProject(secondProject);
+
+        asyncProjectWriter.submit(pausingProject);
+        assertTrue(writerPaused.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            synchronized (firstProject) {
+                firstProject.addTask(new Task("Task " + i, i, null, i, TaskState.OPEN, new ArrayList<>()));
+            }
+            asyncProjectWriter.submit(firstProject);
+        }
+        for (int i = 1; i <= 3; i++) {
+            synchronized (secondProject) {
+                secondProject.addTask(new Task("Task " + i, i, null, i, TaskState.OPEN, new ArrayList<>()));
+            }
+            asyncProjectWriter.submit(secondProject);
+        }
+        assertEquals(8, asyncProjectWriter.getNumOfPendingSaves());
+        writerResumed.countDown();
+        asyncProjectWriter.flush();
+
+        assertEquals(0, asyncProjectWriter.getNumOfPendingSaves());
+        assertEquals(0, asyncProjectWriter.getNumOfFailedSaves());
+        assertEquals(5, asyncProjectWriter.getNumOfCoalescedSaves());
+        assertEquals(2, asyncProjectWriter.getNumOfGroupCommits());
+        JsonConverter reopenedConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE, false);
+        assertEquals(4, reopenedConverter.loadProject("First Project").getNumOfTasks());
+        assertEquals(3, reopenedConverter.loadProject("Second Project").getNumOfTasks());
+    }
+}
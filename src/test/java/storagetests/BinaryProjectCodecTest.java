@@ -0,0 +1,174 @@
+package storagetests;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.BinaryProjectCodec;
+import storage.JsonConverter;
+import storage.JsonProjectCodec;
+import storage.ProjectFormatConverter;
+import storage.ProjectSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryProjectCodecTest {
+    @TempDir
+    Path tempDirectory;
+
+    private Project createProject() {
+        Project project = new Project("Binary Project");
+        Date midnight = Date.from(LocalDate.of(2019, 11, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        ArrayList<String> taskRequirements = new ArrayList<>();
+        taskRequirements.add("Write tests");
+        Task firstTask = new Task("First Task", 3, midnight, 20, TaskState.DOING, taskRequirements);
+        Task secondTask = new Task("legacy-id", "Second Task", 1, new Date(1572566412345L), 10, null, null);
+        Member member = new Member("Dillen", "9999", "dillen@gmail.com", 1, "Leader");
+        project.addTask(firstTask);
+        project.addTask(secondTask);
+        project.addMember(member);
+        project.createAssignment(firstTask, member);
+        project.createAssignment(secondTask, member);
+        Reminder reminder = new Reminder("Submit report", "by noon", new Date(1572652800000L), "school");
+        reminder.setIsDone(true);
+        project.addReminderToList(reminder);
+        return project;
+    }
+
+    @Test
+    void decode_encodedProject_projectRestored() throws IOException {
+        BinaryProjectCodec binaryProjectCodec = new BinaryProjectCodec();
+        Project savedProject = createProject();
+        Project loadedProject = binaryProjectCodec.decode(
+            new ByteArrayInputStream(binaryProjectCodec.encode(savedProject))).getProject();
+
+        assertEquals("Binary Project", loadedProject.getName());
+        assertEquals(savedProject.getTask(1).getDetails(), loadedProject.getTask(1).getDetails());
+        assertEquals(savedProject.getTask(1).getDueDate(), loadedProject.getTask(1).getDueDate());
+        assertEquals(savedProject.getTask(1).getTaskID(), loadedProject.getTask(1).getTaskID());
+        assertEquals("legacy-id", loadedProject.getTask(2).getTaskID());
+        assertEquals(savedProject.getTask(2).getDueDate(), loadedProject.getTask(2).getDueDate());
+        assertNull(loadedProject.getTask(2).getTaskState());
+        assertNull(loadedProject.getTask(2).getRawTaskRequirements());
+        assertEquals("Leader", loadedProject.getMember(1).getRole());
+        assertEquals(true, loadedProject.getReminder(1).getIsDone());
+        assertEquals(savedProject.getReminder(1).getReminderDate(), loadedProject.getReminder(1).getReminderDate());
+        assertEquals(savedProject.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+        assertEquals(savedProject.getMembersIndividualTaskList(), loadedProject.getMembersIndividualTaskList());
+        String assignedMemberID = loadedProject.getTasksAndAssignedMembers()
+            .get(loadedProject.getTask(1).getTaskID()).get(0);
+        assertSame(loadedProject.getMember(1).getMemberID(), assignedMemberID);
+    }
+
+    @Test
+    void decode_mappedSnapshot_projectRestored() throws IOException {
+        BinaryProjectCodec binaryProjectCodec = new BinaryProjectCodec();
+        Project savedProject = createProject();
+        Path binarySnapshot = tempDirectory.resolve("Binary Project.archduke");
+        Files.write(binarySnapshot, binaryProjectCodec.encode(savedProject));
+
+        Project loadedProject;
+        try (FileChannel snapshotChannel = FileChannel.open(binarySnapshot, StandardOpenOption.READ)) {
+            loadedProject = binaryProjectCodec.decode(snapshotChannel.map(FileChannel.MapMode.READ_ONLY, 0,
+                snapshotChannel.size())).getProject();
+        }
+        assertEquals(savedProject.getTask(1).getDetails(), loadedProject.getTask(1).getDetails());
+        assertEquals(savedProject.getMember(1).getDetails(), loadedProject.getMember(1).getDetails());
+        assertEquals(savedProject.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+    }
+
+    @Test
+    void decode_truncatedSnapshot_exceptionThrown() throws IOException {
+        BinaryProjectCodec binaryProjectCodec = new BinaryProjectCodec();
+        byte[] snapshot = binaryProjectCodec.encode(createProject());
+        assertThrows(IOException.class, () -> binaryProjectCodec.decode(
+            ByteBuffer.wrap(Arrays.copyOf(snapshot, snapshot.length - 10))));
+    }
+
+    @Test
+    void decode_damagedTaskRecord_otherRecordsRestored() throws IOException {
+        BinaryProjectCodec binaryProjectCodec = new BinaryProjectCodec();
+        Project savedProject = createProject();
+        byte[] snapshot = binaryProjectCodec.encode(savedProject);
+        savedProject.getTask(2).setTaskCredit(11);
+        byte[] editedSnapshot = binaryProjectCodec.encode(savedProject);
+        int taskRecordIndex = Arrays.mismatch(snapshot, editedSnapshot);
+        snapshot[taskRecordIndex] ^= 0x04;
+
+        ProjectSnapshot projectSnapshot = binaryProjectCodec.decode(ByteBuffer.wrap(snapshot));
+        Project loadedProject = projectSnapshot.getProject();
+        assertEquals(1, loadedProject.getNumOfTasks());
+        assertEquals("First Task", loadedProject.getTask(1).getTaskName());
+        assertEquals(1, loadedProject.getNumOfMembers());
+        assertEquals(1, loadedProject.getMembersIndividualTaskList().get(loadedProject.getMember(1).getMemberID())
+            .size());
+        assertEquals(1, projectSnapshot.getDamagedRecords().size());
+        assertTrue(projectSnapshot.getDamagedRecords().get(0).startsWith("task 2"));
+    }
+
+    @Test
+    void encode_project_smallerThanJsonSnapshot() throws IOException {
+        Project project = createProject();
+        assertTrue(new BinaryProjectCodec().encode(project).length < new JsonProjectCodec().encode(project).length);
+    }
+
+    @Test
+    void loadAllProjectsData_jsonSnapshotWithBinaryCodec_convertedToBinary() {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE,
+            new JsonProjectCodec());
+        jsonConverter.saveProject(createProject());
+        final File jsonSnapshot = jsonConverter.getSnapshotFile("Binary Project");
+
+        JsonConverter binaryConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE,
+            new BinaryProjectCodec());
+        Project loadedProject = binaryConverter.loadAllProjectsData().stream()
+            .filter(project -> project.getName().equals("Binary Project")).findFirst().orElseThrow();
+        assertEquals(2, loadedProject.getNumOfTasks());
+        assertFalse(jsonSnapshot.exists());
+        assertTrue(binaryConverter.getSnapshotFile("Binary Project").getName().endsWith(".archduke"));
+        assertTrue(binaryConverter.getSnapshotFile("Binary Project").exists());
+    }
+
+    @Test
+    void convert_jsonToBinaryAndBack_sameProject() throws IOException {
+        Path jsonSnapshot = tempDirectory.resolve("Binary Project.json");
+        final Project savedProject = createProject();
+        Files.write(jsonSnapshot, new JsonProjectCodec().encode(savedProject));
+        ProjectFormatConverter projectFormatConverter = new ProjectFormatConverter();
+
+        File binarySnapshot = projectFormatConverter.convert(jsonSnapshot.toFile(), "binary");
+        assertTrue(binarySnapshot.getName().endsWith(".archduke"));
+        Files.delete(jsonSnapshot);
+        File convertedJsonSnapshot = projectFormatConverter.convert(binarySnapshot, "json");
+        assertEquals(jsonSnapshot.toFile().getAbsoluteFile(), convertedJsonSnapshot.getAbsoluteFile());
+        Project convertedProject;
+        try (InputStream convertedJson = Files.newInputStream(jsonSnapshot)) {
+            convertedProject = new JsonProjectCodec().decode(convertedJson).getProject();
+        }
+        assertEquals(savedProject.getTask(2).getDetails(), convertedProject.getTask(2).getDetails());
+        assertEquals(savedProject.getTasksAndAssignedMembers(), convertedProject.getTasksAndAssignedMembers());
+    }
+}
@@ -0,0 +1,467 @@
+package storagetests;
+
+import models.member.Member;
+import models.project.Project;
+import models.project.ProjectSummary;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JsonConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static util.constant.ConstantHelper.MAPPED_READ_THRESHOLD_BYTES;
+
+class JsonConverterTest {
+    @TempDir
+    Path tempDirectory;
+
+    private Project loadProject(JsonConverter jsonConverter, String projectName) {
+        for (Project project : jsonConverter.loadAllProjectsData()) {
+            if (project.getName().equals(projectName)) {
+                return project;
+            }
+        }
+        return null;
+    }
+
+    private Project createProjectWithChanges(JsonConverter jsonConverter) {
+        Project project = new Project("Journal Project");
+        jsonConverter.saveProject(project);
+        Task firstTask = new Task("First Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        Task secondTask = new Task("Second Task", 2, null, 20, TaskState.TODO, new ArrayList<>());
+        Member firstMember = new Member("Dillen", "9999", "dillen@gmail.com", 1, "member");
+        Member secondMember = new Member("Jerry", "8888", "jerry@gmail.com", 2, "member");
+        project.addTask(firstTask);
+        project.addTask(secondTask);
+        project.addMember(firstMember);
+        project.addMember(secondMember);
+        project.createAssignment(firstTask, firstMember);
+        project.createAssignment(secondTask, secondMember);
+        jsonConverter.saveChanges(project);
+        firstTask.setTaskName("Renamed Task");
+        project.removeMember(secondMember);
+        project.removeTask(2);
+        jsonConverter.saveChanges(project);
+        return project;
+    }
+
+    @Test
+    void saveChanges_journalReplayedOverSnapshot_projectRestored() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        final Project savedProject = createProjectWithChanges(jsonConverter);
+
+        assertTrue(jsonConverter.getJournalFile("Journal Project").exists());
+        String snapshot = Files.readString(jsonConverter.getSnapshotFile("Journal Project").toPath());
+        assertFalse(snapshot.contains("Renamed Task"));
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Journal Project");
+        assertEquals(1, loadedProject.getNumOfTasks());
+        assertEquals("Renamed Task", loadedProject.getTask(1).getTaskName());
+        assertEquals(1, loadedProject.getNumOfMembers());
+        assertEquals("Dillen", loadedProject.getMember(1).getName());
+        assertEquals(savedProject.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+        assertEquals(savedProject.getMembersIndividualTaskList(), loadedProject.getMembersIndividualTaskList());
+        assertTrue(loadedProject.getProjectChanges().isEmpty());
+    }
+
+    @Test
+    void saveChanges_journalPastThreshold_compactedIntoSnapshot() {
+        createProjectWithChanges(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE));
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), 1);
+        Project savedProject = loadProject(jsonConverter, "Journal Project");
+        assertTrue(jsonConverter.getJournalFile("Journal Project").exists());
+        savedProject.getTask(1).setTaskCredit(50);
+        jsonConverter.saveChanges(savedProject);
+        jsonConverter.waitForPendingWrites();
+
+        assertFalse(jsonConverter.getJournalFile("Journal Project").exists());
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), 1), "Journal Project");
+        assertEquals(savedProject.getNumOfTasks(), loadedProject.getNumOfTasks());
+        assertEquals(savedProject.getTask(1).getTaskName(), loadedProject.getTask(1).getTaskName());
+        assertEquals(savedProject.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+        assertArrayEquals(savedProject.getMemberList().getAllMemberDetails().toArray(),
+            loadedProject.getMemberList().getAllMemberDetails().toArray());
+    }
+
+    @Test
+    void saveChanges_snapshotNotWritten_changesKept() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project savedProject = new Project("Snapshot Project");
+        jsonConverter.saveProject(savedProject);
+        File snapshotFile = jsonConverter.getSnapshotFile("Snapshot Project");
+        Files.createDirectories(snapshotFile.toPath().resolveSibling(snapshotFile.getName() + ".tmp"));
+
+        savedProject.addTask(new Task("Kept Task", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        jsonConverter.saveProject(savedProject);
+
+        assertFalse(savedProject.getProjectChanges().isEmpty());
+    }
+
+    @Test
+    void loadAllProjectsData_incompleteLastRecord_earlierRecordsReplayed() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        createProjectWithChanges(jsonConverter);
+        Files.write(jsonConverter.getJournalFile("Journal Project").toPath(),
+            "{\"operation\":\"PUT_TASK\",\"task\":{\"taskN".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Journal Project");
+        assertEquals(1, loadedProject.getNumOfTasks());
+        assertEquals("Renamed Task", loadedProject.getTask(1).getTaskName());
+    }
+
+    @Test
+    void deleteProject_projectWithJournal_journalDeleted() throws Exception {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project savedProject = createProjectWithChanges(jsonConverter);
+        final File journalFile = jsonConverter.getJournalFile("Journal Project");
+        final File snapshotFile = jsonConverter.getSnapshotFile("Journal Project");
+        jsonConverter.deleteProject(savedProject);
+
+        assertFalse(journalFile.exists());
+        assertFalse(snapshotFile.exists());
+        assertTrue(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE).loadAllProjectsData().stream()
+            .noneMatch(project -> project.getName().equals("Journal Project")));
+    }
+
+    @Test
+    void loadAllProjectsData_legacyLayout_migratedToCurrentSchema() throws IOException {
+        Path legacySnapshot = tempDirectory.resolve("avengers.json");
+        try (InputStream legacyProject = getClass().getResourceAsStream("/initdata/avengers.json")) {
+            Files.copy(legacyProject, legacySnapshot);
+        }
+        final long legacySize = Files.size(legacySnapshot);
+
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE), "avengers");
+        assertEquals(4, loadedProject.getNumOfTasks());
+        assertEquals(5, loadedProject.getNumOfMembers());
+        String migratedSnapshot = Files.readString(legacySnapshot);
+        assertTrue(migratedSnapshot.contains("\"schemaVersion\": 4"));
+        assertFalse(migratedSnapshot.contains("dateTimeHelper"));
+        assertFalse(migratedSnapshot.contains("parserHelper"));
+        assertTrue(Files.size(legacySnapshot) < legacySize);
+
+        Project reloadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE), "avengers");
+        assertEquals(loadedProject.getTasksAndAssignedMembers(), reloadedProject.getTasksAndAssignedMembers());
+        assertEquals(loadedProject.getTask(4).getDetails(), reloadedProject.getTask(4).getDetails());
+    }
+
+    @Test
+    void loadAllProjectsData_corruptFile_quarantinedAndOthersLoaded() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        jsonConverter.saveProject(new Project("Zulu"));
+        jsonConverter.saveProject(new Project("Alpha"));
+        jsonConverter.saveProject(new Project("Broken"));
+        final File brokenSnapshot = jsonConverter.getSnapshotFile("Broken");
+        final File brokenJournal = jsonConverter.getJournalFile("Broken");
+        Files.writeString(brokenSnapshot.toPath(), "{\"schemaVersion\": 2, \"name\": ");
+        Files.writeString(brokenJournal.toPath(), "");
+
+        JsonConverter loadingConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        ArrayList<Project> loadedProjects = loadingConverter.loadAllProjectsData();
+        assertEquals("Alpha", loadedProjects.get(0).getName());
+        assertEquals("Zulu", loadedProjects.get(1).getName());
+        assertEquals(1, loadingConverter.getLoadErrors().size());
+        assertTrue(loadingConverter.getLoadErrors().get(0).startsWith(brokenSnapshot.getName()));
+        assertFalse(brokenSnapshot.exists());
+        assertFalse(brokenJournal.exists());
+        String[] quarantinedFiles = tempDirectory.resolve("quarantine").toFile().list();
+        assertEquals(2, quarantinedFiles.length);
+        assertTrue(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE).loadAllProjectsData().stream()
+            .noneMatch(project -> project.getName().equals("Broken")));
+    }
+
+    @Test
+    void loadAllProjectsData_damagedRecords_skippedAndReported() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project savedProject = createProjectWithChanges(jsonConverter);
+        savedProject.addTask(new Task("Damaged Task", 2, null, 30, TaskState.TODO, new ArrayList<>()));
+        jsonConverter.saveProject(savedProject);
+        savedProject.getTask(1).setTaskCredit(40);
+        savedProject.addTask(new Task("Journal Task", 3, null, 40, TaskState.TODO, new ArrayList<>()));
+        jsonConverter.saveChanges(savedProject);
+        Path snapshot = jsonConverter.getSnapshotFile("Journal Project").toPath();
+        Files.writeString(snapshot, Files.readString(snapshot).replace("Damaged Task", "Damaged Tusk"));
+        Path journal = jsonConverter.getJournalFile("Journal Project").toPath();
+        Files.writeString(journal, Files.readString(journal).replaceFirst("\"taskCredit\":40", "\"taskCredit\":4"));
+
+        JsonConverter loadingConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project loadedProject = loadingConverter.loadProject("Journal Project");
+        assertEquals(2, loadedProject.getNumOfTasks());
+        assertEquals("Renamed Task", loadedProject.getTask(1).getTaskName());
+        assertEquals("Journal Task", loadedProject.getTask(2).getTaskName());
+        ArrayList<String> loadErrors = loadingConverter.takeLoadErrors();
+        assertEquals(2, loadErrors.size());
+        assertTrue(loadErrors.get(0).startsWith("Journal Project: task 2 skipped"));
+        assertTrue(loadErrors.get(1).startsWith("Journal Project: journal record"));
+        assertTrue(loadingConverter.takeLoadErrors().isEmpty());
+        assertEquals(2, tempDirectory.resolve("quarantine").toFile().list().length);
+
+        loadingConverter.waitForPendingWrites();
+        JsonConverter reloadingConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        assertEquals(2, reloadingConverter.loadProject("Journal Project").getNumOfTasks());
+        assertTrue(reloadingConverter.takeLoadErrors().isEmpty());
+    }
+
+    @Test
+    void loadProjectCatalog_savedFilesUnchanged_projectsNotLoaded() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        createProjectWithChanges(jsonConverter);
+        jsonConverter.loadProjectCatalog();
+        Path snapshot = jsonConverter.getSnapshotFile("Journal Project").toPath();
+        final long lastModified = Files.getLastModifiedTime(snapshot).toMillis();
+        Files.writeString(snapshot, "x".repeat((int) Files.size(snapshot)));
+        snapshot.toFile().setLastModified(lastModified);
+
+        JsonConverter catalogConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        ProjectSummary projectSummary = catalogConverter.loadProjectCatalog().stream()
+            .filter(summary -> summary.getName().equals("Journal Project")).findFirst().orElseThrow();
+        assertEquals(1, projectSummary.getNumOfTasks());
+        assertEquals(1, projectSummary.getNumOfMembers());
+        assertTrue(catalogConverter.getLoadErrors().isEmpty());
+
+        snapshot.toFile().setLastModified(lastModified - 10000);
+        JsonConverter outdatedCatalogConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        assertTrue(outdatedCatalogConverter.loadProjectCatalog().stream()
+            .noneMatch(summary -> summary.getName().equals("Journal Project")));
+        assertEquals(1, outdatedCatalogConverter.getLoadErrors().size());
+    }
+
+    @Test
+    void loadAllProjectsData_snapshotOverMappedReadThreshold_projectRestored() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project savedProject = new Project("Large Project");
+        for (int i = 1; i <= 6000; i++) {
+            savedProject.addTask(new Task("Task " + i, i % 10, null, i % 50, TaskState.TODO, new ArrayList<>()));
+        }
+        jsonConverter.saveProject(savedProject);
+        assertTrue(jsonConverter.getSnapshotFile("Large Project").length() >= MAPPED_READ_THRESHOLD_BYTES);
+
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Large Project");
+        assertEquals(6000, loadedProject.getNumOfTasks());
+        assertEquals(savedProject.getTask(6000).getDetails(), loadedProject.getTask(6000).getDetails());
+    }
+
+    @Test
+    void saveProject_existingSnapshot_replacedWithoutTemporaryFile() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project project = new Project("Durable Project");
+        jsonConverter.saveProject(project);
+        project.addTask(new Task("Durable Task", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        jsonConverter.saveProject(project);
+
+        File snapshotFile = jsonConverter.getSnapshotFile("Durable Project");
+        assertTrue(Files.readString(snapshotFile.toPath()).contains("Durable Task"));
+        assertFalse(new File(snapshotFile.getPath() + ".tmp").exists());
+        project.addTask(new Task("Journal Task", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        jsonConverter.saveChanges(project);
+        assertTrue(jsonConverter.syncJournals());
+    }
+
+    @Test
+    void saveProject_unchangedContent_snapshotNotRewritten() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project project = new Project("Unchanged Project");
+        Task task = new Task("Same Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        project.addTask(task);
+        jsonConverter.saveProject(project);
+        Path snapshotPath = jsonConverter.getSnapshotFile("Unchanged Project").toPath();
+        Object savedFileKey = Files.readAttributes(snapshotPath, BasicFileAttributes.class).fileKey();
+
+        task.setTaskName("Same Task");
+        jsonConverter.saveChanges(project);
+        jsonConverter.saveProject(project);
+        assertEquals(savedFileKey, Files.readAttributes(snapshotPath, BasicFileAttributes.class).fileKey());
+        assertFalse(jsonConverter.getJournalFile("Unchanged Project").exists());
+
+        task.setTaskName("Renamed Task");
+        jsonConverter.saveProject(project);
+        assertTrue(Files.readString(snapshotPath).contains("Renamed Task"));
+        assertEquals("Renamed Task", loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Unchanged Project").getTask(1).getTaskName());
+    }
+
+    @Test
+    void loadAllProjectsData_fileNotInManifest_notLoaded() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        jsonConverter.saveProject(new Project("Listed"));
+        Files.writeString(tempDirectory.resolve("Unlisted.json"), "not a project");
+
+        JsonConverter loadingConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        ArrayList<Project> loadedProjects = loadingConverter.loadAllProjectsData();
+        assertEquals("Listed", loadedProjects.get(0).getName());
+        assertTrue(loadingConverter.getLoadErrors().isEmpty());
+        assertTrue(tempDirectory.resolve("Unlisted.json").toFile().exists());
+    }
+
+    @Test
+    void renameProject_savedProject_filesKeptAndNewNameLoaded() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        createProjectWithChanges(jsonConverter);
+        final File snapshotFile = jsonConverter.getSnapshotFile("Journal Project");
+        final String snapshot = Files.readString(snapshotFile.toPath());
+
+        assertTrue(jsonConverter.renameProject("Journal Project", "Renamed Project"));
+        assertFalse(jsonConverter.renameProject("Journal Project", "Other Project"));
+        assertEquals(snapshotFile, jsonConverter.getSnapshotFile("Renamed Project"));
+        assertEquals(snapshot, Files.readString(snapshotFile.toPath()));
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Renamed Project");
+        assertEquals(1, loadedProject.getNumOfTasks());
+        assertEquals("Renamed Task", loadedProject.getTask(1).getTaskName());
+    }
+
+    @Test
+    void loadAllProjectsData_noManifest_manifestRebuiltFromSnapshots() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        createProjectWithChanges(jsonConverter);
+        Files.delete(tempDirectory.resolve("manifest.json"));
+
+        Project loadedProject = loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Journal Project");
+        assertEquals("Renamed Task", loadedProject.getTask(1).getTaskName());
+        assertTrue(tempDirectory.resolve("manifest.json").toFile().exists());
+    }
+
+    @Test
+    void archiveProject_savedProject_compressedAndNotLoaded() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        Project savedProject = createProjectWithChanges(jsonConverter);
+        final File snapshotFile = jsonConverter.getSnapshotFile("Journal Project");
+
+        ProjectSummary projectSummary = jsonConverter.archiveProject(savedProject);
+        assertTrue(projectSummary.isArchived());
+        assertFalse(snapshotFile.exists());
+        assertFalse(jsonConverter.getJournalFile("Journal Project").exists());
+        File[] archiveFiles = tempDirectory.resolve("archive").toFile().listFiles();
+        assertEquals(1, archiveFiles.length);
+        assertFalse(Files.readString(archiveFiles[0].toPath(), StandardCharsets.ISO_8859_1).contains("Renamed Task"));
+
+        JsonConverter loadingConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        assertNull(loadProject(loadingConverter, "Journal Project"));
+        ProjectSummary listedSummary = loadingConverter.loadProjectCatalog().stream()
+            .filter(summary -> summary.getName().equals("Journal Project")).findFirst().orElseThrow();
+        assertTrue(listedSummary.isArchived());
+        assertEquals(1, listedSummary.getNumOfTasks());
+
+        Project unarchivedProject = loadingConverter.unarchiveProject("Journal Project");
+        assertEquals("Renamed Task", unarchivedProject.getTask(1).getTaskName());
+        assertEquals(1, unarchivedProject.getNumOfMembers());
+        assertFalse(loadingConverter.isArchived("Journal Project"));
+        assertEquals(0, tempDirectory.resolve("archive").toFile().listFiles().length);
+        assertEquals("Renamed Task", loadProject(new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE),
+            "Journal Project").getTask(1).getTaskName());
+    }
+
+    @Test
+    void loadAllProjectsData_noManifest_archivedProjectListed() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        jsonConverter.archiveProject(createProjectWithChanges(jsonConverter));
+        jsonConverter.saveProject(new Project("Active Project"));
+        Files.delete(tempDirectory.resolve("manifest.json"));
+
+        JsonConverter rebuildingConverter = new JsonConverter(tempDirectory.toString(), Long.MAX_VALUE);
+        assertNull(loadProject(rebuildingConverter, "Journal Project"));
+        assertEquals(0, loadProject(rebuildingConverter, "Active Project").getNumOfTasks());
+        assertTrue(rebuildingConverter.isArchived("Journal Project"));
+        assertEquals(1, rebuildingConverter.unarchiveProject("Journal Project").getNumOfTasks());
+    }
+
+    @Test
+    void replicateTo_changesSaved_replicaMatchesAndLoads() throws IOException {
+        String dataDirectory = tempDirectory.resolve("data").toString();
+        String replicaDirectory = tempDirectory.resolve("replica").toString();
+        JsonConverter jsonConverter = new JsonConverter(dataDirectory, Long.MAX_VALUE);
+        Project savedProject = createProjectWithChanges(jsonConverter);
+        Project archivedProject = new Project("Archived Project");
+        jsonConverter.saveProject(archivedProject);
+
+        jsonConverter.replicateTo(replicaDirectory);
+        savedProject.addTask(new Task("Shipped Task", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        jsonConverter.saveChanges(savedProject);
+        jsonConverter.archiveProject(archivedProject);
+        jsonConverter.saveProject(new Project("New Project"));
+        jsonConverter.renameProject("New Project", "Renamed Project");
+
+        ArrayList<String> verifyResults = jsonConverter.verifyReplica();
+        assertTrue(verifyResults.contains("Every saved file matches the replica."));
+        assertTrue(verifyResults.get(verifyResults.size() - 1).startsWith("Loaded 2 projects from the replica"));
+        JsonConverter replicaConverter = new JsonConverter(replicaDirectory, Long.MAX_VALUE);
+        assertEquals("Shipped Task", loadProject(replicaConverter, "Journal Project").getTask(2).getTaskName());
+        assertEquals(0, loadProject(replicaConverter, "Renamed Project").getNumOfTasks());
+        assertTrue(replicaConverter.isArchived("Archived Project"));
+        assertTrue(replicaConverter.getLoadErrors().isEmpty());
+    }
+
+    @Test
+    void replicateTo_journalTailDoesNotFollowReplica_wholeJournalCopied() throws IOException {
+        Path dataDirectory = tempDirectory.resolve("data");
+        Path replicaDirectory = tempDirectory.resolve("replica");
+        JsonConverter jsonConverter = new JsonConverter(dataDirectory.toString(), Long.MAX_VALUE);
+        jsonConverter.replicateTo(replicaDirectory.toString());
+        Project savedProject = createProjectWithChanges(jsonConverter);
+        assertTrue(jsonConverter.awaitReplica(10000));
+        Path replicaJournal = replicaDirectory.resolve(jsonConverter.getJournalFile("Journal Project").getName());
+        Files.write(replicaJournal, new byte[0]);
+
+        savedProject.addTask(new Task("Shipped Task", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        jsonConverter.saveChanges(savedProject);
+
+        assertTrue(jsonConverter.verifyReplica().contains("Every saved file matches the replica."));
+        assertArrayEquals(Files.readAllBytes(jsonConverter.getJournalFile("Journal Project").toPath()),
+            Files.readAllBytes(replicaJournal));
+    }
+
+    @Test
+    void replicateTo_staleReplicaFiles_deletedOnResynchronize() throws IOException {
+        Path dataDirectory = tempDirectory.resolve("data");
+        Path replicaDirectory = tempDirectory.resolve("replica");
+        Files.createDirectories(replicaDirectory);
+        Files.writeString(replicaDirectory.resolve("stale.json"), "{}");
+        Files.writeString(replicaDirectory.resolve("stale.journal"), "");
+        JsonConverter jsonConverter = new JsonConverter(dataDirectory.toString(), Long.MAX_VALUE);
+
+        jsonConverter.replicateTo(replicaDirectory.toString());
+        jsonConverter.saveProject(new Project("Active Project"));
+
+        assertTrue(jsonConverter.verifyReplica().contains("Every saved file matches the replica."));
+        assertFalse(Files.exists(replicaDirectory.resolve("stale.json")));
+        assertFalse(Files.exists(replicaDirectory.resolve("stale.journal")));
+    }
+
+    @Test
+    void verifyReplica_replicaChangedAfterShipping_mismatchesReported() throws IOException {
+        Path dataDirectory = tempDirectory.resolve("data");
+        Path replicaDirectory = tempDirectory.resolve("replica");
+        JsonConverter jsonConverter = new JsonConverter(dataDirectory.toString(), Long.MAX_VALUE);
+        jsonConverter.replicateTo(replicaDirectory.toString());
+        createProjectWithChanges(jsonConverter);
+        assertTrue(jsonConverter.awaitReplica(10000));
+        String snapshotName = jsonConverter.getSnapshotFile("Journal Project").getName();
+        String journalName = jsonConverter.getJournalFile("Journal Project").getName();
+        Files.writeString(replicaDirectory.resolve(snapshotName), "{}", StandardOpenOption.APPEND);
+        Files.delete(replicaDirectory.resolve(journalName));
+
+        ArrayList<String> verifyResults = jsonConverter.verifyReplica();
+        assertFalse(verifyResults.contains("Every saved file matches the replica."));
+        assertTrue(verifyResults.contains(snapshotName + " differs from the data directory."));
+        assertTrue(verifyResults.contains(journalName + " is missing from the replica."));
+    }
+}
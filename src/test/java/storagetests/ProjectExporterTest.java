@@ -0,0 +1,108 @@
+package storagetests;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.ImportSummary;
+import storage.ProjectExporter;
+import storage.ProjectImporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectExporterTest {
+    @TempDir
+    Path tempDirectory;
+
+    private Project createProject() {
+        Project project = new Project("Export Project");
+        Date dueDate = Date.from(LocalDate.of(2019, 11, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        ArrayList<String> taskRequirements = new ArrayList<>(Arrays.asList("Charts", "Say \"hi\""));
+        Task firstTask = new Task("Slides, final", 3, dueDate, 20, TaskState.DOING, taskRequirements);
+        Task secondTask = new Task("Poster", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        Member member = new Member("Dillen", "9999", "dillen@gmail.com", 1, "Leader");
+        project.addTask(firstTask);
+        project.addTask(secondTask);
+        project.addMember(member);
+        project.addMember(new Member("Jerry", "--", "--", 2, "member"));
+        project.createAssignment(firstTask, member);
+        Reminder reminder = new Reminder("Submit report", "by noon\nsharp", dueDate, "SCHOOL");
+        reminder.setIsDone(true);
+        project.addReminderToList(reminder);
+        return project;
+    }
+
+    private void assertRoundTrip(String fileName) throws IOException {
+        String filePath = tempDirectory.resolve(fileName).toString();
+        assertEquals(6, new ProjectExporter(createProject()).exportFile(filePath));
+
+        Project importedProject = new Project("Imported Project");
+        ImportSummary importSummary = new ProjectImporter(importedProject).importFile(filePath);
+        assertEquals(0, importSummary.getNumOfRowErrors());
+        Project project = createProject();
+        assertEquals(2, importedProject.getNumOfTasks());
+        for (int i = 1; i <= project.getNumOfTasks(); i++) {
+            assertEquals(project.getTask(i).getDetails(), importedProject.getTask(i).getDetails());
+            assertEquals(project.getTask(i).getRawTaskRequirements(),
+                importedProject.getTask(i).getRawTaskRequirements());
+        }
+        for (int i = 1; i <= project.getNumOfMembers(); i++) {
+            assertEquals(project.getMember(i).getDetails(), importedProject.getMember(i).getDetails());
+            assertEquals(project.getMember(i).getRole(), importedProject.getMember(i).getRole());
+        }
+        assertTrue(importedProject.containsAssignment(importedProject.getTask(1), importedProject.getMember(1)));
+        assertEquals(1, importSummary.getNumOfAssignmentsImported());
+        Reminder reminder = importedProject.getReminder(1);
+        assertEquals("by noon\nsharp", reminder.getReminderRemarks());
+        assertEquals(project.getReminder(1).getReminderDate(), reminder.getReminderDate());
+        assertEquals("SCHOOL", reminder.getCategory());
+        assertTrue(reminder.getIsDone());
+    }
+
+    @Test
+    void exportFile_csv_importedBack() throws IOException {
+        assertRoundTrip("export.csv");
+        List<String> lines = Files.readAllLines(tempDirectory.resolve("export.csv"), StandardCharsets.UTF_8);
+        assertEquals("type,name,priority,credit,due,state,requirements,phone,email,role,task,member,remarks,"
+            + "category,done", lines.get(0));
+        assertEquals("task,\"Slides, final\",3,20,01/11/2019,doing,\"Charts;Say \"\"hi\"\"\",,,,,,,,", lines.get(1));
+    }
+
+    @Test
+    void exportFile_ndjson_importedBack() throws IOException {
+        assertRoundTrip("export.ndjson");
+        List<String> lines = Files.readAllLines(tempDirectory.resolve("export.ndjson"), StandardCharsets.UTF_8);
+        assertEquals(6, lines.size());
+        assertEquals("{\"type\":\"assignment\",\"task\":\"Slides, final\",\"member\":\"Dillen\"}", lines.get(4));
+    }
+
+    @Test
+    void exportFile_csvRequirementsWithSeparator_importedBack() throws IOException {
+        Project project = new Project("Export Project");
+        ArrayList<String> taskRequirements = new ArrayList<>(Arrays.asList("Intro; part 1", "C:\\temp\\", "Outro"));
+        project.addTask(new Task("Report", 1, null, 10, TaskState.OPEN, taskRequirements));
+        String filePath = tempDirectory.resolve("export.csv").toString();
+        new ProjectExporter(project).exportFile(filePath);
+
+        List<String> lines = Files.readAllLines(tempDirectory.resolve("export.csv"), StandardCharsets.UTF_8);
+        assertEquals("task,Report,1,10,,open,Intro\\; part 1;C:\\\\temp\\\\;Outro,,,,,,,,", lines.get(1));
+        Project importedProject = new Project("Imported Project");
+        assertEquals(0, new ProjectImporter(importedProject).importFile(filePath).getNumOfRowErrors());
+        assertEquals(taskRequirements, importedProject.getTask(1).getRawTaskRequirements());
+    }
+}
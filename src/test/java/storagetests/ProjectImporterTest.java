@@ -0,0 +1,147 @@
+package storagetests;
+
+import models.member.Member;
+import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.ImportSummary;
+import storage.ProjectImporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectImporterTest {
+    @TempDir
+    Path tempDirectory;
+
+    private String writeFile(String fileName, String... lines) throws IOException {
+        Path file = tempDirectory.resolve(fileName);
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    @Test
+    void importFile_csv_rowsAddedToProject() throws IOException {
+        Project project = new Project("Import Project");
+        project.addMember(new Member("Dillen", "--", "--", 1, "member"));
+        String filePath = writeFile("tasks.csv",
+            "type,name,priority,credit,due,state,requirements,phone,email,role,task,member",
+            "task,\"Write report, part 1\",2,30,01/12/2019,doing,\"Intro;\"\"Method\"\"\",,,,,",
+            "task,Review,3,10,,,,,,,,",
+            "",
+            "member,Jerry,,,,,,91234567,jerry@gmail.com,Leader,,",
+            "assignment,,,,,,,,,,\"Write report, part 1\",Jerry",
+            "assignment,,,,,,,,,,Review,Dillen");
+        ImportSummary importSummary = new ProjectImporter(project).importFile(filePath);
+
+        assertEquals(2, importSummary.getNumOfTasksImported());
+        assertEquals(1, importSummary.getNumOfMembersImported());
+        assertEquals(2, importSummary.getNumOfAssignmentsImported());
+        assertEquals(0, importSummary.getNumOfRowErrors());
+        Task report = project.getTask(1);
+        assertEquals("Write report, part 1", report.getTaskName());
+        assertEquals(TaskState.DOING, report.getTaskState());
+        assertEquals(Arrays.asList("Intro", "\"Method\""), report.getRawTaskRequirements());
+        assertNull(project.getTask(2).getDueDate());
+        Member jerry = project.getMember(2);
+        assertEquals("Leader", jerry.getRole());
+        assertEquals(2, jerry.getIndexNumber());
+        assertTrue(project.containsAssignment(report, jerry));
+        assertTrue(project.containsAssignment(project.getTask(2), project.getMember(1)));
+    }
+
+    @Test
+    void importFile_ndjson_rowErrorsReported() throws IOException {
+        Project project = new Project("Import Project");
+        String filePath = writeFile("tasks.ndjson",
+            "{\"type\":\"task\",\"name\":\"Slides\",\"priority\":1,\"credit\":50,\"requirements\":[\"Charts\"]}",
+            "{\"type\":\"task\",\"name\":\"Slides\",\"priority\":1,\"credit\":50}",
+            "{\"type\":\"task\",\"name\":\"Poster\",\"priority\":9,\"credit\":50}",
+            "{\"type\":\"task\",\"name\":\"Video\",\"priority\":2,\"credit\":50,\"state\":\"later\"}",
+            "{\"type\":\"member\",\"name\":\"Sean\",\"phone\":\"not a phone\"}",
+            "{\"type\":\"member\",\"name\":\"Sinteary\"}",
+            "not json",
+            "{\"type\":\"assignment\",\"task\":\"Slides\",\"member\":\"Sinteary\"}",
+            "{\"type\":\"assignment\",\"task\":\"Slides\",\"member\":\"Sinteary\"}",
+            "{\"type\":\"assignment\",\"task\":\"Poster\",\"member\":\"Sinteary\"}",
+            "{\"type\":\"note\",\"name\":\"Lunch\"}");
+        ImportSummary importSummary = new ProjectImporter(project).importFile(filePath);
+
+        assertEquals(1, importSummary.getNumOfTasksImported());
+        assertEquals(1, importSummary.getNumOfMembersImported());
+        assertEquals(1, importSummary.getNumOfAssignmentsImported());
+        assertEquals(8, importSummary.getNumOfRowErrors());
+        assertEquals("Line 2: A task named Slides already exists", importSummary.getRowErrors().get(0));
+        assertTrue(importSummary.getRowErrors().get(1).startsWith("Line 3: The priority of Poster"));
+        assertTrue(importSummary.getRowErrors().get(2).startsWith("Line 4: The state of Video"));
+        assertEquals("Line 7: The line is not valid JSON", importSummary.getRowErrors().get(4));
+        assertEquals(1, project.getNumOfTasks());
+        assertEquals(Arrays.asList("Charts"), project.getTask(1).getRawTaskRequirements());
+    }
+
+    @Test
+    void importFile_ndjsonRequirementNotString_rowRejected() throws IOException {
+        Project project = new Project("Import Project");
+        String filePath = writeFile("tasks.ndjson",
+            "{\"type\":\"task\",\"name\":\"Slides\",\"priority\":1,\"credit\":50,\"requirements\":[{}]}",
+            "{\"type\":\"task\",\"name\":\"Poster\",\"priority\":1,\"credit\":50,\"requirements\":[\"A3\"]}");
+        ImportSummary importSummary = new ProjectImporter(project).importFile(filePath);
+
+        assertEquals(1, importSummary.getNumOfTasksImported());
+        assertEquals(1, importSummary.getNumOfRowErrors());
+        assertEquals("Line 1: Every requirement must be a string, number or boolean",
+            importSummary.getRowErrors().get(0));
+        assertEquals("Poster", project.getTask(1).getTaskName());
+    }
+
+    @Test
+    void importFile_manyRows_importedAcrossBatches() throws IOException {
+        Project project = new Project("Import Project");
+        int numOfTasks = 2500;
+        String[] lines = new String[numOfTasks + 2];
+        lines[0] = "type,name,priority,credit,task,member";
+        lines[1] = "member,Dillen,,,,";
+        for (int i = 0; i < numOfTasks; i++) {
+            lines[i + 2] = (i % 2 == 0) ? "task,Task " + i + ",1,5,," : "assignment,,,,Task " + (i - 1) + ",Dillen";
+        }
+        ImportSummary importSummary = new ProjectImporter(project).importFile(writeFile("many.csv", lines));
+
+        assertEquals(numOfTasks / 2, importSummary.getNumOfTasksImported());
+        assertEquals(numOfTasks / 2, importSummary.getNumOfAssignmentsImported());
+        assertEquals(0, importSummary.getNumOfRowErrors());
+        assertEquals(numOfTasks / 2, project.getMembersIndividualTaskList().get(project.getMember(1).getMemberID())
+            .size());
+    }
+
+    @Test
+    void importFile_unterminatedQuote_rowsBeforeKept() throws IOException {
+        Project project = new Project("Import Project");
+        String filePath = writeFile("broken.csv",
+            "type,name,priority,credit",
+            "task,Kept,1,1",
+            "task,\"Lost,1,1");
+        ImportSummary importSummary = new ProjectImporter(project).importFile(filePath);
+
+        assertEquals(1, importSummary.getNumOfTasksImported());
+        assertEquals(1, importSummary.getNumOfRowErrors());
+        assertTrue(importSummary.getRowErrors().get(0).startsWith("Line 3: Import stopped"));
+    }
+
+    @Test
+    void importFile_missingFile_exceptionThrown() {
+        assertFalse(ProjectImporter.isSupportedFile("tasks.xlsx"));
+        assertThrows(IOException.class, () -> new ProjectImporter(new Project("Import Project"))
+            .importFile(tempDirectory.resolve("missing.csv").toString()));
+    }
+}
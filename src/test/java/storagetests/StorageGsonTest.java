@@ -0,0 +1,88 @@
+package storagetests;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Test;
+import storage.ProjectSnapshot;
+import storage.StorageGson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageGsonTest {
+    private Project createProject() {
+        Project project = new Project("Adapter Project");
+        ArrayList<String> taskRequirements = new ArrayList<>();
+        taskRequirements.add("Write tests");
+        Task task = new Task("Adapter Task", 3, new Date(1572566400000L), 20, TaskState.DOING, taskRequirements);
+        Member member = new Member("Dillen", "9999", "dillen@gmail.com", 1, "Leader");
+        project.addTask(task);
+        project.addMember(member);
+        project.createAssignment(task, member);
+        Reminder reminder = new Reminder("Submit report", "by noon", new Date(1572652800000L), "school");
+        reminder.setIsDone(true);
+        project.addReminderToList(reminder);
+        return project;
+    }
+
+    @Test
+    void toJson_projectWithDates_writesEpochMillisWithoutHelpers() {
+        String projectJson = StorageGson.getGson().toJson(createProject());
+        assertTrue(projectJson.contains("\\\"dueDate\\\":1572566400000"));
+        assertTrue(projectJson.contains("\"schemaVersion\":4"));
+        assertFalse(projectJson.contains("dateTimeHelper"));
+        assertFalse(projectJson.contains("parserHelper"));
+    }
+
+    @Test
+    void fromJson_savedProject_projectRestoredWithSharedIDs() {
+        Project savedProject = createProject();
+        Gson gson = StorageGson.getGson();
+        Project loadedProject = gson.fromJson(gson.toJson(savedProject), Project.class);
+
+        Task loadedTask = loadedProject.getTask(1);
+        assertEquals(savedProject.getTask(1).getTaskID(), loadedTask.getTaskID());
+        assertEquals(savedProject.getTask(1).getDueDate(), loadedTask.getDueDate());
+        assertEquals(TaskState.DOING, loadedTask.getTaskState());
+        assertEquals("Leader", loadedProject.getMember(1).getRole());
+        assertEquals(true, loadedProject.getReminder(1).getIsDone());
+        assertEquals(savedProject.getReminder(1).getReminderDate(), loadedProject.getReminder(1).getReminderDate());
+        assertEquals(savedProject.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+        String assignedMemberID = loadedProject.getTasksAndAssignedMembers().get(loadedTask.getTaskID()).get(0);
+        assertSame(loadedProject.getMember(1).getMemberID(), assignedMemberID);
+        assertTrue(loadedProject.getProjectChanges().isEmpty());
+    }
+
+    @Test
+    void readSnapshot_recordsAsObjects_readAsOlderSchema() throws IOException {
+        Member member = new Member("Dillen", "9999", "dillen@gmail.com", 1, "Leader");
+        String memberJson = StorageGson.getGson().toJson(member);
+        CRC32C checksum = new CRC32C();
+        checksum.update(memberJson.getBytes(StandardCharsets.UTF_8));
+        String checkedMemberJson = memberJson.substring(0, memberJson.length() - 1) + ",\"checksum\":"
+            + checksum.getValue() + "}";
+        String projectJson = "{\"schemaVersion\":3,\"name\":\"Old Project\",\"members\":[" + checkedMemberJson + ","
+            + memberJson.replace("Dillen", "Jerry") + "],\"tasks\":[],\"reminders\":[]}";
+
+        ProjectSnapshot projectSnapshot = StorageGson.getProjectTypeAdapter()
+            .readSnapshot(new JsonReader(new StringReader(projectJson)));
+        assertTrue(projectSnapshot.isLegacyLayout());
+        assertTrue(projectSnapshot.getDamagedRecords().isEmpty());
+        assertEquals("Dillen", projectSnapshot.getProject().getMember(1).getName());
+        assertEquals("Jerry", projectSnapshot.getProject().getMember(2).getName());
+    }
+}